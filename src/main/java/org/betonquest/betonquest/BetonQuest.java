@@ -46,6 +46,7 @@ import org.betonquest.betonquest.conversation.ConversationResumer;
 import org.betonquest.betonquest.conversation.Interceptor;
 import org.betonquest.betonquest.conversation.InventoryConvIO;
 import org.betonquest.betonquest.conversation.NonInterceptingInterceptor;
+import org.betonquest.betonquest.conversation.OptionConditionResolver;
 import org.betonquest.betonquest.conversation.SimpleConvIO;
 import org.betonquest.betonquest.conversation.SimpleInterceptor;
 import org.betonquest.betonquest.conversation.SlowTellrawConvIO;
@@ -54,14 +55,19 @@ import org.betonquest.betonquest.database.AsyncSaver;
 import org.betonquest.betonquest.database.Backup;
 import org.betonquest.betonquest.database.Database;
 import org.betonquest.betonquest.database.GlobalData;
+import org.betonquest.betonquest.database.MultiWriterSaver;
 import org.betonquest.betonquest.database.MySQL;
+import org.betonquest.betonquest.database.ObjectiveProgressSaver;
 import org.betonquest.betonquest.database.PlayerData;
+import org.betonquest.betonquest.database.PlayerDataCache;
+import org.betonquest.betonquest.database.PlayerDataLoader;
 import org.betonquest.betonquest.database.SQLite;
 import org.betonquest.betonquest.database.Saver;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
 import org.betonquest.betonquest.id.ConditionID;
 import org.betonquest.betonquest.id.ConversationID;
 import org.betonquest.betonquest.id.EventID;
+import org.betonquest.betonquest.id.IDTable;
 import org.betonquest.betonquest.id.ObjectiveID;
 import org.betonquest.betonquest.id.QuestCancelerID;
 import org.betonquest.betonquest.item.QuestItemHandler;
@@ -69,6 +75,7 @@ import org.betonquest.betonquest.menu.RPGMenu;
 import org.betonquest.betonquest.modules.config.DefaultConfigAccessorFactory;
 import org.betonquest.betonquest.modules.config.DefaultConfigurationFileFactory;
 import org.betonquest.betonquest.modules.config.patcher.migration.Migrator;
+import org.betonquest.betonquest.modules.logger.DebugState;
 import org.betonquest.betonquest.modules.logger.DefaultBetonQuestLoggerFactory;
 import org.betonquest.betonquest.modules.logger.HandlerFactory;
 import org.betonquest.betonquest.modules.logger.PlayerLogWatcher;
@@ -107,10 +114,15 @@ import org.betonquest.betonquest.notify.SubTitleNotifyIO;
 import org.betonquest.betonquest.notify.SuppressNotifyIO;
 import org.betonquest.betonquest.notify.TitleNotifyIO;
 import org.betonquest.betonquest.notify.TotemNotifyIO;
+import org.betonquest.betonquest.objectives.LocationObjectiveDispatcher;
+import org.betonquest.betonquest.objectives.ObjectiveEventDispatcher;
 import org.betonquest.betonquest.quest.legacy.LegacyTypeFactory;
 import org.betonquest.betonquest.quest.registry.CoreQuestTypes;
+import org.betonquest.betonquest.quest.registry.PackageLoader;
 import org.betonquest.betonquest.quest.registry.QuestRegistry;
 import org.betonquest.betonquest.quest.registry.QuestTypeRegistries;
+import org.betonquest.betonquest.quest.registry.processor.JournalProcessor;
+import org.betonquest.betonquest.quest.registry.processor.ObjectiveProcessor;
 import org.betonquest.betonquest.quest.registry.processor.VariableProcessor;
 import org.betonquest.betonquest.quest.registry.type.QuestTypeRegistry;
 import org.betonquest.betonquest.utils.PlayerConverter;
@@ -131,13 +143,19 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
 import java.time.InstantSource;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Handler;
 
 /**
@@ -208,7 +226,42 @@ public class BetonQuest extends JavaPlugin {
     private boolean isMySQLUsed;
 
     @SuppressWarnings("PMD.DoNotUseThreads")
-    private AsyncSaver saver;
+    private Saver saver;
+
+    /**
+     * Loads the data of profiles with bounded concurrency.
+     */
+    private PlayerDataLoader playerDataLoader;
+
+    /**
+     * Caches the data of offline profiles.
+     */
+    private PlayerDataCache playerDataCache;
+
+    /**
+     * Collects changed objective data and writes it in intervals.
+     */
+    private ObjectiveProgressSaver objectiveProgressSaver;
+
+    /**
+     * Checks the location of players for all location objectives.
+     */
+    private LocationObjectiveDispatcher locationObjectiveDispatcher;
+
+    /**
+     * Passes the events of the most common objectives to the objectives that can match them.
+     */
+    private ObjectiveEventDispatcher objectiveEventDispatcher;
+
+    /**
+     * Checks the conditions of conversation options.
+     */
+    private OptionConditionResolver optionConditionResolver;
+
+    /**
+     * Loads the quest packages in parallel.
+     */
+    private PackageLoader packageLoader;
 
     private Updater updater;
 
@@ -259,6 +312,18 @@ public class BetonQuest extends JavaPlugin {
         return instance.questRegistry.conditions().checks(profile, conditionIDs);
     }
 
+    /**
+     * Checks if the conditions described by conditionID are met for each of the profiles.
+     * The conditions requiring the primary server thread are checked for all profiles at once.
+     *
+     * @param profiles     the {@link Profile}s of the players which should be checked
+     * @param conditionIDs IDs of the conditions to check
+     * @return if all conditions are met, in the order of the profiles
+     */
+    public static boolean[] conditionsForAll(final List<? extends Profile> profiles, final ConditionID... conditionIDs) {
+        return instance.questRegistry.conditions().checksForAll(profiles, conditionIDs);
+    }
+
     /**
      * Checks if the condition described by conditionID is met.
      *
@@ -411,7 +476,8 @@ public class BetonQuest extends JavaPlugin {
     public void onEnable() {
         instance = this;
 
-        this.loggerFactory = registerAndGetService(BetonQuestLoggerFactory.class, new CachingBetonQuestLoggerFactory(new DefaultBetonQuestLoggerFactory()));
+        final DebugState debugState = new DebugState();
+        this.loggerFactory = registerAndGetService(BetonQuestLoggerFactory.class, new CachingBetonQuestLoggerFactory(new DefaultBetonQuestLoggerFactory(debugState)));
         this.configAccessorFactory = registerAndGetService(ConfigAccessorFactory.class, new DefaultConfigAccessorFactory());
         this.configurationFileFactory = registerAndGetService(ConfigurationFileFactory.class, new DefaultConfigurationFileFactory(loggerFactory, loggerFactory.create(DefaultConfigurationFileFactory.class), configAccessorFactory));
 
@@ -439,7 +505,7 @@ public class BetonQuest extends JavaPlugin {
             return;
         }
 
-        final HistoryHandler debugHistoryHandler = HandlerFactory.createHistoryHandler(this, this.getServer().getScheduler(), config, new File(getDataFolder(), "/logs"), InstantSource.system());
+        final HistoryHandler debugHistoryHandler = HandlerFactory.createHistoryHandler(this, this.getServer().getScheduler(), config, new File(getDataFolder(), "/logs"), InstantSource.system(), debugState);
         registerLogHandler(getServer(), debugHistoryHandler);
         adventure = BukkitAudiences.create(this);
         final AccumulatingReceiverSelector receiverSelector = new AccumulatingReceiverSelector();
@@ -450,6 +516,7 @@ public class BetonQuest extends JavaPlugin {
         log.debug("BetonQuest " + version + " is starting...");
         log.debug(jreInfo);
 
+        packageLoader = new PackageLoader(Math.max(1, config.getInt("package_loader_threads", 4)));
         Config.setup(this, config);
         Notify.load(config);
 
@@ -461,9 +528,12 @@ public class BetonQuest extends JavaPlugin {
                     config.getString("mysql.base"),
                     config.getString("mysql.user"),
                     config.getString("mysql.pass"));
-            if (database.getConnection() != null) {
-                isMySQLUsed = true;
+            try (Connection connection = database.getConnection()) {
+                isMySQLUsed = !connection.isClosed();
                 log.info("Successfully connected to MySQL database!");
+            } catch (final SQLException | IllegalStateException e) {
+                log.debug("Could not connect to the MySQL database", e);
+                database.closeConnection();
             }
         }
         if (!mySQLEnabled || !isMySQLUsed) {
@@ -477,15 +547,38 @@ public class BetonQuest extends JavaPlugin {
 
         database.createTables();
 
-        saver = new AsyncSaver(loggerFactory.create(AsyncSaver.class, "Database"));
-        saver.start();
+        final int writers = Math.min(database.getMaxWriters(), Math.max(1, config.getInt("mysql.saver.writers", 1)));
+        if (writers > 1) {
+            final MultiWriterSaver multiWriterSaver = new MultiWriterSaver(loggerFactory, loggerFactory.create(MultiWriterSaver.class, "Database"), writers);
+            multiWriterSaver.start();
+            saver = multiWriterSaver;
+        } else {
+            final AsyncSaver asyncSaver = new AsyncSaver(loggerFactory.create(AsyncSaver.class, "Database"));
+            asyncSaver.start();
+            saver = asyncSaver;
+        }
+        playerDataCache = new PlayerDataCache(loggerFactory.create(PlayerDataCache.class, "Database"), saver, PlayerData::new,
+                Math.max(0, config.getLong("mysql.offline_cache.size", 1000)),
+                Duration.ofSeconds(Math.max(1, config.getLong("mysql.offline_cache.expire", 300))));
+        saver = playerDataCache;
         Backup.loadDatabaseFromBackup(configAccessorFactory);
+        playerDataLoader = new PlayerDataLoader(loggerFactory.create(PlayerDataLoader.class, "Database"), getServer(),
+                playerDataCache::promote, Math.max(1, config.getInt("mysql.loader_threads", 4)));
 
         globalData = new GlobalData(loggerFactory.create(GlobalData.class), saver);
+        objectiveProgressSaver = new ObjectiveProgressSaver(loggerFactory.create(ObjectiveProgressSaver.class, "Database"),
+                saver, getServer().getPluginManager()::callEvent, this::updateLoadedJournal);
+        final long objectiveFlushTicks = Math.max(1, config.getLong("mysql.saver.objective_flush_interval", 5000) / 50);
+        getServer().getScheduler().runTaskTimer(this, objectiveProgressSaver::flushAll, objectiveFlushTicks, objectiveFlushTicks);
+        getServer().getScheduler().runTaskTimer(this, objectiveProgressSaver::tick, 1, 1);
 
         final PluginManager pluginManager = Bukkit.getPluginManager();
         pluginManager.registerEvents(new JoinQuitListener(loggerFactory, this), this);
         pluginManager.registerEvents(new QuestItemHandler(this), this);
+        locationObjectiveDispatcher = new LocationObjectiveDispatcher();
+        pluginManager.registerEvents(locationObjectiveDispatcher, this);
+        objectiveEventDispatcher = new ObjectiveEventDispatcher();
+        pluginManager.registerEvents(objectiveEventDispatcher, this);
 
         final ConfigAccessor cache;
         try {
@@ -504,6 +597,9 @@ public class BetonQuest extends JavaPlugin {
         new GlobalObjectives();
 
         pluginManager.registerEvents(new CombatTagger(config.getInt("combat_delay")), this);
+        optionConditionResolver = new OptionConditionResolver(loggerFactory.create(OptionConditionResolver.class),
+                BetonQuest::condition, Math.max(1, config.getInt("conversation_option_threads", 4)),
+                Math.max(1, config.getLong("conversation_option_timeout", 1000)));
 
         ConversationColors.loadColors();
 
@@ -511,7 +607,7 @@ public class BetonQuest extends JavaPlugin {
 
         pluginManager.registerEvents(new CustomDropListener(loggerFactory.create(CustomDropListener.class)), this);
 
-        final QuestCommand questCommand = new QuestCommand(loggerFactory, loggerFactory.create(QuestCommand.class), configAccessorFactory, adventure, new PlayerLogWatcher(receiverSelector), debugHistoryHandler);
+        final QuestCommand questCommand = new QuestCommand(loggerFactory, loggerFactory.create(QuestCommand.class), configAccessorFactory, adventure, new PlayerLogWatcher(receiverSelector, debugState), debugHistoryHandler);
         getCommand("betonquest").setExecutor(questCommand);
         getCommand("betonquest").setTabCompleter(questCommand);
         getCommand("journal").setExecutor(new JournalCommand(this));
@@ -525,7 +621,8 @@ public class BetonQuest extends JavaPlugin {
         questTypeRegistries = new QuestTypeRegistries(loggerFactory);
 
         questRegistry = new QuestRegistry(loggerFactory.create(QuestRegistry.class), loggerFactory, this,
-                SCHEDULE_TYPES, questTypeRegistries, OBJECTIVE_TYPES);
+                SCHEDULE_TYPES, questTypeRegistries, OBJECTIVE_TYPES, packageLoader);
+        getServer().getScheduler().runTaskTimer(this, questRegistry.variables()::clearTickCache, 1, 1);
 
         new CoreQuestTypes(loggerFactory, getServer(), getServer().getScheduler(), this).register(questTypeRegistries);
 
@@ -558,8 +655,13 @@ public class BetonQuest extends JavaPlugin {
         Bukkit.getScheduler().scheduleSyncDelayedTask(this, () -> {
             Compatibility.postHook();
             loadData();
+            final Map<OnlineProfile, CompletableFuture<PlayerData>> loads = new LinkedHashMap<>();
             for (final OnlineProfile onlineProfile : PlayerConverter.getOnlineProfiles()) {
-                final PlayerData playerData = new PlayerData(onlineProfile);
+                loads.put(onlineProfile, playerDataLoader.load(onlineProfile));
+            }
+            for (final Map.Entry<OnlineProfile, CompletableFuture<PlayerData>> load : loads.entrySet()) {
+                final OnlineProfile onlineProfile = load.getKey();
+                final PlayerData playerData = load.getValue().join();
                 playerDataMap.put(onlineProfile, playerData);
                 playerData.startObjectives();
                 playerData.getJournal().update();
@@ -650,10 +752,55 @@ public class BetonQuest extends JavaPlugin {
         Bukkit.getPluginManager().callEvent(new LoadDataEvent());
     }
 
+    /**
+     * Loads only the packages that changed since the last load and starts their objectives again.
+     * Logs which packages were reloaded and how long each stage took.
+     *
+     * @param start the time the reload started at, in nanoseconds
+     */
+    private void loadChangedData(final long start) {
+        final long configLoaded = System.nanoTime();
+        final QuestRegistry.PackageChanges changes = questRegistry.loadChangedData(Config.getPackages().values());
+        final long packagesLoaded = System.nanoTime();
+
+        // start the objectives closed by the reload for all players
+        for (final PlayerData playerData : playerDataMap.values()) {
+            playerData.startObjectives();
+        }
+        final long objectivesStarted = System.nanoTime();
+
+        rpgMenu.reloadData();
+        Bukkit.getPluginManager().callEvent(new LoadDataEvent());
+        updateOnlineProfiles();
+        final long end = System.nanoTime();
+
+        log.info("Reloaded " + changes.reloaded().size() + " of " + Config.getPackages().size() + " packages"
+                + (changes.reloaded().isEmpty() ? "" : " " + changes.reloaded())
+                + (changes.removed().isEmpty() ? "" : ", removed " + changes.removed())
+                + " in " + toMillis(end - start) + "ms (config " + toMillis(configLoaded - start)
+                + "ms, packages " + toMillis(packagesLoaded - configLoaded)
+                + "ms, objectives " + toMillis(objectivesStarted - packagesLoaded)
+                + "ms, menus and journals " + toMillis(end - objectivesStarted) + "ms)");
+    }
+
+    private long toMillis(final long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private void updateOnlineProfiles() {
+        for (final OnlineProfile onlineProfile : PlayerConverter.getOnlineProfiles()) {
+            log.debug("Updating journal for player " + onlineProfile);
+            final PlayerData playerData = getPlayerData(onlineProfile);
+            GlobalObjectives.startAll(onlineProfile);
+            playerData.getJournal().update();
+        }
+    }
+
     /**
      * Reloads the plugin.
      */
     public void reload() {
+        final long start = System.nanoTime();
         // reload the configuration
         log.debug("Reloading configuration");
         try {
@@ -667,20 +814,21 @@ public class BetonQuest extends JavaPlugin {
 
         // reload updater settings
         getUpdater().search();
-        // stop current global locations listener
-        // and start new one with reloaded configs
-        log.debug("Restarting global locations");
-        new GlobalObjectives();
         ConversationColors.loadColors();
         Compatibility.reload();
-        // load all events, conditions, objectives, conversations etc.
-        loadData();
-        // start objectives and update journals for every online profiles
-        for (final OnlineProfile onlineProfile : PlayerConverter.getOnlineProfiles()) {
-            log.debug("Updating journal for player " + onlineProfile);
-            final PlayerData playerData = getPlayerData(onlineProfile);
-            GlobalObjectives.startAll(onlineProfile);
-            playerData.getJournal().update();
+        optionConditionResolver.clearLatencies();
+        if (config.getBoolean("incremental_reload", false)) {
+            // global objectives of unchanged packages are kept
+            loadChangedData(start);
+        } else {
+            // stop current global locations listener
+            // and start new one with reloaded configs
+            log.debug("Restarting global locations");
+            new GlobalObjectives();
+            // load all events, conditions, objectives, conversations etc.
+            loadData();
+            // start objectives and update journals for every online profiles
+            updateOnlineProfiles();
         }
         if (playerHider != null) {
             playerHider.stop();
@@ -697,6 +845,7 @@ public class BetonQuest extends JavaPlugin {
     public void onDisable() {
         if (questRegistry != null) {
             questRegistry.stopAllEventSchedules();
+            questRegistry.conditions().cancelPrimaryThreadChecks();
         }
         // suspend all conversations
         for (final OnlineProfile onlineProfile : PlayerConverter.getOnlineProfiles()) {
@@ -706,7 +855,19 @@ public class BetonQuest extends JavaPlugin {
             }
             onlineProfile.getPlayer().closeInventory();
         }
+        if (playerDataLoader != null) {
+            playerDataLoader.shutdown();
+        }
+        if (optionConditionResolver != null) {
+            optionConditionResolver.shutdown();
+        }
+        if (packageLoader != null) {
+            packageLoader.shutdown();
+        }
         // cancel database saver
+        if (objectiveProgressSaver != null) {
+            objectiveProgressSaver.end();
+        }
         if (saver != null) {
             saver.end();
         }
@@ -799,7 +960,7 @@ public class BetonQuest extends JavaPlugin {
         PlayerData playerData = playerDataMap.get(profile);
         if (playerData == null) {
             if (profile.getOnlineProfile().isPresent()) {
-                playerData = new PlayerData(profile);
+                playerData = playerDataLoader.loadBlocking(profile);
                 putPlayerData(profile, playerData);
             } else {
                 throw new IllegalArgumentException("The profile has no online player!");
@@ -808,11 +969,36 @@ public class BetonQuest extends JavaPlugin {
         return playerData;
     }
 
+    private void updateLoadedJournal(final Profile profile) {
+        final PlayerData playerData = playerDataMap.get(profile);
+        if (playerData != null) {
+            playerData.getJournal().update();
+        }
+    }
+
     public PlayerData getOfflinePlayerData(final Profile profile) {
         if (profile.getOnlineProfile().isPresent()) {
             return getPlayerData(profile);
         }
-        return new PlayerData(profile);
+        return playerDataCache.get(profile);
+    }
+
+    /**
+     * Gets the cache for the data of offline profiles.
+     *
+     * @return the offline profile data cache
+     */
+    public PlayerDataCache getPlayerDataCache() {
+        return playerDataCache;
+    }
+
+    /**
+     * Gets the loader for the data of profiles.
+     *
+     * @return the profile data loader
+     */
+    public PlayerDataLoader getPlayerDataLoader() {
+        return playerDataLoader;
     }
 
     /**
@@ -1109,4 +1295,76 @@ public class BetonQuest extends JavaPlugin {
     public VariableProcessor getVariableProcessor() {
         return questRegistry.variables();
     }
+
+    /**
+     * Get the IDTable instance.
+     *
+     * @return the IDTable interning the IDs of the loaded generation
+     */
+    public IDTable getIdTable() {
+        return questRegistry.ids();
+    }
+
+    /**
+     * Get the ObjectiveProcessor instance.
+     *
+     * @return the ObjectiveProcessor to start and find objectives
+     */
+    public ObjectiveProcessor getObjectiveProcessor() {
+        return questRegistry.objectives();
+    }
+
+    /**
+     * Get the JournalProcessor instance.
+     *
+     * @return the JournalProcessor holding the journal entries and main page lines
+     */
+    public JournalProcessor getJournalProcessor() {
+        return questRegistry.journals();
+    }
+
+    /**
+     * Get the LocationObjectiveDispatcher instance.
+     *
+     * @return the LocationObjectiveDispatcher checking the location of players for location objectives
+     */
+    public LocationObjectiveDispatcher getLocationObjectiveDispatcher() {
+        return locationObjectiveDispatcher;
+    }
+
+    /**
+     * Get the ObjectiveEventDispatcher instance.
+     *
+     * @return the ObjectiveEventDispatcher passing events to the objectives that can match them
+     */
+    public ObjectiveEventDispatcher getObjectiveEventDispatcher() {
+        return objectiveEventDispatcher;
+    }
+
+    /**
+     * Get the ObjectiveProgressSaver instance.
+     *
+     * @return the ObjectiveProgressSaver writing changed objective data
+     */
+    public ObjectiveProgressSaver getObjectiveProgressSaver() {
+        return objectiveProgressSaver;
+    }
+
+    /**
+     * Get the OptionConditionResolver instance.
+     *
+     * @return the OptionConditionResolver checking the conditions of conversation options
+     */
+    public OptionConditionResolver getOptionConditionResolver() {
+        return optionConditionResolver;
+    }
+
+    /**
+     * Get the PackageLoader instance.
+     *
+     * @return the PackageLoader loading the quest packages in parallel
+     */
+    public PackageLoader getPackageLoader() {
+        return packageLoader;
+    }
 }
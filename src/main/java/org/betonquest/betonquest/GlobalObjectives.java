@@ -36,6 +36,15 @@ public class GlobalObjectives {
         instance.globalObjectiveIds.add(objectiveID);
     }
 
+    /**
+     * Removes the global objectives of a package, so only the ones created again by a reload are kept.
+     *
+     * @param packName the name of the package
+     */
+    public static void removePackage(final String packName) {
+        instance.globalObjectiveIds.removeIf(id -> packName.equals(id.getPackage().getQuestPath()));
+    }
+
     /**
      * Starts all unstarted global objectives for the player
      *
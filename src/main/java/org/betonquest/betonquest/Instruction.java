@@ -531,7 +531,7 @@ public class Instruction {
             return null;
         }
         try {
-            return new EventID(pack, string);
+            return BetonQuest.getInstance().getIdTable().event(pack, string);
         } catch (final ObjectNotFoundException e) {
             throw new PartParseException("Error while loading event: " + e.getMessage(), e);
         }
@@ -548,7 +548,7 @@ public class Instruction {
             return null;
         }
         try {
-            return new ConditionID(pack, string);
+            return BetonQuest.getInstance().getIdTable().condition(pack, string);
         } catch (final ObjectNotFoundException e) {
             throw new PartParseException("Error while loading condition: " + e.getMessage(), e);
         }
@@ -565,7 +565,7 @@ public class Instruction {
             return null;
         }
         try {
-            return new ObjectiveID(pack, string);
+            return BetonQuest.getInstance().getIdTable().objective(pack, string);
         } catch (final ObjectNotFoundException e) {
             throw new PartParseException("Error while loading objective: " + e.getMessage(), e);
         }
@@ -52,7 +52,7 @@ public class JoinQuitListener implements Listener {
             return;
         }
         final Profile profile = PlayerConverter.getID(Bukkit.getOfflinePlayer(event.getUniqueId()));
-        betonQuest.putPlayerData(profile, new PlayerData(profile));
+        betonQuest.putPlayerData(profile, betonQuest.getPlayerDataLoader().loadBlocking(profile));
     }
 
     @EventHandler(ignoreCancelled = true)
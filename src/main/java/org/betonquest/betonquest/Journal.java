@@ -1,7 +1,6 @@
 package org.betonquest.betonquest;
 
 import com.google.common.collect.Lists;
-import org.apache.commons.lang3.StringUtils;
 import org.betonquest.betonquest.api.PlayerJournalAddEvent;
 import org.betonquest.betonquest.api.PlayerJournalDeleteEvent;
 import org.betonquest.betonquest.api.config.ConfigurationFile;
@@ -12,15 +11,10 @@ import org.betonquest.betonquest.api.profiles.Profile;
 import org.betonquest.betonquest.config.Config;
 import org.betonquest.betonquest.database.Saver.Record;
 import org.betonquest.betonquest.database.UpdateType;
-import org.betonquest.betonquest.exceptions.InstructionParseException;
-import org.betonquest.betonquest.exceptions.ObjectNotFoundException;
 import org.betonquest.betonquest.exceptions.QuestRuntimeException;
-import org.betonquest.betonquest.id.ConditionID;
-import org.betonquest.betonquest.instruction.variable.VariableString;
+import org.betonquest.betonquest.quest.registry.processor.JournalProcessor;
 import org.betonquest.betonquest.utils.Utils;
-import org.betonquest.betonquest.variables.GlobalVariableResolver;
 import org.bukkit.Material;
-import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
@@ -30,14 +24,14 @@ import org.jetbrains.annotations.Nullable;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents player's journal.
@@ -56,6 +50,11 @@ public class Journal {
 
     private final List<String> texts = new ArrayList<>();
 
+    /**
+     * Generated texts of entries without variables, which do not change until the next reload.
+     */
+    private final Map<Pointer, String> staticEntries = new ConcurrentHashMap<>();
+
     private final ConfigurationFile config;
 
     private String lang;
@@ -63,6 +62,23 @@ public class Journal {
     @Nullable
     private String mainPage;
 
+    /**
+     * The generation of the {@link JournalProcessor} the cached texts were generated with.
+     */
+    private int generation = -1;
+
+    /**
+     * The date format of the entries, created once per generation.
+     */
+    @Nullable
+    private SimpleDateFormat dateFormat;
+
+    /**
+     * The pages of the journal that was last added to the inventory.
+     */
+    @Nullable
+    private List<String> renderedPages;
+
     /**
      * Creates new Journal instance from List of Pointers.
      *
@@ -164,6 +180,7 @@ public class Journal {
                 betonQuest.getSaver()
                         .add(new Record(UpdateType.REMOVE_JOURNAL, profile.getProfileUUID().toString(), pointer.getPointer(), date));
                 pointers.remove(pointer);
+                staticEntries.remove(pointer);
                 break;
             }
         }
@@ -189,172 +206,107 @@ public class Journal {
     }
 
     /**
-     * Generates texts for every pointer and places them inside a List
+     * Generates texts for every pointer and places them inside a List.
+     * Texts of entries without variables are only generated once.
      *
      * @param lang the language to use while generating text
      */
-    @SuppressWarnings("PMD.CognitiveComplexity")
     public void generateTexts(final String lang) {
-        // remove previous texts
+        final JournalProcessor processor = BetonQuest.getInstance().getJournalProcessor();
+        if (!lang.equals(this.lang) || generation != processor.getGeneration()) {
+            staticEntries.clear();
+            dateFormat = null;
+            renderedPages = null;
+            generation = processor.getGeneration();
+        }
         texts.clear();
         this.lang = lang;
-        // generate the first page
-        mainPage = generateMainPage();
+        mainPage = generateMainPage(processor);
         for (final Pointer pointer : pointers) {
-            // if date should not be hidden, generate the date prefix
-            String datePrefix = "";
-            if ("false".equalsIgnoreCase(config.getString("journal.hide_date"))) {
-                final String date = new SimpleDateFormat(config.getString("date_format"), Locale.ROOT)
-                        .format(pointer.getTimestamp());
-                final String[] dateParts = date.split(" ");
-                final String day = "§" + config.getString("journal_colors.date.day") + dateParts[0];
-                String hour = "";
-                if (dateParts.length > 1) {
-                    hour = "§" + config.getString("journal_colors.date.hour") + dateParts[1];
-                }
-                datePrefix = day + " " + hour + "\n";
-            }
-            // get package and name of the pointer
-            final String[] parts = pointer.getPointer().split("\\.");
-            final String packName = parts[0];
-            final QuestPackage pack = Config.getPackages().get(packName);
-            if (pack == null) {
-                continue;
-            }
-            final String pointerName = parts[1];
-            // resolve the text in player's language
-            String text;
-            final ConfigurationSection journal = pack.getConfig().getConfigurationSection("journal");
-            if (journal != null && journal.contains(pointerName)) {
-                if (journal.isConfigurationSection(pointerName)) {
-                    text = pack.getFormattedString("journal." + pointerName + "." + lang);
-                    if (text == null) {
-                        text = pack.getFormattedString("journal." + pointerName + "." + Config.getLanguage());
-                    }
-                } else {
-                    text = pack.getFormattedString("journal." + pointerName);
-                }
+            final String text = staticEntries.get(pointer);
+            if (text == null) {
+                generateEntry(processor, pointer);
             } else {
-                log.warn(pack, "No defined journal entry " + pointerName + " in package " + pack.getQuestPath());
-                text = "error";
+                texts.add(text);
             }
+        }
+    }
 
-            // handle case when the text isn't defined
-            if (text == null) {
-                log.warn(pack, "No text defined for journal entry " + pointerName + " in language " + lang);
-                text = "error";
+    private void generateEntry(final JournalProcessor processor, final Pointer pointer) {
+        final JournalProcessor.Entry entry = processor.getEntry(pointer.getPointer());
+        final String text;
+        final boolean isStatic;
+        if (entry == null) {
+            final String[] parts = pointer.getPointer().split("\\.", 2);
+            final QuestPackage pack = Config.getPackages().get(parts[0]);
+            if (pack == null) {
+                return;
             }
-
-            try {
-                text = new VariableString(pack, text).getString(profile);
-            } catch (final InstructionParseException e) {
-                log.warn(pack, "Error while creating variable on journal page '" + pointerName + "' in "
-                        + profile + " journal: " + e.getMessage(), e);
+            log.warn(pack, "No defined journal entry " + parts[parts.length - 1] + " in package " + pack.getQuestPath());
+            text = "error";
+            isStatic = true;
+        } else {
+            final JournalProcessor.Text entryText = entry.getText(lang);
+            if (entryText == null) {
+                log.warn(entry.pack(), "No text defined for journal entry " + pointer.getPointer() + " in language " + lang);
+                text = "error";
+                isStatic = true;
+            } else {
+                text = entryText.resolve(profile);
+                isStatic = entryText.isStatic();
             }
+        }
+        final String rendered = getDatePrefix(pointer) + "§" + config.getString("journal_colors.text") + text;
+        if (isStatic) {
+            staticEntries.put(pointer, rendered);
+        }
+        texts.add(rendered);
+    }
 
-            // add the entry to the list
-            texts.add(datePrefix + "§" + config.getString("journal_colors.text") + text);
+    private String getDatePrefix(final Pointer pointer) {
+        if (!"false".equalsIgnoreCase(config.getString("journal.hide_date"))) {
+            return "";
+        }
+        if (dateFormat == null) {
+            dateFormat = new SimpleDateFormat(config.getString("date_format"), Locale.ROOT);
         }
+        final String[] dateParts = dateFormat.format(pointer.getTimestamp()).split(" ");
+        final String day = "§" + config.getString("journal_colors.date.day") + dateParts[0];
+        String hour = "";
+        if (dateParts.length > 1) {
+            hour = "§" + config.getString("journal_colors.date.hour") + dateParts[1];
+        }
+        return day + " " + hour + "\n";
     }
 
     /**
      * Generates the main page for this journal.
      *
+     * @param processor the processor holding the main page lines
      * @return the main page string or null, if there is no main page
      */
-    @SuppressWarnings({"PMD.NcssCount", "PMD.NPathComplexity", "PMD.CognitiveComplexity"})
     @Nullable
-    private String generateMainPage() {
-        final Map<Integer, List<String>> lines = new HashMap<>(); // holds text lines with their priority
-        final Set<Integer> numbers = new HashSet<>(); // stores numbers that are used, so there's no need to search them
-        for (final QuestPackage pack : Config.getPackages().values()) {
-            final String packName = pack.getQuestPath();
-            final ConfigurationSection section = pack.getConfig().getConfigurationSection("journal_main_page");
-            if (section == null) {
+    private String generateMainPage(final JournalProcessor processor) {
+        final Map<Integer, List<String>> lines = new TreeMap<>();
+        for (final JournalProcessor.MainPageLine line : processor.getMainPageLines()) {
+            if (!line.conditions().isEmpty() && !BetonQuest.conditions(profile, line.conditions())) {
                 continue;
             }
-            for (final String key : section.getKeys(false)) {
-                final int number = section.getInt(key + ".priority", -1);
-                if (number >= 0) {
-                    final String rawConditions = GlobalVariableResolver.resolve(pack, section.getString(key + ".conditions"));
-                    if (rawConditions != null && !rawConditions.isEmpty()) {
-                        try {
-                            final List<ConditionID> pageConditions = new ArrayList<>();
-                            for (final String conditionString : rawConditions.split(",")) {
-                                if (!conditionString.isEmpty()) {
-                                    pageConditions.add(new ConditionID(pack, conditionString));
-                                }
-                            }
-
-                            if (!BetonQuest.conditions(profile, pageConditions)) {
-                                continue;
-                            }
-                        } catch (final ObjectNotFoundException e) {
-                            log.warn(pack, "Error while generating main page in " + profile + " journal: " + e.getMessage(), e);
-                            continue;
-                        }
-                    }
-                    // here conditions are met, get the text in player's language
-                    String text;
-                    if (section.isConfigurationSection(key + ".text")) {
-                        text = section.getString(key + ".text." + lang);
-                        if (text == null) {
-                            text = section.getString(key + ".text." + Config.getLanguage());
-                        }
-                        if (text == null) {
-                            text = section.getString(key + ".text.en");
-                        }
-                    } else {
-                        text = section.getString(key + ".text");
-                    }
-                    if (text == null || text.length() == 0) {
-                        continue;
-                    }
-                    text = GlobalVariableResolver.resolve(pack, text);
-                    try {
-                        text = new VariableString(pack, text).getString(profile);
-                    } catch (final InstructionParseException e) {
-                        log.warn(pack, "Error while creating variable on main page in "
-                                + profile + " journal: " + e.getMessage(), e);
-                    }
-                    // add the text to HashMap
-                    numbers.add(number);
-                    final List<String> linesOrder;
-                    if (lines.containsKey(number)) {
-                        linesOrder = lines.get(number);
-                    } else {
-                        linesOrder = new ArrayList<>();
-                        lines.put(number, linesOrder);
-                    }
-                    linesOrder.add(text + "§r"); // reset the formatting
-                } else {
-                    log.warn(pack, "Priority of " + packName + "." + key
-                            + " journal main page line is not defined");
-                }
+            final JournalProcessor.Text text = line.getText(lang);
+            if (text == null || text.raw().isEmpty()) {
+                continue;
             }
+            lines.computeIfAbsent(line.priority(), priority -> new ArrayList<>()).add(text.resolve(profile) + "§r");
         }
-        if (numbers.isEmpty()) {
+        if (lines.isEmpty()) {
             return null;
         }
-        return sort(numbers, lines);
-    }
-
-    @SuppressWarnings("NullAway")
-    private String sort(final Set<Integer> numbers, final Map<Integer, List<String>> lines) {
-        // now all lines from all packages are extracted, sort numbers
-        Integer[] sorted = new Integer[numbers.size()];
-        sorted = numbers.toArray(sorted);
-        Arrays.sort(sorted);
-        // build the string and return it
         final List<String> sortedLines = new ArrayList<>();
-        for (final int i : sorted) {
-            final List<String> linesOrder = lines.get(i);
-            String[] sortedLinesOrder = new String[linesOrder.size()];
-            sortedLinesOrder = linesOrder.toArray(sortedLinesOrder);
-            Arrays.sort(sortedLinesOrder);
-            sortedLines.addAll(Arrays.asList(sortedLinesOrder));
+        for (final List<String> linesOrder : lines.values()) {
+            Collections.sort(linesOrder);
+            sortedLines.addAll(linesOrder);
         }
-        return StringUtils.join(sortedLines, '\n').replace('&', '§');
+        return String.join("\n", sortedLines).replace('&', '§');
     }
 
     /**
@@ -363,17 +315,24 @@ public class Journal {
     public void clear() {
         texts.clear();
         pointers.clear();
+        staticEntries.clear();
     }
 
     /**
      * Adds journal to player inventory.
      */
     public void addToInv() {
-        final int targetSlot = getJournalSlot();
         generateTexts(lang);
+        addToInv(getPages());
+    }
+
+    private void addToInv(final List<String> pages) {
+        final int targetSlot = getJournalSlot();
         final Inventory inventory = profile.getOnlineProfile().get().getPlayer().getInventory();
-        final ItemStack item = getAsItem();
+        final ItemStack item = getAsItem(pages);
+        renderedPages = null;
         if (inventory.firstEmpty() >= 0) {
+            renderedPages = pages;
             if (targetSlot < 0) {
                 inventory.addItem(item);
             } else {
@@ -408,15 +367,33 @@ public class Journal {
      *
      * @return the journal ItemStack
      */
-    @SuppressWarnings("PMD.CognitiveComplexity")
     public ItemStack getAsItem() {
+        return getAsItem(getPages());
+    }
+
+    private ItemStack getAsItem(final List<String> pages) {
         final ItemStack item = new ItemStack(Material.WRITTEN_BOOK);
         final BookMeta meta = (BookMeta) item.getItemMeta();
         meta.setTitle(Utils.format(Config.getMessage(lang, "journal_title")));
         meta.setAuthor(profile.getPlayer().getName());
         meta.setCustomModelData(config.getInt("journal.custom_model_data"));
         meta.setLore(getJournalLore(lang));
+        if (pages.isEmpty()) {
+            meta.addPage("");
+        } else {
+            meta.setPages(Utils.multiLineColorCodes(pages, "§" + config.getString("journal_colors.line")));
+        }
+        item.setItemMeta(meta);
+        return item;
+    }
 
+    /**
+     * Generates the pages of the journal from the main page and the generated texts.
+     *
+     * @return the pages of the journal
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    private List<String> getPages() {
         // add main page and generate pages from texts
         final List<String> finalList = new ArrayList<>();
         if (config.getBoolean("journal.one_entry_per_page")) {
@@ -452,21 +429,19 @@ public class Journal {
             final String wholeString = stringBuilder.toString().trim();
             finalList.addAll(Utils.pagesFromString(wholeString));
         }
-        if (finalList.isEmpty()) {
-            meta.addPage("");
-        } else {
-            meta.setPages(Utils.multiLineColorCodes(finalList, "§" + config.getString("journal_colors.line")));
-        }
-        item.setItemMeta(meta);
-        return item;
+        return finalList;
     }
 
     /**
-     * Updates journal by removing it and adding it again
+     * Updates journal by removing it and adding it again. The journal is not replaced if its pages did not change.
      */
     public void update() {
         if (hasJournal(profile.getOnlineProfile().get())) {
-            addToInv();
+            generateTexts(lang);
+            final List<String> pages = getPages();
+            if (!pages.equals(renderedPages)) {
+                addToInv(pages);
+            }
         }
     }
 
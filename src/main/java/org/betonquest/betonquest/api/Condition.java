@@ -76,6 +76,15 @@ public abstract class Condition extends ForceSyncHandler<Boolean> {
         return persistent;
     }
 
+    /**
+     * @return if the condition must be checked on the primary server thread. Conditions that require it are
+     * collected and checked together in one task on the primary server thread when they are checked from
+     * another thread.
+     */
+    public boolean isPrimaryThreadRequired() {
+        return isForceSync();
+    }
+
     /**
      * This method should contain all logic for the condition and use data
      * parsed by the constructor. Don't worry about inverting the condition,
@@ -33,6 +33,15 @@ public abstract class ForceSyncHandler<T> {
         this.forceSync = forceSync;
     }
 
+    /**
+     * Gets whether the {@link ForceSyncHandler#execute(Profile)} method is forced to run on the servers main thread.
+     *
+     * @return true if the execution is forced to be sync
+     */
+    public boolean isForceSync() {
+        return forceSync;
+    }
+
     /**
      * This methods implementation will be executed by the {@link ForceSyncHandler#handle(Profile)} method.
      *
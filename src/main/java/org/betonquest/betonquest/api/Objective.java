@@ -8,15 +8,12 @@ import org.betonquest.betonquest.api.profiles.OnlineProfile;
 import org.betonquest.betonquest.api.profiles.Profile;
 import org.betonquest.betonquest.config.Config;
 import org.betonquest.betonquest.database.PlayerData;
-import org.betonquest.betonquest.database.Saver;
-import org.betonquest.betonquest.database.UpdateType;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
 import org.betonquest.betonquest.exceptions.ObjectNotFoundException;
 import org.betonquest.betonquest.exceptions.QuestRuntimeException;
 import org.betonquest.betonquest.id.ConditionID;
 import org.betonquest.betonquest.id.EventID;
 import org.betonquest.betonquest.id.ObjectiveID;
-import org.bukkit.Server;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.InvocationTargetException;
@@ -99,7 +96,7 @@ public abstract class Objective {
         for (int i = 0; i < length; i++) {
             final String event = i >= tempEvents1.length ? tempEvents2[i - tempEvents1.length] : tempEvents1[i];
             try {
-                events[i] = new EventID(instruction.getPackage(), event);
+                events[i] = BetonQuest.getInstance().getIdTable().event(instruction.getPackage(), event);
             } catch (final ObjectNotFoundException e) {
                 if (length == 1 && "ID is null".equals(e.getMessage())) {
                     throw new InstructionParseException("Error while parsing objective events: No events are defined!", e);
@@ -115,7 +112,7 @@ public abstract class Objective {
             final String condition = i >= tempConditions1.length ? tempConditions2[i - tempConditions1.length]
                     : tempConditions1[i];
             try {
-                conditions[i] = new ConditionID(instruction.getPackage(), condition);
+                conditions[i] = BetonQuest.getInstance().getIdTable().condition(instruction.getPackage(), condition);
             } catch (final ObjectNotFoundException e) {
                 throw new InstructionParseException("Error while parsing objective conditions: " + e.getMessage(), e);
             }
@@ -207,16 +204,14 @@ public abstract class Objective {
             playerData.addNewRawObjective((ObjectiveID) instruction.getID());
             createObjectiveForPlayer(profile, getDefaultDataInstruction(profile));
         }
-        log.debug(instruction.getPackage(),
-                "Objective \"" + instruction.getID().getFullID() + "\" has been completed for "
-                        + profile + ", firing events.");
+        log.debug(instruction.getPackage(), () -> "Objective \"" + instruction.getID().getFullID()
+                + "\" has been completed for " + profile + ", firing events.");
         // fire all events
         for (final EventID event : events) {
             BetonQuest.event(profile, event);
         }
-        log.debug(instruction.getPackage(),
-                "Firing events in objective \"" + instruction.getID().getFullID() + "\" for "
-                        + profile + " finished");
+        log.debug(instruction.getPackage(), () -> "Firing events in objective \"" + instruction.getID().getFullID()
+                + "\" for " + profile + " finished");
     }
 
     /**
@@ -228,8 +223,10 @@ public abstract class Objective {
      * @return if all conditions of this objective has been met
      */
     public final boolean checkConditions(final Profile profile) {
-        log.debug(instruction.getPackage(), "Condition check in \"" + instruction.getID().getFullID()
-                + "\" objective for " + profile);
+        if (log.isDebugEnabled(instruction.getPackage())) {
+            log.debug(instruction.getPackage(), "Condition check in \"" + instruction.getID().getFullID()
+                    + "\" objective for " + profile);
+        }
         return BetonQuest.conditions(profile, conditions);
     }
 
@@ -401,12 +398,15 @@ public abstract class Objective {
             start();
         }
         dataMap.put(profile, data);
+        BetonQuest.getInstance().getObjectiveProcessor().markActive(profile, this);
         start(profile);
     }
 
     private void deactivateObjective(final Profile profile) {
         stop(profile);
+        BetonQuest.getInstance().getObjectiveProgressSaver().flush(profile, instruction.getID().getFullID());
         dataMap.remove(profile);
+        BetonQuest.getInstance().getObjectiveProcessor().markInactive(profile, this);
         if (dataMap.isEmpty()) {
             stop();
         }
@@ -460,16 +460,19 @@ public abstract class Objective {
     /**
      * Should be called at the end of the use of this objective, for example
      * when reloading the plugin. It will unregister listeners and save all
-     * profile data to their "inactive" map.
+     * profile data to their "inactive" map. The objective is no longer active for any profile afterwards.
      */
     public void close() {
         stop();
         for (final Map.Entry<Profile, ObjectiveData> entry : dataMap.entrySet()) {
             final Profile profile = entry.getKey();
             stop(profile);
+            BetonQuest.getInstance().getObjectiveProgressSaver().flush(profile, instruction.getID().getFullID());
             BetonQuest.getInstance().getPlayerData(profile).addRawObjective(instruction.getID().getFullID(),
                     entry.getValue().toString());
+            BetonQuest.getInstance().getObjectiveProcessor().markInactive(profile, this);
         }
+        dataMap.clear();
     }
 
     /**
@@ -568,21 +571,18 @@ public abstract class Objective {
          * </p>
          *
          * <p>
+         * The changes are collected and written in intervals, when the objective
+         * is stopped for the profile and when the plugin is disabled.
+         * </p>
+         *
+         * <p>
          * If you forget it, the objective will still work for players who don't
          * leave the server. However, if someone leaves before completing, they
          * will have to start this objective from scratch.
          * </p>
          */
         protected final void update() {
-            final Saver saver = BetonQuest.getInstance().getSaver();
-            saver.add(new Saver.Record(UpdateType.REMOVE_OBJECTIVES, profile.getProfileUUID().toString(), objID));
-            saver.add(new Saver.Record(UpdateType.ADD_OBJECTIVES, profile.getProfileUUID().toString(), objID, toString()));
-            final QuestDataUpdateEvent event = new QuestDataUpdateEvent(profile, objID, toString());
-            final Server server = BetonQuest.getInstance().getServer();
-            server.getScheduler().runTask(BetonQuest.getInstance(), () -> server.getPluginManager().callEvent(event));
-            // update the journal so all possible variables display correct
-            // information
-            BetonQuest.getInstance().getPlayerData(profile).getJournal().update();
+            BetonQuest.getInstance().getObjectiveProgressSaver().markDirty(profile, objID, this::toString);
         }
     }
 
@@ -73,7 +73,7 @@ public abstract class QuestEvent extends ForceSyncHandler<Void> {
         for (int i = 0; i < length; i++) {
             final String condition = i >= tempConditions1.length ? tempConditions2[i - tempConditions1.length] : tempConditions1[i];
             try {
-                conditions[i] = new ConditionID(instruction.getPackage(), condition);
+                conditions[i] = BetonQuest.getInstance().getIdTable().condition(instruction.getPackage(), condition);
             } catch (final ObjectNotFoundException exception) {
                 throw new InstructionParseException("Error while parsing event conditions: " + exception.getMessage(), exception);
             }
@@ -139,14 +139,14 @@ public abstract class QuestEvent extends ForceSyncHandler<Void> {
             handle(profile);
             return true;
         } else {
-            log.debug(instruction.getPackage(), profile + " is offline, cannot fire event because it's not persistent.");
+            log.debug(instruction.getPackage(), () -> profile + " is offline, cannot fire event because it's not persistent.");
             return false;
         }
     }
 
     private boolean handleOnlineProfile(final Profile profile) throws QuestRuntimeException {
         if (!BetonQuest.conditions(profile, conditions)) {
-            log.debug(instruction.getPackage(), "Event conditions were not met for " + profile);
+            log.debug(instruction.getPackage(), () -> "Event conditions were not met for " + profile);
             return false;
         }
         handle(profile);
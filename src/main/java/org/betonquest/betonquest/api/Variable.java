@@ -21,6 +21,12 @@ public abstract class Variable {
      */
     protected boolean staticness;
 
+    /**
+     * A variable marked as cacheable within a tick returns the same value for the same profile
+     * during a server tick, so it is only resolved once per tick and profile.
+     */
+    protected boolean cacheableWithinTick;
+
     /**
      * Creates new instance of the variable. The variable should parse the
      * instruction string at this point and extract all the data from it. If
@@ -53,6 +59,15 @@ public abstract class Variable {
         return staticness;
     }
 
+    /**
+     * Get whether the value of the variable can be cached within a tick.
+     *
+     * @return true if the value is cacheable within a tick
+     */
+    public boolean isCacheableWithinTick() {
+        return cacheableWithinTick;
+    }
+
     /**
      * This method should return a resolved value of variable for given profile.
      *
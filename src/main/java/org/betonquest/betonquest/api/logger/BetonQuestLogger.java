@@ -5,6 +5,7 @@ import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.PluginLogger;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 /**
@@ -72,6 +73,50 @@ public interface BetonQuestLogger {
      */
     void debug(@Nullable QuestPackage pack, @Nullable String msg, Throwable thrown);
 
+    /**
+     * Logs a debug message with the {@link Level#FINE} level to the log.
+     * The message is only built if debug messages are logged at all.
+     * <p>
+     * Use this for debug log information that is expensive to build.
+     * <p>
+     * Don't use this method, if you can provide a {@link QuestPackage}.
+     * Use {@link BetonQuestLogger#debug(QuestPackage, Supplier)} instead.
+     *
+     * @param msg The supplier of the message to log.
+     */
+    default void debug(final Supplier<String> msg) {
+        debug(null, msg);
+    }
+
+    /**
+     * Logs a debug message with the {@link Level#FINE} level to the log.
+     * The message is only built if debug messages of the package are logged at all.
+     * <p>
+     * Use this for debug log information that is expensive to build.
+     * In hot paths a capturing lambda may still be allocated,
+     * there guard the call with {@link BetonQuestLogger#isDebugEnabled(QuestPackage)} instead.
+     *
+     * @param pack The related {@link QuestPackage} or null.
+     * @param msg  The supplier of the message to log.
+     */
+    default void debug(@Nullable final QuestPackage pack, final Supplier<String> msg) {
+        if (isDebugEnabled(pack)) {
+            debug(pack, msg.get());
+        }
+    }
+
+    /**
+     * Checks if debug messages of the package are logged at all.
+     * <p>
+     * This check is cheap, so it can guard building debug messages in hot paths.
+     *
+     * @param pack The related {@link QuestPackage} or null.
+     * @return true if debug messages of the package are logged
+     */
+    default boolean isDebugEnabled(@Nullable final QuestPackage pack) {
+        return true;
+    }
+
     /**
      * Logs a normal message with the {@link Level#INFO} level to the log.
      * <p>
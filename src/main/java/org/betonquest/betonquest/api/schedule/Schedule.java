@@ -1,5 +1,6 @@
 package org.betonquest.betonquest.api.schedule;
 
+import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
 import org.betonquest.betonquest.exceptions.ObjectNotFoundException;
 import org.betonquest.betonquest.id.EventID;
@@ -68,7 +69,7 @@ public abstract class Schedule {
         final List<EventID> events = new ArrayList<>();
         for (final String eventId : eventsString.split(",")) {
             try {
-                events.add(new EventID(scheduleID.getPackage(), eventId));
+                events.add(BetonQuest.getInstance().getIdTable().event(scheduleID.getPackage(), eventId));
             } catch (final ObjectNotFoundException e) {
                 throw new InstructionParseException("Error while loading events: " + e.getMessage(), e);
             }
@@ -453,7 +453,7 @@ public class QuestCommand implements CommandExecutor, SimpleTabCompleter {
             playerData = instance.getPlayerData(profile);
         } else {
             log.debug("Profile is offline, loading his data");
-            playerData = new PlayerData(profile);
+            playerData = instance.getOfflinePlayerData(profile);
         }
         log.debug("Purging player " + args[1]);
         playerData.purgePlayer();
@@ -503,7 +503,7 @@ public class QuestCommand implements CommandExecutor, SimpleTabCompleter {
             playerData = instance.getPlayerData(profile);
         } else {
             log.debug("Profile is offline, loading his data");
-            playerData = new PlayerData(profile);
+            playerData = instance.getOfflinePlayerData(profile);
         }
         final Journal journal = playerData.getJournal();
         // if there are no arguments then list player's pointers
@@ -608,7 +608,7 @@ public class QuestCommand implements CommandExecutor, SimpleTabCompleter {
             playerData = instance.getPlayerData(profile);
         } else {
             log.debug("Profile is offline, loading his data");
-            playerData = new PlayerData(profile);
+            playerData = instance.getOfflinePlayerData(profile);
         }
         // if there are no arguments then list player's points
         if (args.length < 3 || "list".equalsIgnoreCase(args[2]) || "l".equalsIgnoreCase(args[2])) {
@@ -941,7 +941,7 @@ public class QuestCommand implements CommandExecutor, SimpleTabCompleter {
             playerData = instance.getPlayerData(profile);
         } else {
             log.debug("Profile is offline, loading his data");
-            playerData = new PlayerData(profile);
+            playerData = instance.getOfflinePlayerData(profile);
         }
         // if there are no arguments then list player's tags
         if (args.length < 3 || "list".equalsIgnoreCase(args[2]) || "l".equalsIgnoreCase(args[2])) {
@@ -1102,7 +1102,7 @@ public class QuestCommand implements CommandExecutor, SimpleTabCompleter {
             playerData = instance.getPlayerData(profile);
         } else {
             log.debug("Profile is offline, loading his data");
-            playerData = new PlayerData(profile);
+            playerData = instance.getOfflinePlayerData(profile);
         }
         // if there are no arguments then list player's objectives
         if (args.length < 3 || "list".equalsIgnoreCase(args[2]) || "l".equalsIgnoreCase(args[2])) {
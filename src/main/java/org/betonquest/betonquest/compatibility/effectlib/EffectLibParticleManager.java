@@ -151,7 +151,7 @@ public class EffectLibParticleManager {
         final List<ConditionID> conditions = new ArrayList<>();
         for (final String rawConditionID : settings.getStringList("conditions")) {
             try {
-                conditions.add(new ConditionID(pack, GlobalVariableResolver.resolve(pack, rawConditionID)));
+                conditions.add(BetonQuest.getInstance().getIdTable().condition(pack, GlobalVariableResolver.resolve(pack, rawConditionID)));
             } catch (final ObjectNotFoundException exception) {
                 log.warn(pack, "Error while loading npc_effects '" + key + "': " + exception.getMessage(), exception);
             }
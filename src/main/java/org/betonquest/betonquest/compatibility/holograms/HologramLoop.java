@@ -154,7 +154,7 @@ public abstract class HologramLoop {
             conditions = new ConditionID[parts.length];
             for (int i = 0; i < conditions.length; i++) {
                 try {
-                    conditions[i] = new ConditionID(pack, parts[i]);
+                    conditions[i] = BetonQuest.getInstance().getIdTable().condition(pack, parts[i]);
                 } catch (final ObjectNotFoundException e) {
                     throw new InstructionParseException("Error while loading condition '" + parts[i] + "': " + e.getMessage(), e);
                 }
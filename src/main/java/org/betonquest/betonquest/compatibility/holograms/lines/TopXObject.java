@@ -64,9 +64,8 @@ public class TopXObject {
      */
     public void queryDB() {
         entries.clear();
-        final Connector con = new Connector();
-
-        try (ResultSet resultSet = con.querySQL(orderType.getType(), statement -> {
+        try (Connector con = new Connector();
+             ResultSet resultSet = con.querySQL(orderType.getType(), statement -> {
             statement.setString(1, category);
             statement.setInt(2, limit);
         })) {
@@ -24,6 +24,7 @@ public class PlaceholderVariable extends Variable {
     public PlaceholderVariable(final Instruction instruction) {
         super(instruction);
         staticness = true;
+        cacheableWithinTick = true;
         placeholder = String.join(".", instruction.getAllParts());
     }
 
@@ -0,0 +1,268 @@
+package org.betonquest.betonquest.compatibility.protocollib.hider;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * A map with primitive int keys, for example entity IDs, using open addressing.
+ * <p>
+ * Reads are lock-free and do not allocate, so they can be used from packet threads.
+ * Writes are synchronized. Removed entries leave a marker that is dropped when the table is rebuilt.
+ *
+ * @param <V> the type of the values
+ */
+@SuppressWarnings("PMD.AvoidUsingVolatile")
+class ConcurrentIntMap<V> {
+    /**
+     * Marks a slot that never had a key. The key itself is stored in {@link #minValue}.
+     */
+    private static final int FREE = Integer.MIN_VALUE;
+
+    /**
+     * The initial capacity of the table, must be a power of two.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The current table, replaced when it is rebuilt.
+     */
+    private volatile Table<V> table;
+
+    /**
+     * The value of the key {@link #FREE}, which cannot be stored in the table.
+     */
+    @Nullable
+    private volatile V minValue;
+
+    /**
+     * The amount of slots with a key, including removed entries. Guarded by this.
+     */
+    private int used;
+
+    /**
+     * The amount of entries. Guarded by this.
+     */
+    private int size;
+
+    /**
+     * Creates a new empty map.
+     */
+    /* default */ ConcurrentIntMap() {
+        table = new Table<>(INITIAL_CAPACITY);
+    }
+
+    private static int slot(final int key, final int mask) {
+        final int hash = key * 0x9E37_79B9;
+        return (hash ^ hash >>> 16) & mask;
+    }
+
+    /**
+     * Gets the value of a key.
+     *
+     * @param key the key
+     * @return the value or null if the key is not present
+     */
+    @Nullable
+    /* default */ V get(final int key) {
+        if (key == FREE) {
+            return minValue;
+        }
+        final Table<V> current = table;
+        final int mask = current.keys.length() - 1;
+        for (int index = slot(key, mask); ; index = (index + 1) & mask) {
+            final int slotKey = current.keys.get(index);
+            if (slotKey == key) {
+                return current.values.get(index);
+            }
+            if (slotKey == FREE) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Sets the value of a key.
+     *
+     * @param key   the key
+     * @param value the new value
+     * @return the previous value or null if the key was not present
+     */
+    @Nullable
+    /* default */ synchronized V put(final int key, final V value) {
+        if (key == FREE) {
+            final V previous = minValue;
+            minValue = value;
+            if (previous == null) {
+                size++;
+            }
+            return previous;
+        }
+        final int index = findOrClaim(key);
+        final V previous = table.values.getAndSet(index, value);
+        if (previous == null) {
+            size++;
+        }
+        return previous;
+    }
+
+    /**
+     * Gets the value of a key or sets a new value if the key is not present.
+     *
+     * @param key     the key
+     * @param factory the factory for the new value
+     * @return the present or the new value
+     */
+    /* default */ V computeIfAbsent(final int key, final IntFunction<V> factory) {
+        final V present = get(key);
+        if (present != null) {
+            return present;
+        }
+        synchronized (this) {
+            final V current = get(key);
+            if (current != null) {
+                return current;
+            }
+            final V created = factory.apply(key);
+            put(key, created);
+            return created;
+        }
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @param key the key
+     * @return the removed value or null if the key was not present
+     */
+    @Nullable
+    /* default */ synchronized V remove(final int key) {
+        if (key == FREE) {
+            final V previous = minValue;
+            minValue = null;
+            if (previous != null) {
+                size--;
+            }
+            return previous;
+        }
+        final Table<V> current = table;
+        final int mask = current.keys.length() - 1;
+        for (int index = slot(key, mask); ; index = (index + 1) & mask) {
+            final int slotKey = current.keys.get(index);
+            if (slotKey == key) {
+                final V previous = current.values.getAndSet(index, null);
+                if (previous != null) {
+                    size--;
+                }
+                return previous;
+            }
+            if (slotKey == FREE) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Runs the action for all values.
+     *
+     * @param action the action to run
+     */
+    /* default */ void forEachValue(final Consumer<V> action) {
+        final V min = minValue;
+        if (min != null) {
+            action.accept(min);
+        }
+        final Table<V> current = table;
+        for (int index = 0; index < current.values.length(); index++) {
+            final V value = current.values.get(index);
+            if (value != null) {
+                action.accept(value);
+            }
+        }
+    }
+
+    /**
+     * Gets the amount of entries.
+     *
+     * @return the amount of entries
+     */
+    /* default */ synchronized int size() {
+        return size;
+    }
+
+    private int findOrClaim(final int key) {
+        Table<V> current = table;
+        if ((used + 1) * 2 > current.keys.length()) {
+            current = rebuild();
+        }
+        final int mask = current.keys.length() - 1;
+        for (int index = slot(key, mask); ; index = (index + 1) & mask) {
+            final int slotKey = current.keys.get(index);
+            if (slotKey == key) {
+                return index;
+            }
+            if (slotKey == FREE) {
+                current.keys.set(index, key);
+                used++;
+                return index;
+            }
+        }
+    }
+
+    private Table<V> rebuild() {
+        final Table<V> old = table;
+        int capacity = INITIAL_CAPACITY;
+        while (capacity < (size + 1) * 4) {
+            capacity <<= 1;
+        }
+        final Table<V> rebuilt = new Table<>(capacity);
+        final int mask = capacity - 1;
+        int rebuiltUsed = 0;
+        for (int oldIndex = 0; oldIndex < old.keys.length(); oldIndex++) {
+            final V value = old.values.get(oldIndex);
+            if (value == null) {
+                continue;
+            }
+            final int key = old.keys.get(oldIndex);
+            int index = slot(key, mask);
+            while (rebuilt.keys.get(index) != FREE) {
+                index = (index + 1) & mask;
+            }
+            rebuilt.keys.set(index, key);
+            rebuilt.values.set(index, value);
+            rebuiltUsed++;
+        }
+        used = rebuiltUsed;
+        table = rebuilt;
+        return rebuilt;
+    }
+
+    /**
+     * The slots of the map. A slot is claimed by setting its key before its value,
+     * so a reader never sees a value under the wrong key.
+     *
+     * @param <V> the type of the values
+     */
+    private static final class Table<V> {
+        /**
+         * The keys of the slots, {@link #FREE} for slots that never had a key.
+         */
+        private final AtomicIntegerArray keys;
+
+        /**
+         * The values of the slots, null for free or removed slots.
+         */
+        private final AtomicReferenceArray<V> values;
+
+        private Table(final int capacity) {
+            keys = new AtomicIntegerArray(capacity);
+            for (int index = 0; index < capacity; index++) {
+                keys.set(index, FREE);
+            }
+            values = new AtomicReferenceArray<>(capacity);
+        }
+    }
+}
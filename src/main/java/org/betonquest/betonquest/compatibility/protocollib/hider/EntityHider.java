@@ -7,12 +7,9 @@ import com.comphenix.protocol.events.PacketAdapter;
 import com.comphenix.protocol.events.PacketContainer;
 import com.comphenix.protocol.events.PacketEvent;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.HashBasedTable;
-import com.google.common.collect.Table;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.papermc.lib.PaperLib;
 import org.betonquest.betonquest.api.profiles.OnlineProfile;
-import org.betonquest.betonquest.utils.PlayerConverter;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -27,8 +24,6 @@ import org.jetbrains.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * EntityHider From: <a href="https://gist.github.com/aadnk/5871793">aadnk/5871793</a>
@@ -86,7 +81,11 @@ public class EntityHider implements Listener {
 
     private final PacketAdapter protocolListener;
 
-    protected Table<Integer, Integer, Boolean> observerEntityMap = HashBasedTable.create();
+    /**
+     * The entity IDs in the table of each observer by the observer's entity ID.
+     * Read lock-free from the packet threads.
+     */
+    private final ConcurrentIntMap<ConcurrentIntMap<Boolean>> observerEntityMap = new ConcurrentIntMap<>();
 
     @Nullable
     private ProtocolManager manager;
@@ -140,11 +139,13 @@ public class EntityHider implements Listener {
     // Helper method
     @SuppressWarnings("PMD.LinguisticNaming")
     protected boolean setMembership(final OnlineProfile observer, final int entityID, final boolean member) {
+        final int observerID = observer.getPlayer().getEntityId();
         if (member) {
-            return observerEntityMap.put(observer.getPlayer().getEntityId(), entityID, true) != null;
-        } else {
-            return observerEntityMap.remove(observer.getPlayer().getEntityId(), entityID) != null;
+            final ConcurrentIntMap<Boolean> entities = observerEntityMap.computeIfAbsent(observerID, key -> new ConcurrentIntMap<>());
+            return entities.put(entityID, Boolean.TRUE) != null;
         }
+        final ConcurrentIntMap<Boolean> entities = observerEntityMap.get(observerID);
+        return entities != null && entities.remove(entityID) != null;
     }
 
     /**
@@ -155,7 +156,12 @@ public class EntityHider implements Listener {
      * @return TRUE if they are present, FALSE otherwise.
      */
     protected boolean getMembership(final OnlineProfile observer, final int entityID) {
-        return observerEntityMap.contains(observer.getPlayer().getEntityId(), entityID);
+        return getMembership(observer.getPlayer().getEntityId(), entityID);
+    }
+
+    private boolean getMembership(final int observerID, final int entityID) {
+        final ConcurrentIntMap<Boolean> entities = observerEntityMap.get(observerID);
+        return entities != null && entities.get(entityID) != null;
     }
 
     /**
@@ -166,8 +172,12 @@ public class EntityHider implements Listener {
      * @return TRUE if the entity is visible, FALSE otherwise.
      */
     protected boolean isVisible(final OnlineProfile observer, final int entityID) {
+        return isVisible(observer.getPlayer().getEntityId(), entityID);
+    }
+
+    private boolean isVisible(final int observerID, final int entityID) {
         // If we are using a whitelist, presence means visibility - if not, the opposite is the case
-        final boolean presence = getMembership(observer, entityID);
+        final boolean presence = getMembership(observerID, entityID);
 
         return policy == Policy.WHITELIST == presence;
     }
@@ -180,12 +190,7 @@ public class EntityHider implements Listener {
      */
     protected void removeEntity(final Entity entity, final boolean destroyed) {
         final int entityID = entity.getEntityId();
-
-        final List<Map.Entry<Integer, Map<Integer, Boolean>>> list = new CopyOnWriteArrayList<>(observerEntityMap.rowMap().entrySet());
-
-        for (final Map.Entry<Integer, Map<Integer, Boolean>> integerMapEntry : list) {
-            integerMapEntry.getValue().remove(entityID);
-        }
+        observerEntityMap.forEachValue(entities -> entities.remove(entityID));
     }
 
     /**
@@ -195,7 +200,7 @@ public class EntityHider implements Listener {
      */
     protected void removePlayer(final Player player) {
         // Cleanup
-        observerEntityMap.rowMap().remove(player.getEntityId());
+        observerEntityMap.remove(player.getEntityId());
     }
 
     /**
@@ -241,7 +246,7 @@ public class EntityHider implements Listener {
                     final int index = event.getPacketType().equals(PacketType.Play.Server.PLAYER_COMBAT_KILL) ? 1 : 0;
 
                     final Integer entityID = event.getPacket().getIntegers().readSafely(index);
-                    if (entityID != null && !isVisible(PlayerConverter.getID(event.getPlayer()), entityID)) {
+                    if (entityID != null && !isVisible(event.getPlayer().getEntityId(), entityID)) {
                         event.setCancelled(true);
                     }
                 }
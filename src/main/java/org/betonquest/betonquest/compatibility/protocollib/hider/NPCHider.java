@@ -98,7 +98,7 @@ public final class NPCHider extends BukkitRunnable implements Listener {
 
                 for (final String condition : conditionsString.split(",")) {
                     try {
-                        conditions.add(new ConditionID(cfgPackage, condition));
+                        conditions.add(BetonQuest.getInstance().getIdTable().condition(cfgPackage, condition));
                     } catch (final ObjectNotFoundException e) {
                         log.warn(cfgPackage, "Condition '" + condition + "' does not exist, in hide_npcs with ID " + npcIds, e);
                         continue npcs;
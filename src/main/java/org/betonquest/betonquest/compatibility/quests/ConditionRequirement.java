@@ -46,7 +46,7 @@ public class ConditionRequirement extends BukkitCustomRequirement {
                 return false;
             }
             final OnlineProfile onlineProfile = PlayerConverter.getID(player);
-            final ConditionID condition = new ConditionID(null, string);
+            final ConditionID condition = BetonQuest.getInstance().getIdTable().condition(null, string);
             return BetonQuest.condition(onlineProfile, condition);
         } catch (final ObjectNotFoundException e) {
             log.warn("Error while checking quest requirement - BetonQuest condition '" + string + "' not found: " + e.getMessage(), e);
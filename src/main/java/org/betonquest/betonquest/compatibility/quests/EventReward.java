@@ -46,7 +46,7 @@ public class EventReward extends BukkitCustomReward {
                 return;
             }
             final OnlineProfile onlineProfile = PlayerConverter.getID(player);
-            final EventID event = new EventID(null, string);
+            final EventID event = BetonQuest.getInstance().getIdTable().event(null, string);
             BetonQuest.event(onlineProfile, event);
         } catch (final ObjectNotFoundException e) {
             log.warn("Error while running quest reward - BetonQuest event '" + string + "' not found: " + e.getMessage(), e);
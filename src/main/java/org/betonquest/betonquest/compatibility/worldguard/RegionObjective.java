@@ -7,9 +7,7 @@ import org.betonquest.betonquest.api.profiles.Profile;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
 import org.betonquest.betonquest.instruction.variable.VariableString;
 import org.betonquest.betonquest.objectives.AbstractLocationObjective;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.event.HandlerList;
 
 /**
  * The region objective requires the player to be inside a specific region.
@@ -36,16 +34,6 @@ public class RegionObjective extends AbstractLocationObjective {
         return WorldGuardIntegrator.isInsideRegion(location, name.getString(onlineProfile));
     }
 
-    @Override
-    public void start() {
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
-    }
-
-    @Override
-    public void stop() {
-        HandlerList.unregisterAll(this);
-    }
-
     @Override
     public String getDefaultDataInstruction() {
         return "";
@@ -87,7 +87,9 @@ public final class Config {
         }
 
         final BetonQuestLoggerFactory loggerFactory = plugin.getLoggerFactory();
-        questManager = new QuestManager(loggerFactory, loggerFactory.create(QuestManager.class), configAccessorFactory, root);
+        questManager = new QuestManager(loggerFactory, loggerFactory.create(QuestManager.class), configAccessorFactory, root,
+                plugin.getPackageLoader());
+        questManager.indexStrings();
     }
 
     /**
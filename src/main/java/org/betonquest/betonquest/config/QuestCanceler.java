@@ -100,7 +100,7 @@ public class QuestCanceler {
             events = new EventID[arr.length];
             for (int i = 0; i < arr.length; i++) {
                 try {
-                    events[i] = new EventID(pack, arr[i]);
+                    events[i] = BetonQuest.getInstance().getIdTable().event(pack, arr[i]);
                 } catch (final ObjectNotFoundException e) {
                     throw new InstructionParseException("Error while parsing quest canceler events: " + e.getMessage(), e);
                 }
@@ -114,7 +114,7 @@ public class QuestCanceler {
             conditions = new ConditionID[arr.length];
             for (int i = 0; i < arr.length; i++) {
                 try {
-                    conditions[i] = new ConditionID(pack, arr[i]);
+                    conditions[i] = BetonQuest.getInstance().getIdTable().condition(pack, arr[i]);
                 } catch (final ObjectNotFoundException e) {
                     throw new InstructionParseException("Error while parsing quest canceler conditions: " + e.getMessage(), e);
                 }
@@ -128,7 +128,7 @@ public class QuestCanceler {
             objectives = new ObjectiveID[arr.length];
             for (int i = 0; i < arr.length; i++) {
                 try {
-                    objectives[i] = new ObjectiveID(pack, arr[i]);
+                    objectives[i] = BetonQuest.getInstance().getIdTable().objective(pack, arr[i]);
                 } catch (final ObjectNotFoundException e) {
                     throw new InstructionParseException("Error while parsing quest canceler objectives: " + e.getMessage(), e);
                 }
@@ -2,7 +2,6 @@ package org.betonquest.betonquest.conversation;
 
 import net.md_5.bungee.api.chat.BaseComponent;
 import net.md_5.bungee.api.chat.TextComponent;
-import org.apache.commons.lang3.tuple.Pair;
 import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.ConversationOptionEvent;
 import org.betonquest.betonquest.api.PlayerConversationEndEvent;
@@ -40,8 +39,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CancellationException;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -302,33 +299,19 @@ public class Conversation implements Listener {
      *
      * @param options list of pointers to player options separated by commas
      */
-    @SuppressWarnings("PMD.CognitiveComplexity")
     private void printOptions(final List<ResolvedOption> options) {
-        final List<Pair<ResolvedOption, List<CompletableFuture<Boolean>>>> futuresOptions = new ArrayList<>();
+        final List<List<ConditionID>> optionConditions = new ArrayList<>(options.size());
         for (final ResolvedOption option : options) {
-            final List<CompletableFuture<Boolean>> conditions = new ArrayList<>();
-            for (final ConditionID conditionID : option.conversationData().getConditionIDs(option.name(), option.type())) {
-                final CompletableFuture<Boolean> future = CompletableFuture.supplyAsync(
-                        () -> BetonQuest.condition(onlineProfile, conditionID));
-                conditions.add(future);
-            }
-            futuresOptions.add(Pair.of(option, conditions));
+            optionConditions.add(option.conversationData().getConditionIDs(option.name(), option.type()));
         }
+        final List<Boolean> available = plugin.getOptionConditionResolver().resolve(identifier, onlineProfile, optionConditions);
 
         int optionsCount = 0;
-        option:
-        for (final Pair<ResolvedOption, List<CompletableFuture<Boolean>>> future : futuresOptions) {
-            try {
-                for (final CompletableFuture<Boolean> completableFuture : future.getValue()) {
-                    if (!completableFuture.get(1, TimeUnit.SECONDS)) {
-                        continue option;
-                    }
-                }
-            } catch (final CancellationException | InterruptedException | ExecutionException | TimeoutException e) {
-                log.reportException(pack, e);
+        for (int i = 0; i < options.size(); i++) {
+            if (!available.get(i)) {
                 continue;
             }
-            final ResolvedOption option = future.getKey();
+            final ResolvedOption option = options.get(i);
             optionsCount++;
             availablePlayerOptions.put(optionsCount, option);
 
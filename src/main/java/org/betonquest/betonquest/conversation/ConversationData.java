@@ -270,7 +270,7 @@ public class ConversationData {
             final String[] array = rawFinalEvents.split(",");
             for (final String identifier : array) {
                 try {
-                    finalEvents.add(new EventID(pack, identifier));
+                    finalEvents.add(plugin.getIdTable().event(pack, identifier));
                 } catch (final ObjectNotFoundException e) {
                     throw new InstructionParseException("Error while loading final events: " + e.getMessage(), e);
                 }
@@ -724,7 +724,7 @@ public class ConversationData {
             try {
                 for (final String rawEvent : GlobalVariableResolver.resolve(pack, conv.getString("events", conv.getString("event", ""))).split(",")) {
                     if (!Objects.equals(rawEvent, "")) {
-                        events.add(new EventID(pack, rawEvent.trim()));
+                        events.add(plugin.getIdTable().event(pack, rawEvent.trim()));
                     }
                 }
             } catch (final ObjectNotFoundException e) {
@@ -737,7 +737,7 @@ public class ConversationData {
             try {
                 for (final String rawCondition : GlobalVariableResolver.resolve(pack, conv.getString("conditions", conv.getString("condition", ""))).split(",")) {
                     if (!rawCondition.isEmpty()) {
-                        conditions.add(new ConditionID(pack, rawCondition.trim()));
+                        conditions.add(plugin.getIdTable().condition(pack, rawCondition.trim()));
                     }
                 }
             } catch (final ObjectNotFoundException e) {
@@ -0,0 +1,201 @@
+package org.betonquest.betonquest.conversation;
+
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.profiles.Profile;
+import org.betonquest.betonquest.id.ConditionID;
+import org.betonquest.betonquest.id.ConversationID;
+import org.betonquest.betonquest.utils.LatencyHistogram;
+import org.betonquest.betonquest.utils.NamedDaemonThreadFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+
+/**
+ * Checks the conditions of conversation options on a dedicated thread pool.
+ * <p>
+ * The conditions of all options are checked at the same time under one deadline. A condition used by multiple
+ * options is only checked once. An option is not available as soon as one of its conditions is not met, and
+ * conditions that no undecided option needs anymore are not checked at all.
+ */
+@SuppressWarnings("PMD.DoNotUseThreads")
+public class OptionConditionResolver {
+    /**
+     * Custom {@link BetonQuestLogger} instance for this class.
+     */
+    private final BetonQuestLogger log;
+
+    /**
+     * Checks a single condition for a profile.
+     */
+    private final BiPredicate<Profile, ConditionID> checker;
+
+    /**
+     * The maximum time to wait for the conditions of all options in nanoseconds.
+     */
+    private final long timeoutNanos;
+
+    /**
+     * The threads checking the conditions.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The time resolving the options took for each conversation since the last reload.
+     */
+    private final Map<ConversationID, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new option resolver.
+     *
+     * @param log           the logger that will be used for logging
+     * @param checker       checks a single condition for a profile
+     * @param threads       the maximum amount of conditions checked at the same time
+     * @param timeoutMillis the maximum time to wait for the conditions of all options in milliseconds
+     */
+    public OptionConditionResolver(final BetonQuestLogger log, final BiPredicate<Profile, ConditionID> checker,
+                                   final int threads, final long timeoutMillis) {
+        this.log = log;
+        this.checker = checker;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        this.executor = Executors.newFixedThreadPool(threads, new NamedDaemonThreadFactory("BetonQuest Option Resolver"));
+    }
+
+    /**
+     * Checks which options are available. Options whose conditions are not decided before the deadline are not
+     * available.
+     *
+     * @param conversation     the conversation the options belong to
+     * @param profile          the profile to check the conditions for
+     * @param optionConditions the conditions of each option
+     * @return whether each option is available, in the same order as the given options
+     */
+    public List<Boolean> resolve(final ConversationID conversation, final Profile profile,
+                                 final List<List<ConditionID>> optionConditions) {
+        final long start = System.nanoTime();
+        final Map<ConditionID, CompletableFuture<Boolean>> checks = new LinkedHashMap<>();
+        final Map<ConditionID, AtomicInteger> users = new LinkedHashMap<>();
+        for (final List<ConditionID> conditions : optionConditions) {
+            for (final ConditionID conditionID : new LinkedHashSet<>(conditions)) {
+                users.computeIfAbsent(conditionID, id -> new AtomicInteger()).incrementAndGet();
+                checks.computeIfAbsent(conditionID, id -> new CompletableFuture<>());
+            }
+        }
+        final List<CompletableFuture<Boolean>> options = new ArrayList<>(optionConditions.size());
+        for (final List<ConditionID> conditions : optionConditions) {
+            options.add(decide(new LinkedHashSet<>(conditions), checks, users));
+        }
+        checks.forEach((conditionID, check) -> submit(profile, conditionID, check));
+
+        final List<Boolean> available = new ArrayList<>(options.size());
+        for (final CompletableFuture<Boolean> option : options) {
+            available.add(await(conversation, option, start + timeoutNanos));
+        }
+        checks.values().forEach(check -> check.cancel(false));
+        latencies.computeIfAbsent(conversation, id -> new LatencyHistogram()).record(System.nanoTime() - start);
+        return available;
+    }
+
+    private CompletableFuture<Boolean> decide(final Iterable<ConditionID> conditions,
+                                              final Map<ConditionID, CompletableFuture<Boolean>> checks,
+                                              final Map<ConditionID, AtomicInteger> users) {
+        final CompletableFuture<Boolean> option = new CompletableFuture<>();
+        final List<ConditionID> ids = new ArrayList<>();
+        conditions.forEach(ids::add);
+        if (ids.isEmpty()) {
+            option.complete(true);
+            return option;
+        }
+        final AtomicInteger pending = new AtomicInteger(ids.size());
+        for (final ConditionID conditionID : ids) {
+            checks.get(conditionID).whenComplete((met, exception) -> {
+                if (exception != null) {
+                    option.completeExceptionally(exception);
+                } else if (!met) {
+                    option.complete(false);
+                } else if (pending.decrementAndGet() == 0) {
+                    option.complete(true);
+                }
+            });
+        }
+        option.whenComplete((result, exception) -> {
+            for (final ConditionID conditionID : ids) {
+                if (users.get(conditionID).decrementAndGet() == 0) {
+                    checks.get(conditionID).cancel(false);
+                }
+            }
+        });
+        return option;
+    }
+
+    private void submit(final Profile profile, final ConditionID conditionID, final CompletableFuture<Boolean> check) {
+        final Runnable task = () -> {
+            if (check.isDone()) {
+                return;
+            }
+            try {
+                check.complete(checker.test(profile, conditionID));
+            } catch (final RuntimeException e) {
+                check.completeExceptionally(e);
+            }
+        };
+        try {
+            executor.execute(task);
+        } catch (final RejectedExecutionException e) {
+            task.run();
+        }
+    }
+
+    private boolean await(final ConversationID conversation, final CompletableFuture<Boolean> option, final long deadline) {
+        try {
+            return option.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e) {
+            log.warn(conversation.getPackage(), "Conditions of an option in conversation '" + conversation.getFullID()
+                    + "' were not checked in time, the option is hidden");
+            return false;
+        } catch (final ExecutionException e) {
+            log.reportException(conversation.getPackage(), e);
+            return false;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.reportException(conversation.getPackage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Gets the time resolving the options took for each conversation.
+     *
+     * @return the latency histograms by conversation
+     */
+    public Map<ConversationID, LatencyHistogram> getLatencies() {
+        return Collections.unmodifiableMap(latencies);
+    }
+
+    /**
+     * Forgets the time resolving the options took. Called on reload, so removed conversations are not kept.
+     */
+    public void clearLatencies() {
+        latencies.clear();
+    }
+
+    /**
+     * Stops the resolver threads.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -5,13 +5,21 @@ import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.betonquest.betonquest.config.Config;
 import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.event.Listener;
+import org.jetbrains.annotations.Nullable;
 
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Saves the data to the database asynchronously.
+ * <p>
+ * The connection is taken from the pool for each write and returned afterwards, so other threads can use it while
+ * the saver is idle.
  */
 @SuppressWarnings({"PMD.DoNotUseThreads", "PMD.AvoidSynchronizedStatement"})
 @SuppressFBWarnings("IS2_INCONSISTENT_SYNC")
@@ -28,15 +36,35 @@ public class AsyncSaver extends Thread implements Listener, Saver {
     private final Connector con;
 
     /**
-     * The queue of records to be saved to the database.
+     * The queue of records and barriers to be processed.
      */
-    private final Queue<Record> queue;
+    private final Queue<Pending> queue;
 
     /**
      * The amount of time, until the AsyncSaver tries to reconnect if there was an connection los
      */
     private final long reconnectInterval;
 
+    /**
+     * Whether records are coalesced and written in batches.
+     */
+    private final boolean batching;
+
+    /**
+     * The time in milliseconds to collect records before a batch is written.
+     */
+    private final long flushInterval;
+
+    /**
+     * The maximum amount of records written in one batch.
+     */
+    private final int maxBatchSize;
+
+    /**
+     * Statistics about the records written by this saver.
+     */
+    private final SaverStatistics statistics;
+
     /**
      * Whether the saver is currently running or not.
      */
@@ -48,54 +76,207 @@ public class AsyncSaver extends Thread implements Listener, Saver {
      * @param log the logger that will be used for logging
      */
     public AsyncSaver(final BetonQuestLogger log) {
+        this(log, new SaverStatistics());
+    }
+
+    /**
+     * Creates new database saver thread that reports to the given statistics.
+     *
+     * @param log        the logger that will be used for logging
+     * @param statistics the statistics to report the written records to
+     */
+    public AsyncSaver(final BetonQuestLogger log, final SaverStatistics statistics) {
         super();
         this.log = log;
         this.con = new Connector();
+        // the connection is only taken from the pool while writing
+        con.close();
         this.queue = new ConcurrentLinkedQueue<>();
         this.running = true;
         this.reconnectInterval = Long.parseLong(Config.getConfigString("mysql.reconnect_interval"));
+        final ConfigurationSection config = BetonQuest.getInstance().getPluginConfig();
+        this.batching = config.getBoolean("mysql.saver.batching", true);
+        this.flushInterval = Math.max(0, config.getLong("mysql.saver.flush_interval", 50));
+        this.maxBatchSize = Math.max(1, config.getInt("mysql.saver.max_batch_size", 1000));
+        this.statistics = statistics;
         Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
     }
 
     @Override
     @SuppressFBWarnings("UW_UNCOND_WAIT")
-    @SuppressWarnings("PMD.CognitiveComplexity")
     public void run() {
-        boolean active = false;
         while (true) {
-            while (queue.isEmpty()) {
-                if (!running) {
-                    return;
-                }
-                synchronized (this) {
+            synchronized (this) {
+                while (queue.isEmpty()) {
+                    if (!running) {
+                        return;
+                    }
                     try {
-                        active = false;
                         wait();
                     } catch (final InterruptedException e) {
                         log.warn("AsyncSaver got interrupted!");
                     }
                 }
             }
-            if (!active) {
-                while (!con.refresh()) {
-                    log.warn("Failed to re-establish connection with the database! Trying again in one second...");
-                    try {
-                        sleep(reconnectInterval);
-                    } catch (final InterruptedException e) {
-                        log.warn("AsyncSaver got interrupted!");
-                    }
-                }
-                active = true;
+            final Pending next = queue.peek();
+            final WriterBarrier barrier = next == null ? null : next.barrier();
+            if (barrier != null) {
+                queue.poll();
+                barrier.pass(this);
+                continue;
+            }
+            if (batching) {
+                flushBatch();
+            } else {
+                flushSingle();
+            }
+        }
+    }
+
+    /**
+     * Takes a connection from the pool, waiting until the database is reachable again if it is not.
+     */
+    private void connect() {
+        while (!con.refresh()) {
+            log.warn("Failed to re-establish connection with the database! Trying again in one second...");
+            try {
+                sleep(reconnectInterval);
+            } catch (final InterruptedException e) {
+                log.warn("AsyncSaver got interrupted!");
+            }
+        }
+    }
+
+    private void flushSingle() {
+        final Pending pending = queue.poll();
+        if (pending == null) {
+            return;
+        }
+        final Record rec = pending.rec();
+        if (rec == null) {
+            return;
+        }
+        try {
+            write(rec);
+        } finally {
+            pending.notifyWritten();
+        }
+    }
+
+    /**
+     * Waits for the flush window to collect more records, then writes them as one batch. A barrier ends the batch.
+     */
+    private void flushBatch() {
+        if (flushInterval > 0 && running && statistics.getQueueDepth() < maxBatchSize) {
+            try {
+                sleep(flushInterval);
+            } catch (final InterruptedException e) {
+                log.warn("AsyncSaver got interrupted!");
             }
-            final Record rec = queue.poll();
+        }
+        final RecordBatch batch = new RecordBatch();
+        final List<Pending> taken = new ArrayList<>();
+        while (batch.size() < maxBatchSize) {
+            final Pending pending = queue.peek();
+            final Record rec = pending == null ? null : pending.rec();
+            if (rec == null) {
+                break;
+            }
+            queue.poll();
+            batch.add(rec);
+            taken.add(pending);
+        }
+        statistics.recordDequeued(batch.size());
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            writeBatch(batch);
+        } finally {
+            taken.forEach(Pending::notifyWritten);
+        }
+    }
+
+    /**
+     * Coalesces the records of the batch and writes them in one transaction. If the transaction fails, the remaining
+     * records are written one by one, so a single broken record does not discard the whole batch.
+     *
+     * @param batch the batch to write
+     */
+    private void writeBatch(final RecordBatch batch) {
+        final long start = System.nanoTime();
+        boolean failed = false;
+        connect();
+        try {
+            con.updateSQLBatch(batch.getGroups());
+        } catch (final SQLException e) {
+            failed = true;
+            log.warn("Could not write a batch of " + batch.size() + " records, writing them one by one: " + e.getMessage(), e);
+            connect();
+            for (final Record remaining : batch.getRecords()) {
+                con.updateSQL(remaining.type(), remaining.args());
+            }
+        } finally {
+            con.close();
+        }
+        final long duration = System.nanoTime() - start;
+        statistics.recordFlush(batch.size(), batch.getCoalesced(), duration, failed);
+        log.debug("Wrote batch of " + batch.size() + " records (" + batch.getCoalesced() + " coalesced) in "
+                + duration / 1_000_000 + "ms, " + statistics.getQueueDepth() + " records still queued");
+    }
+
+    /**
+     * Writes a single record that was taken from the queue right away.
+     *
+     * @param rec the record to write
+     */
+    /* default */ void write(final Record rec) {
+        statistics.recordDequeued(1);
+        final long start = System.nanoTime();
+        connect();
+        try {
             con.updateSQL(rec.type(), rec.args());
+        } finally {
+            con.close();
         }
+        statistics.recordFlush(1, 0, System.nanoTime() - start, false);
+    }
+
+    /**
+     * Gets the statistics of this saver.
+     *
+     * @return the statistics
+     */
+    public SaverStatistics getStatistics() {
+        return statistics;
     }
 
     @Override
     public void add(final Record rec) {
+        enqueue(rec, null);
+    }
+
+    @Override
+    public void add(final Record rec, final Runnable written) {
+        enqueue(rec, written);
+    }
+
+    private void enqueue(final Record rec, @Nullable final Runnable written) {
         synchronized (this) {
-            queue.add(rec);
+            queue.add(new Pending(rec, null, written));
+            statistics.recordQueued();
+            notifyAll();
+        }
+    }
+
+    /**
+     * Adds a barrier to the queue. All records added before the barrier are written before it is passed.
+     *
+     * @param barrier the barrier to add
+     */
+    /* default */ void addBarrier(final WriterBarrier barrier) {
+        synchronized (this) {
+            queue.add(new Pending(null, barrier, null));
             notifyAll();
         }
     }
@@ -107,4 +288,22 @@ public class AsyncSaver extends Thread implements Listener, Saver {
             notifyAll();
         }
     }
+
+    /**
+     * An entry of the queue, either a record or a barrier.
+     *
+     * @param rec     the record to write
+     * @param barrier the barrier to pass
+     * @param written the callback to run once the record was written
+     */
+    private record Pending(@Nullable Record rec, @Nullable WriterBarrier barrier, @Nullable Runnable written) {
+        /**
+         * Runs the callback of the record if it has one.
+         */
+        private void notifyWritten() {
+            if (written != null) {
+                written.run();
+            }
+        }
+    }
 }
@@ -47,7 +47,7 @@ public final class Backup {
     @SuppressWarnings({"PMD.CognitiveComplexity", "PMD.CyclomaticComplexity"})
     public static boolean backupDatabase(final ConfigAccessorFactory configAccessorFactory, final File databaseBackupFile) {
         final BetonQuest instance = BetonQuest.getInstance();
-        try {
+        try (Connector database = new Connector()) {
             if (!databaseBackupFile.createNewFile()) {
                 LOG.warn("Could not create the backup file!");
                 return false;
@@ -59,8 +59,6 @@ public final class Backup {
             final Map<String, ResultSet> map = new HashMap<>();
             final String[] tables = {"objectives", "tags", "points", "journals", "player", "backpack", "global_points",
                     "global_tags", "migration", "player_profile", "profile"};
-            // open database connection
-            final Connector database = new Connector();
             // load resultsets into the map
             for (final String table : tables) {
                 LOG.debug("Loading " + table);
@@ -175,8 +173,11 @@ public final class Backup {
         con.updateSQL(UpdateType.DROP_MIRGATION);
         con.updateSQL(UpdateType.DROP_PROFILE);
         con.updateSQL(UpdateType.DROP_PLAYER_PROFILE);
+        // return the connection to the pool while the tables are created
+        con.close();
         // create new tables
         database.createTables();
+        con.refresh();
         // load objectives
         final ConfigurationSection objectives = config.getConfigurationSection("objectives");
         if (objectives != null) {
@@ -279,6 +280,7 @@ public final class Backup {
                         playerProfile.getString(key + ".name"));
             }
         }
+        con.close();
         // delete backup file so it doesn't get loaded again
         if (!file.delete()) {
             LOG.warn("Could not delete the backup file!");
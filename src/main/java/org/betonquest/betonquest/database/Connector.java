@@ -9,12 +9,17 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
  * Connects to the database and queries it.
+ * <p>
+ * The connector holds a connection from the pool of the {@link Database} until it is closed.
  */
-public class Connector {
+public class Connector implements AutoCloseable {
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
      */
@@ -31,13 +36,18 @@ public class Connector {
     private final Database database;
 
     /**
-     * Permanently active connection to the database.
+     * Connection to the database taken from the pool.
      */
     @Nullable
     private Connection connection;
 
     /**
-     * Opens a new connection to the database.
+     * Prepared statements for batched updates on the current connection.
+     */
+    private final Map<UpdateType, PreparedStatement> statementCache = new EnumMap<>(UpdateType.class);
+
+    /**
+     * Takes a new connection from the pool of the database.
      */
     public Connector() {
         final BetonQuest plugin = BetonQuest.getInstance();
@@ -48,24 +58,43 @@ public class Connector {
     }
 
     /**
-     * This method should be used before any other database operations.
+     * Ensures this connector holds an open connection, taking a new one from the pool if the connector was
+     * closed or the connection was lost. The pool validates connections on checkout, so no query is sent here.
      *
      * @return true if the connection is refreshed successfully
      */
-    @SuppressFBWarnings({"ODR_OPEN_DATABASE_RESOURCE", "OBL_UNSATISFIED_OBLIGATION"})
     public final boolean refresh() {
-        if (connection == null) {
+        try {
+            if (connection != null && !connection.isClosed()) {
+                return true;
+            }
+        } catch (final SQLException e) {
+            log.warn("Database connection was lost, reconnecting...", e);
+        }
+        clearStatementCache();
+        try {
             connection = database.getConnection();
-        } else {
+        } catch (final IllegalStateException e) {
+            connection = null;
+        }
+        return connection != null;
+    }
+
+    /**
+     * Returns the connection of this connector to the pool.
+     * The connector can be used again after calling {@link #refresh()}.
+     */
+    @Override
+    public void close() {
+        clearStatementCache();
+        if (connection != null) {
             try {
-                connection.prepareStatement("SELECT 1").executeQuery().close();
+                connection.close();
             } catch (final SQLException e) {
-                log.warn("Database connection was lost, reconnecting...", e);
-                database.closeConnection();
-                connection = database.getConnection();
+                log.warn("Could not return the database connection to the pool", e);
             }
+            connection = null;
         }
-        return connection != null;
     }
 
     /**
@@ -104,6 +133,53 @@ public class Connector {
         }
     }
 
+    /**
+     * Queries the database with all given types, each using the same arguments. If the database supports multiple
+     * statements in one query, all types are sent in a single round-trip.
+     *
+     * @param types   the types of the queries in the order they are handled
+     * @param handler handler for the result of each query
+     * @param args    arguments used for each of the queries
+     * @throws SQLException if a query failed or the handler threw an exception
+     */
+    @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
+    public void querySQL(final List<QueryType> types, final ResultHandler handler, final String... args) throws SQLException {
+        final Connection current = Objects.requireNonNull(connection);
+        if (!database.isMultiQuerySupported()) {
+            for (final QueryType type : types) {
+                try (PreparedStatement statement = current.prepareStatement(type.createSql(prefix))) {
+                    setArguments(statement, 0, args);
+                    try (ResultSet result = statement.executeQuery()) {
+                        handler.handle(type, result);
+                    }
+                }
+            }
+            return;
+        }
+        final StringBuilder sql = new StringBuilder();
+        for (final QueryType type : types) {
+            sql.append(type.createSql(prefix));
+        }
+        try (PreparedStatement statement = current.prepareStatement(sql.toString())) {
+            for (int i = 0; i < types.size(); i++) {
+                setArguments(statement, i * args.length, args);
+            }
+            statement.execute();
+            for (final QueryType type : types) {
+                try (ResultSet result = statement.getResultSet()) {
+                    handler.handle(type, result);
+                }
+                statement.getMoreResults();
+            }
+        }
+    }
+
+    private void setArguments(final PreparedStatement statement, final int offset, final String... args) throws SQLException {
+        for (int i = 0; i < args.length; i++) {
+            statement.setString(offset + i + 1, args[i]);
+        }
+    }
+
     /**
      * Updates the database with the given type and arguments.
      *
@@ -123,6 +199,81 @@ public class Connector {
         }
     }
 
+    /**
+     * Executes the given groups of records in a single transaction. All records of a group must have the same
+     * {@link UpdateType} and are sent to the database as one batch using a cached prepared statement.
+     * If any statement fails, the whole transaction is rolled back.
+     *
+     * @param groups the groups of records to execute in order
+     * @throws SQLException if the transaction failed and was rolled back
+     */
+    @SuppressWarnings("PMD.CloseResource")
+    public void updateSQLBatch(final List<List<Saver.Record>> groups) throws SQLException {
+        final Connection current = Objects.requireNonNull(connection);
+        final boolean autoCommit = current.getAutoCommit();
+        current.setAutoCommit(false);
+        try {
+            for (final List<Saver.Record> group : groups) {
+                final PreparedStatement statement = getCachedStatement(current, group.get(0).type());
+                for (final Saver.Record rec : group) {
+                    final String[] args = rec.args();
+                    for (int i = 0; i < args.length; i++) {
+                        statement.setString(i + 1, args[i]);
+                    }
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+            current.commit();
+        } catch (final SQLException e) {
+            clearStatementCache();
+            try {
+                current.rollback();
+            } catch (final SQLException rollbackException) {
+                e.addSuppressed(rollbackException);
+            }
+            throw e;
+        } finally {
+            current.setAutoCommit(autoCommit);
+        }
+    }
+
+    @SuppressFBWarnings("OBL_UNSATISFIED_OBLIGATION")
+    private PreparedStatement getCachedStatement(final Connection current, final UpdateType type) throws SQLException {
+        PreparedStatement statement = statementCache.get(type);
+        if (statement == null || statement.isClosed()) {
+            statement = current.prepareStatement(type.createSql(prefix));
+            statementCache.put(type, statement);
+        }
+        return statement;
+    }
+
+    private void clearStatementCache() {
+        for (final PreparedStatement statement : statementCache.values()) {
+            try {
+                statement.close();
+            } catch (final SQLException e) {
+                log.debug("Could not close a cached statement", e);
+            }
+        }
+        statementCache.clear();
+    }
+
+    /**
+     * Handler for the result of one of multiple queries.
+     */
+    @FunctionalInterface
+    public interface ResultHandler {
+        /**
+         * Handles the result of the query.
+         *
+         * @param type   the type of the query
+         * @param result the result of the query
+         * @throws SQLException if there is an error reading the result
+         */
+        void handle(QueryType type, ResultSet result) throws SQLException;
+    }
+
     /**
      * Resolver for variables in prepared statements.
      */
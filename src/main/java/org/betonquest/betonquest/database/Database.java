@@ -1,13 +1,13 @@
 package org.betonquest.betonquest.database;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
 import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.Nullable;
 
 import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Set;
 import java.util.SortedMap;
@@ -15,6 +15,8 @@ import java.util.SortedMap;
 /**
  * Abstract Database class, serves as a base for any connection method (MySQL,
  * SQLite, etc.)
+ * <p>
+ * Connections are taken from a connection pool and must be closed after use to return them to the pool.
  */
 @SuppressWarnings({"PMD.CommentRequired", "PMD.AvoidDuplicateLiterals"})
 public abstract class Database {
@@ -29,8 +31,11 @@ public abstract class Database {
      */
     private final BetonQuestLogger log;
 
+    /**
+     * The connection pool, created on first use.
+     */
     @Nullable
-    protected Connection con;
+    private HikariDataSource dataSource;
 
     protected Database(final BetonQuestLogger log, final BetonQuest plugin) {
         this.log = log;
@@ -39,55 +44,73 @@ public abstract class Database {
         this.profileInitialName = plugin.getPluginConfig().getString("profiles.initial_name", "");
     }
 
+    /**
+     * Takes a connection from the pool. The pool validates connections that were idle for a while before handing
+     * them out, so the connection can be used right away. It must be closed after use to return it to the pool.
+     *
+     * @return a connection to the database
+     * @throws IllegalStateException if no connection could be established
+     */
     public Connection getConnection() {
         try {
-            if (con == null || con.isClosed() || isConnectionBroken(con)) {
-                con = openConnection();
-            }
-        } catch (final SQLException e) {
+            return getDataSource().getConnection();
+        } catch (final SQLException | RuntimeException e) {
             log.error("Failed opening database connection!", e);
+            throw new IllegalStateException("Not able to create a database connection!", e);
         }
-        if (con == null) {
-            throw new IllegalStateException("Not able to create a database connection!");
-        }
-        return con;
     }
 
-    private boolean isConnectionBroken(final Connection connection) throws SQLException {
-        try {
-            try (PreparedStatement stmnt = connection.prepareStatement("SELECT 1");
-                 ResultSet result = stmnt.executeQuery()) {
-                return !result.next();
-            }
-        } catch (final SQLException e) {
-            return true;
+    private synchronized HikariDataSource getDataSource() {
+        if (dataSource == null || dataSource.isClosed()) {
+            final HikariConfig config = createPoolConfig();
+            config.setPoolName("BetonQuest-" + getClass().getSimpleName());
+            dataSource = new HikariDataSource(config);
         }
+        return dataSource;
     }
 
-    protected abstract Connection openConnection() throws SQLException;
+    /**
+     * Creates the configuration of the connection pool, containing at least the JDBC URL and the pool size.
+     *
+     * @return the pool configuration
+     */
+    protected abstract HikariConfig createPoolConfig();
+
+    /**
+     * Gets the amount of threads that may write to this database at the same time.
+     *
+     * @return the maximum amount of concurrent writers
+     */
+    public abstract int getMaxWriters();
 
-    public void closeConnection() {
-        if (con != null) {
-            try {
-                con.close();
-            } catch (final SQLException e) {
-                log.error("Failed to close the database connection!", e);
-            }
+    /**
+     * Checks if multiple statements can be sent to the database in one query.
+     *
+     * @return true if multiple statements are supported in one query
+     */
+    public abstract boolean isMultiQuerySupported();
+
+    /**
+     * Closes all connections of the pool.
+     */
+    public synchronized void closeConnection() {
+        if (dataSource != null) {
+            dataSource.close();
         }
-        con = null;
+        dataSource = null;
     }
 
     public final void createTables() {
-        try {
+        try (Connection connection = getConnection()) {
             final SortedMap<MigrationKey, DatabaseUpdate> migrations = getMigrations();
-            final Set<MigrationKey> executedMigrations = queryExecutedMigrations(getConnection());
+            final Set<MigrationKey> executedMigrations = queryExecutedMigrations(connection);
             executedMigrations.forEach(migrations::remove);
 
             while (!migrations.isEmpty()) {
                 final MigrationKey key = migrations.firstKey();
                 final DatabaseUpdate migration = migrations.remove(key);
-                migration.executeUpdate(getConnection());
-                markMigrationExecuted(getConnection(), key);
+                migration.executeUpdate(connection);
+                markMigrationExecuted(connection, key);
             }
         } catch (final SQLException sqlException) {
             log.error("There was an exception with SQL while creating the database tables!", sqlException);
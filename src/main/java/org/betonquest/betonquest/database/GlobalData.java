@@ -41,8 +41,7 @@ public class GlobalData implements TagData {
      * Loads all data for the player and puts it in appropriate lists.
      */
     public final void loadAllGlobalData() {
-        try {
-            final Connector con = new Connector();
+        try (Connector con = new Connector()) {
             try (ResultSet globalTags = con.querySQL(QueryType.LOAD_ALL_GLOBAL_TAGS);
                  ResultSet globalPoints = con.querySQL(QueryType.LOAD_ALL_GLOBAL_POINTS)) {
                 while (globalTags.next()) {
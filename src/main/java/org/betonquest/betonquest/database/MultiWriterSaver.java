@@ -0,0 +1,125 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.logger.BetonQuestLoggerFactory;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Saves the data to the database with multiple {@link AsyncSaver} threads.
+ * <p>
+ * Records of the same profile are always written by the same writer, so their order is kept. Records affecting
+ * multiple profiles are passed to all writers as a {@link WriterBarrier} and written after all earlier records.
+ */
+@SuppressWarnings({"PMD.DoNotUseThreads", "PMD.AvoidSynchronizedStatement"})
+public class MultiWriterSaver implements Saver {
+    /**
+     * Key used for records of global data, which are not bound to a profile but don't conflict with profile data.
+     */
+    /* default */ static final String GLOBAL_KEY = "global";
+
+    /**
+     * Custom {@link BetonQuestLogger} instance for this class.
+     */
+    private final BetonQuestLogger log;
+
+    /**
+     * The writers.
+     */
+    private final List<AsyncSaver> writers;
+
+    /**
+     * Statistics shared by all writers.
+     */
+    private final SaverStatistics statistics;
+
+    /**
+     * Creates a new saver with the given amount of writer threads.
+     *
+     * @param loggerFactory the logger factory to create loggers for the writers
+     * @param log           the logger that will be used for logging
+     * @param writerCount   the amount of writer threads
+     */
+    public MultiWriterSaver(final BetonQuestLoggerFactory loggerFactory, final BetonQuestLogger log, final int writerCount) {
+        this.log = log;
+        this.statistics = new SaverStatistics();
+        this.writers = new ArrayList<>(writerCount);
+        for (int i = 0; i < writerCount; i++) {
+            final AsyncSaver writer = new AsyncSaver(loggerFactory.create(AsyncSaver.class, "Database"), statistics);
+            writer.setName("BetonQuest Database Writer " + i);
+            writers.add(writer);
+        }
+    }
+
+    /**
+     * Starts all writer threads.
+     */
+    public void start() {
+        writers.forEach(Thread::start);
+    }
+
+    /**
+     * Gets the key that decides which writer writes the record.
+     *
+     * @param rec the record
+     * @return the partition key or null if the record affects all profiles
+     */
+    @Nullable
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    /* default */ static String partitionKey(final Record rec) {
+        return switch (rec.type()) {
+            case ADD_OBJECTIVES, ADD_TAGS, ADD_POINTS, ADD_JOURNAL, ADD_BACKPACK, ADD_PROFILE,
+                 REMOVE_OBJECTIVES, REMOVE_TAGS, REMOVE_POINTS, REMOVE_JOURNAL, REMOVE_PROFILE, REMOVE_PLAYER_PROFILE,
+                 DELETE_OBJECTIVES, DELETE_TAGS, DELETE_POINTS, DELETE_JOURNAL, DELETE_BACKPACK -> rec.args()[0];
+            case ADD_PLAYER, ADD_PLAYER_PROFILE, UPDATE_CONVERSATION, UPDATE_PLAYER_LANGUAGE, UPDATE_PROFILE_NAME,
+                 UPDATE_OBJECTIVES ->
+                    rec.args()[1];
+            case ADD_GLOBAL_TAGS, ADD_GLOBAL_POINTS, REMOVE_GLOBAL_TAGS, REMOVE_GLOBAL_POINTS,
+                 DELETE_GLOBAL_TAGS, DELETE_GLOBAL_POINTS, RENAME_ALL_GLOBAL_POINTS -> GLOBAL_KEY;
+            default -> null;
+        };
+    }
+
+    @Override
+    public void add(final Record rec) {
+        add(rec, null, partitionKey(rec));
+    }
+
+    @Override
+    public void add(final Record rec, final Runnable written) {
+        add(rec, written, partitionKey(rec));
+    }
+
+    private void add(final Record rec, @Nullable final Runnable written, @Nullable final String key) {
+        if (key != null) {
+            final AsyncSaver writer = writers.get(Math.floorMod(key.hashCode(), writers.size()));
+            if (written == null) {
+                writer.add(rec);
+            } else {
+                writer.add(rec, written);
+            }
+            return;
+        }
+        synchronized (this) {
+            statistics.recordQueued();
+            final WriterBarrier barrier = new WriterBarrier(log, rec, writers.get(0), writers.size(), written);
+            writers.forEach(writer -> writer.addBarrier(barrier));
+        }
+    }
+
+    /**
+     * Gets the statistics of all writers.
+     *
+     * @return the statistics
+     */
+    public SaverStatistics getStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public void end() {
+        writers.forEach(AsyncSaver::end);
+    }
+}
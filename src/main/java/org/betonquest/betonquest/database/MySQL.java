@@ -1,12 +1,12 @@
 package org.betonquest.betonquest.database;
 
+import com.zaxxer.hikari.HikariConfig;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.jetbrains.annotations.Nullable;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -36,6 +36,16 @@ public class MySQL extends Database {
 
     private final String hostname;
 
+    /**
+     * The maximum amount of pooled connections.
+     */
+    private final int poolSize;
+
+    /**
+     * Whether the connector class was already checked.
+     */
+    private boolean driverChecked;
+
     /**
      * Creates a new MySQL instance
      *
@@ -55,26 +65,54 @@ public class MySQL extends Database {
         this.database = database;
         this.user = username;
         this.password = password;
+        this.poolSize = Math.max(1, plugin.getPluginConfig().getInt("mysql.pool_size", 5));
     }
 
     @Override
-    public Connection openConnection() {
-        Connection connection = null;
+    protected HikariConfig createPoolConfig() {
+        final HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:mysql://" + this.hostname + ":" + this.port + "/" + this.database + "?&useSSL=false&allowMultiQueries=true");
+        config.setUsername(this.user);
+        config.setPassword(this.password);
+        config.setMaximumPoolSize(poolSize);
+        config.setMinimumIdle(Math.min(2, poolSize));
+        config.addDataSourceProperty("cachePrepStmts", "true");
+        config.addDataSourceProperty("prepStmtCacheSize", "250");
+        config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+        config.addDataSourceProperty("useServerPrepStmts", "true");
+        config.addDataSourceProperty("rewriteBatchedStatements", "true");
+        return config;
+    }
+
+    @Override
+    public Connection getConnection() {
+        final Connection connection = super.getConnection();
+        if (!driverChecked) {
+            driverChecked = true;
+            checkDriver(connection);
+        }
+        return connection;
+    }
+
+    private void checkDriver(final Connection connection) {
         try {
-            Class.forName("com.mysql.jdbc.Driver");
-            connection = DriverManager.getConnection(
-                    "jdbc:mysql://" + this.hostname + ":" + this.port + "/" + this.database + "?&useSSL=false", this.user, this.password);
-            final String connectionClassName = connection.getClass().getName();
+            final String connectionClassName = connection.unwrap(Connection.class).getClass().getName();
             if (!connectionClassName.startsWith("com.mysql.")) {
                 log.warn("External source modified or changed the MySQL connector! We can not guarantee that BetonQuest will work correctly with this connector: " + connectionClassName);
             }
-        } catch (final ClassNotFoundException | SQLException e) {
-            log.warn("MySQL says: " + e.getMessage(), e);
-        }
-        if (connection == null) {
-            throw new IllegalStateException("Not able to create a database connection!");
+        } catch (final SQLException e) {
+            log.debug("Could not check the MySQL connector: " + e.getMessage(), e);
         }
-        return connection;
+    }
+
+    @Override
+    public int getMaxWriters() {
+        return Math.max(1, poolSize - 1);
+    }
+
+    @Override
+    public boolean isMultiQuerySupported() {
+        return true;
     }
 
     @Override
@@ -105,7 +143,7 @@ public class MySQL extends Database {
 
     @Override
     protected void markMigrationExecuted(final Connection connection, final MigrationKey migrationKey) throws SQLException {
-        try (PreparedStatement statement = getConnection().prepareStatement("INSERT INTO " + prefix + "migration (namespace, migration_id) VALUES (?,?)")) {
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO " + prefix + "migration (namespace, migration_id) VALUES (?,?)")) {
             statement.setString(1, migrationKey.namespace());
             statement.setInt(2, migrationKey.version());
             statement.executeUpdate();
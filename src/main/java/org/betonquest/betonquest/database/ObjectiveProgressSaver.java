@@ -0,0 +1,191 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.api.QuestDataUpdateEvent;
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.profiles.Profile;
+import org.betonquest.betonquest.database.Saver.Record;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Collects changed objective data and writes it to the database in intervals instead of on every change.
+ * <p>
+ * Each changed objective of a profile is written as a single {@link UpdateType#UPDATE_OBJECTIVES} record with its
+ * latest data, no matter how often it changed since the last flush. The {@link QuestDataUpdateEvent} and the journal
+ * update are done at most once per tick for each changed objective and profile.
+ * <p>
+ * All methods are thread safe.
+ */
+public class ObjectiveProgressSaver {
+    /**
+     * Custom {@link BetonQuestLogger} instance for this class.
+     */
+    private final BetonQuestLogger log;
+
+    /**
+     * The saver to write the changed data with.
+     */
+    private final Saver saver;
+
+    /**
+     * Calls the update event on the primary server thread.
+     */
+    private final Consumer<QuestDataUpdateEvent> eventCaller;
+
+    /**
+     * Updates the journal of a profile.
+     */
+    private final Consumer<Profile> journalUpdater;
+
+    /**
+     * Objective data that changed since the last flush.
+     */
+    private final Map<ProgressKey, Supplier<String>> dirty = new ConcurrentHashMap<>();
+
+    /**
+     * Objective data that changed since the last tick.
+     */
+    private final Map<ProgressKey, Supplier<String>> changed = new ConcurrentHashMap<>();
+
+    /**
+     * The amount of changes.
+     */
+    private final LongAdder changes = new LongAdder();
+
+    /**
+     * The amount of records written.
+     */
+    private final LongAdder writes = new LongAdder();
+
+    /**
+     * Creates a new objective progress saver.
+     *
+     * @param log            the logger that will be used for logging
+     * @param saver          the saver to write the changed data with
+     * @param eventCaller    calls the update event on the primary server thread
+     * @param journalUpdater updates the journal of a profile
+     */
+    public ObjectiveProgressSaver(final BetonQuestLogger log, final Saver saver,
+                                  final Consumer<QuestDataUpdateEvent> eventCaller, final Consumer<Profile> journalUpdater) {
+        this.log = log;
+        this.saver = saver;
+        this.eventCaller = eventCaller;
+        this.journalUpdater = journalUpdater;
+    }
+
+    /**
+     * Marks the data of an objective as changed. The data is read when it is written.
+     *
+     * @param profile     the profile the data belongs to
+     * @param objectiveID the full ID of the objective
+     * @param data        supplies the current data instruction of the objective
+     */
+    public void markDirty(final Profile profile, final String objectiveID, final Supplier<String> data) {
+        final ProgressKey key = new ProgressKey(profile, objectiveID);
+        changes.increment();
+        dirty.put(key, data);
+        changed.put(key, data);
+    }
+
+    /**
+     * Writes the data of an objective now, if it changed since the last flush.
+     *
+     * @param profile     the profile the data belongs to
+     * @param objectiveID the full ID of the objective
+     */
+    public void flush(final Profile profile, final String objectiveID) {
+        final ProgressKey key = new ProgressKey(profile, objectiveID);
+        final Supplier<String> data = dirty.remove(key);
+        if (data != null) {
+            write(key, data.get());
+        }
+    }
+
+    /**
+     * Writes the data of all objectives that changed since the last flush.
+     */
+    public void flushAll() {
+        for (final ProgressKey key : dirty.keySet()) {
+            final Supplier<String> data = dirty.remove(key);
+            if (data != null) {
+                write(key, data.get());
+            }
+        }
+    }
+
+    private void write(final ProgressKey key, final String data) {
+        writes.increment();
+        saver.add(new Record(UpdateType.UPDATE_OBJECTIVES, data, key.profile().getProfileUUID().toString(), key.objectiveID()));
+    }
+
+    /**
+     * Calls the update events and updates the journals for all objectives that changed since the last tick.
+     * Must be called on the primary server thread.
+     */
+    public void tick() {
+        if (changed.isEmpty()) {
+            return;
+        }
+        final Set<Profile> profiles = new HashSet<>();
+        for (final ProgressKey key : changed.keySet()) {
+            final Supplier<String> data = changed.remove(key);
+            if (data != null) {
+                eventCaller.accept(new QuestDataUpdateEvent(key.profile(), key.objectiveID(), data.get()));
+                profiles.add(key.profile());
+            }
+        }
+        profiles.forEach(journalUpdater);
+    }
+
+    /**
+     * Writes all remaining changes and logs the statistics.
+     */
+    public void end() {
+        flushAll();
+        log.debug("Objective progress: " + getChanges() + " changes, " + getWrites() + " writes, "
+                + getCoalescedWrites() + " coalesced");
+    }
+
+    /**
+     * Gets the amount of changes marked since the start.
+     *
+     * @return the amount of changes
+     */
+    public long getChanges() {
+        return changes.sum();
+    }
+
+    /**
+     * Gets the amount of records written since the start.
+     *
+     * @return the amount of writes
+     */
+    public long getWrites() {
+        return writes.sum();
+    }
+
+    /**
+     * Gets the amount of changes that did not need a write of their own, because a later change of the same
+     * objective was written together with them.
+     *
+     * @return the amount of coalesced writes
+     */
+    public long getCoalescedWrites() {
+        return Math.max(0, changes.sum() - writes.sum() - dirty.size());
+    }
+
+    /**
+     * The objective of a profile.
+     *
+     * @param profile     the profile
+     * @param objectiveID the full ID of the objective
+     */
+    private record ProgressKey(Profile profile, String objectiveID) {
+    }
+}
@@ -33,8 +33,13 @@ import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Represents an object storing all profile-related data, which can load and save it.
+ * <p>
+ * The same instance is shared by all threads, for example the cached data of an offline profile is changed by
+ * asynchronous events as well. So all changes are guarded: the collections are concurrent and changes that
+ * check before they modify are synchronized.
  */
-@SuppressWarnings({"PMD.TooManyMethods", "PMD.CommentRequired", "PMD.AvoidDuplicateLiterals", "PMD.AvoidSynchronizedStatement"})
+@SuppressWarnings({"PMD.TooManyMethods", "PMD.CommentRequired", "PMD.AvoidDuplicateLiterals", "PMD.AvoidSynchronizedStatement",
+        "PMD.AvoidUsingVolatile"})
 @SuppressFBWarnings("JLM_JSR166_UTILCONCURRENT_MONITORENTER")
 public class PlayerData implements TagData {
     /**
@@ -42,13 +47,19 @@ public class PlayerData implements TagData {
      */
     private static final String DEFAULT_LANGUAGE_KEY = "default";
 
+    /**
+     * The queries needed to load all data of a profile.
+     */
+    private static final List<QueryType> PROFILE_QUERIES = List.of(QueryType.SELECT_OBJECTIVES, QueryType.SELECT_TAGS,
+            QueryType.SELECT_JOURNAL, QueryType.SELECT_POINTS, QueryType.SELECT_BACKPACK, QueryType.SELECT_PLAYER);
+
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
      */
     private final BetonQuestLogger log = BetonQuest.getInstance().getLoggerFactory().create(getClass());
 
     @SuppressWarnings("PMD.DoNotUseThreads")
-    private final Saver saver = BetonQuest.getInstance().getSaver();
+    private final Saver saver;
 
     private final Profile profile;
 
@@ -63,9 +74,12 @@ public class PlayerData implements TagData {
     private final Map<String, String> objectives = new ConcurrentHashMap<>();
 
     @Nullable
-    private Journal journal;
+    private volatile Journal journal;
 
-    private List<ItemStack> backpack = new CopyOnWriteArrayList<>();
+    /**
+     * The items in the backpack. Changes are guarded by the list itself.
+     */
+    private final List<ItemStack> backpack = new CopyOnWriteArrayList<>();
 
     /**
      * The state of a conversation the player is in.
@@ -73,7 +87,7 @@ public class PlayerData implements TagData {
     @Nullable
     private PlayerConversationState activeConversation;
 
-    private String profileLanguage = DEFAULT_LANGUAGE_KEY;
+    private volatile String profileLanguage = DEFAULT_LANGUAGE_KEY;
 
     /**
      * Loads the PlayerData of the given {@link Profile}.
@@ -81,60 +95,75 @@ public class PlayerData implements TagData {
      * @param profile - the profile to load the data for
      */
     public PlayerData(final Profile profile) {
+        this(profile, BetonQuest.getInstance().getSaver());
+    }
+
+    /**
+     * Loads the PlayerData of the given {@link Profile} that saves its changes with the given saver.
+     *
+     * @param profile - the profile to load the data for
+     * @param saver   - the saver to save changes with
+     */
+    public PlayerData(final Profile profile, final Saver saver) {
         this.profile = profile;
+        this.saver = saver;
         this.profileID = profile.getProfileUUID().toString();
         loadAllPlayerData();
     }
 
     /**
      * Loads all data for the profile and puts it in appropriate lists.
+     * All queries are sent to the database in one round-trip if the database supports it.
      */
-    @SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.NPathComplexity", "PMD.CognitiveComplexity", "PMD.AvoidDuplicateLiterals"})
+    @SuppressWarnings("PMD.AvoidDuplicateLiterals")
     public final void loadAllPlayerData() {
-        try {
-
-            final Connector con = new Connector();
-
-            try (ResultSet objectiveResults = con.querySQL(QueryType.SELECT_OBJECTIVES, profileID);
-                 ResultSet tagResults = con.querySQL(QueryType.SELECT_TAGS, profileID);
-                 ResultSet journalResults = con.querySQL(QueryType.SELECT_JOURNAL, profileID);
-                 ResultSet pointResults = con.querySQL(QueryType.SELECT_POINTS, profileID);
-                 ResultSet backpackResults = con.querySQL(QueryType.SELECT_BACKPACK, profileID);
-                 ResultSet profileResult = con.querySQL(QueryType.SELECT_PLAYER, profileID)) {
+        try (Connector con = new Connector()) {
+            con.querySQL(PROFILE_QUERIES, this::loadResult, profileID);
+            log.debug("Loaded " + objectives.size() + " objectives, " + tags.size() + " tags, " + points.size()
+                    + " points, " + entries.size() + " journal entries and " + backpack.size()
+                    + " items for " + profile);
+        } catch (final SQLException e) {
+            log.error("There was an exception with SQL", e);
+        }
+    }
 
-                while (objectiveResults.next()) {
-                    objectives.put(objectiveResults.getString("objective"), objectiveResults.getString("instructions"));
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    private void loadResult(final QueryType type, final ResultSet result) throws SQLException {
+        switch (type) {
+            case SELECT_OBJECTIVES -> {
+                while (result.next()) {
+                    objectives.put(result.getString("objective"), result.getString("instructions"));
                 }
-
-                while (tagResults.next()) {
-                    tags.add(tagResults.getString("tag"));
+            }
+            case SELECT_TAGS -> {
+                while (result.next()) {
+                    tags.add(result.getString("tag"));
                 }
-
-                while (journalResults.next()) {
-                    entries.add(new Pointer(journalResults.getString("pointer"), journalResults.getTimestamp("date").getTime()));
+            }
+            case SELECT_JOURNAL -> {
+                while (result.next()) {
+                    entries.add(new Pointer(result.getString("pointer"), result.getTimestamp("date").getTime()));
                 }
-
-                while (pointResults.next()) {
-                    points.add(new Point(pointResults.getString("category"), pointResults.getInt("count")));
+            }
+            case SELECT_POINTS -> {
+                while (result.next()) {
+                    points.add(new Point(result.getString("category"), result.getInt("count")));
                 }
-
-                while (backpackResults.next()) {
-                    addItemToBackpack(backpackResults);
+            }
+            case SELECT_BACKPACK -> {
+                while (result.next()) {
+                    addItemToBackpack(result);
                 }
-
-                if (profileResult.next()) {
-                    loadLanguage(profileResult);
-                    loadActiveConversation(profileResult);
+            }
+            case SELECT_PLAYER -> {
+                if (result.next()) {
+                    loadLanguage(result);
+                    loadActiveConversation(result);
                 } else {
                     setupProfile();
                 }
-
-                log.debug("Loaded " + objectives.size() + " objectives, " + tags.size() + " tags, " + points.size()
-                        + " points, " + entries.size() + " journal entries and " + backpack.size()
-                        + " items for " + profile);
             }
-        } catch (final SQLException e) {
-            log.error("There was an exception with SQL", e);
+            default -> throw new IllegalArgumentException("Unexpected query type: " + type);
         }
     }
 
@@ -333,10 +362,16 @@ public class PlayerData implements TagData {
      * @return new Journal instance
      */
     public Journal getJournal() {
-        if (journal == null) {
-            journal = new Journal(profile, profileLanguage, entries, BetonQuest.getInstance().getPluginConfig());
+        final Journal current = journal;
+        if (current != null) {
+            return current;
+        }
+        synchronized (entries) {
+            if (journal == null) {
+                journal = new Journal(profile, profileLanguage, entries, BetonQuest.getInstance().getPluginConfig());
+            }
+            return journal;
         }
-        return journal;
     }
 
     /**
@@ -348,7 +383,7 @@ public class PlayerData implements TagData {
         for (final Map.Entry<String, String> entry : objectives.entrySet()) {
             final String objective = entry.getKey();
             try {
-                final ObjectiveID objectiveID = new ObjectiveID(null, objective);
+                final ObjectiveID objectiveID = BetonQuest.getInstance().getIdTable().objective(null, objective);
                 BetonQuest.resumeObjective(profile, objectiveID, entry.getValue());
             } catch (final ObjectNotFoundException e) {
                 log.warn("Loaded '" + objective
@@ -394,11 +429,7 @@ public class PlayerData implements TagData {
      * already there
      */
     public boolean addRawObjective(final String objectiveID, final String data) {
-        if (objectives.containsKey(objectiveID)) {
-            return false;
-        }
-        objectives.put(objectiveID, data);
-        return true;
+        return objectives.putIfAbsent(objectiveID, data) == null;
     }
 
     /**
@@ -436,7 +467,9 @@ public class PlayerData implements TagData {
      * @return list of itemstacks
      */
     public List<ItemStack> getBackpack() {
-        return (List<ItemStack>) copyItemList(backpack, new ArrayList<>());
+        synchronized (backpack) {
+            return (List<ItemStack>) copyItemList(backpack, new ArrayList<>());
+        }
     }
 
     /**
@@ -445,8 +478,11 @@ public class PlayerData implements TagData {
      * @param list list of all items in the backpack
      */
     public void setBackpack(final List<ItemStack> list) {
-        this.backpack = (List<ItemStack>) copyItemList(list, new CopyOnWriteArrayList<>());
-        refreshBackpack(list);
+        synchronized (backpack) {
+            backpack.clear();
+            backpack.addAll(copyItemList(list, new ArrayList<>()));
+            refreshBackpack(list);
+        }
     }
 
     /**
@@ -466,42 +502,44 @@ public class PlayerData implements TagData {
      */
     @SuppressWarnings("PMD.CognitiveComplexity")
     public void addItem(final ItemStack item, final int amount) {
-        int inputAmount = amount;
-        for (final ItemStack itemStack : backpack) {
-            if (item.isSimilar(itemStack)) {
-                // if items are similar they can be joined in a single itemstack
-                if (inputAmount + itemStack.getAmount() <= itemStack.getMaxStackSize()) {
-                    // if they will fit all together, then just add them
-                    itemStack.setAmount(itemStack.getAmount() + inputAmount);
-                    inputAmount = 0; // this will allow for passing the while loop
-                    break;
-                } else {
-                    // if the stack will be overflown, set max size and continue
-                    inputAmount -= itemStack.getMaxStackSize() - itemStack.getAmount();
-                    itemStack.setAmount(itemStack.getMaxStackSize());
+        synchronized (backpack) {
+            int inputAmount = amount;
+            for (final ItemStack itemStack : backpack) {
+                if (item.isSimilar(itemStack)) {
+                    // if items are similar they can be joined in a single itemstack
+                    if (inputAmount + itemStack.getAmount() <= itemStack.getMaxStackSize()) {
+                        // if they will fit all together, then just add them
+                        itemStack.setAmount(itemStack.getAmount() + inputAmount);
+                        inputAmount = 0; // this will allow for passing the while loop
+                        break;
+                    } else {
+                        // if the stack will be overflown, set max size and continue
+                        inputAmount -= itemStack.getMaxStackSize() - itemStack.getAmount();
+                        itemStack.setAmount(itemStack.getMaxStackSize());
+                    }
                 }
             }
-        }
-        // every item checked, time to add a new itemstack
-        while (inputAmount > 0) {
-            // if the amount is greater than max size of the itemstack, create
-            // max
-            // stacks until it's lower
-            final ItemStack newItem = item.clone();
-            int maxSize = newItem.getType().getMaxStackSize();
-            if (inputAmount > maxSize) {
-                if (maxSize == 0) {
-                    maxSize = 64;
+            // every item checked, time to add a new itemstack
+            while (inputAmount > 0) {
+                // if the amount is greater than max size of the itemstack, create
+                // max
+                // stacks until it's lower
+                final ItemStack newItem = item.clone();
+                int maxSize = newItem.getType().getMaxStackSize();
+                if (inputAmount > maxSize) {
+                    if (maxSize == 0) {
+                        maxSize = 64;
+                    }
+                    newItem.setAmount(maxSize);
+                    inputAmount -= maxSize;
+                } else {
+                    newItem.setAmount(inputAmount);
+                    inputAmount = 0;
                 }
-                newItem.setAmount(maxSize);
-                inputAmount -= maxSize;
-            } else {
-                newItem.setAmount(inputAmount);
-                inputAmount = 0;
+                backpack.add(newItem);
             }
-            backpack.add(newItem);
+            refreshBackpack(backpack);
         }
-        refreshBackpack(backpack);
     }
 
     private void refreshBackpack(final List<ItemStack> backpack) {
@@ -0,0 +1,277 @@
+package org.betonquest.betonquest.database;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.profiles.Profile;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * Caches the {@link PlayerData} of offline profiles, so repeated access does not load them from the database again.
+ * <p>
+ * The cache is a {@link Saver} wrapping the saver that writes the records. Cached data saves its own changes
+ * directly with the wrapped saver, so it stays up to date. All other records added to the cache invalidate the
+ * cached data of the affected profile, or all cached data if the record affects multiple profiles.
+ * <p>
+ * Until such a record is written, the database still contains the old data of the profile. Data loaded while
+ * records of its profile are pending or while they are written is not cached, so it cannot be promoted to the
+ * online data of the profile later.
+ * <p>
+ * The cached data is not copied, all callers share the same instance from any thread.
+ * This is safe because {@link PlayerData} guards all of its changes.
+ */
+@SuppressWarnings({"PMD.DoNotUseThreads", "PMD.AvoidSynchronizedStatement"})
+public class PlayerDataCache implements Saver {
+    /**
+     * Custom {@link BetonQuestLogger} instance for this class.
+     */
+    private final BetonQuestLogger log;
+
+    /**
+     * The saver that writes the records.
+     */
+    private final Saver delegate;
+
+    /**
+     * Loads the data of a profile that saves its changes with the given saver.
+     */
+    private final BiFunction<Profile, Saver, PlayerData> dataFactory;
+
+    /**
+     * The cached data by profile ID.
+     */
+    private final Cache<String, PlayerData> cache;
+
+    /**
+     * The pending writes by profile ID. Guarded by itself, which also guards adding entries to the cache.
+     */
+    private final Map<String, PendingWrites> pendingWrites = new HashMap<>();
+
+    /**
+     * The pending writes of records that affect all profiles. Guarded by {@link #pendingWrites}.
+     */
+    private final PendingWrites pendingForAll = new PendingWrites();
+
+    /**
+     * The amount of cached entries that were invalidated by records.
+     */
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * Creates a new cache.
+     *
+     * @param log         the logger that will be used for logging
+     * @param delegate    the saver that writes the records
+     * @param dataFactory loads the data of a profile that saves its changes with the given saver
+     * @param maximumSize the maximum amount of cached profiles
+     * @param expiry      the time after the last access until cached data is removed
+     */
+    public PlayerDataCache(final BetonQuestLogger log, final Saver delegate,
+                           final BiFunction<Profile, Saver, PlayerData> dataFactory,
+                           final long maximumSize, final Duration expiry) {
+        this.log = log;
+        this.delegate = delegate;
+        this.dataFactory = dataFactory;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expiry)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Gets the cached data of an offline profile or loads it if it is not cached.
+     * The loaded data is only cached if no records of the profile were pending or added while it was loaded.
+     *
+     * @param profile the offline profile
+     * @return the data of the profile
+     */
+    public PlayerData get(final Profile profile) {
+        final String key = profile.getProfileUUID().toString();
+        final PlayerData cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        final PendingWrites writes;
+        final boolean clean;
+        final long version;
+        final long versionForAll;
+        synchronized (pendingWrites) {
+            writes = pendingWrites.computeIfAbsent(key, id -> new PendingWrites());
+            writes.loads++;
+            clean = writes.pending == 0 && pendingForAll.pending == 0;
+            version = writes.version;
+            versionForAll = pendingForAll.version;
+        }
+        PlayerData loaded = null;
+        try {
+            loaded = dataFactory.apply(profile, delegate);
+        } finally {
+            synchronized (pendingWrites) {
+                writes.loads--;
+                if (loaded != null && clean && version == writes.version && versionForAll == pendingForAll.version) {
+                    final PlayerData present = cache.asMap().putIfAbsent(key, loaded);
+                    if (present != null) {
+                        loaded = present;
+                    }
+                }
+                if (writes.isUnused()) {
+                    pendingWrites.remove(key);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Removes the cached data of a profile that comes online, so it can be used as the online data of the profile.
+     * If the profile is not cached, its data is loaded.
+     *
+     * @param profile the profile that comes online
+     * @return the data of the profile
+     */
+    public PlayerData promote(final Profile profile) {
+        final PlayerData playerData = cache.asMap().remove(profile.getProfileUUID().toString());
+        if (playerData != null) {
+            log.debug("Using cached data of " + profile);
+            return playerData;
+        }
+        return dataFactory.apply(profile, this);
+    }
+
+    @Override
+    public void add(final Record rec) {
+        add(rec, null);
+    }
+
+    @Override
+    public void add(final Record rec, @Nullable final Runnable written) {
+        final String key = MultiWriterSaver.partitionKey(rec);
+        if (MultiWriterSaver.GLOBAL_KEY.equals(key)) {
+            if (written == null) {
+                delegate.add(rec);
+            } else {
+                delegate.add(rec, written);
+            }
+            return;
+        }
+        synchronized (pendingWrites) {
+            final PendingWrites writes = key == null ? pendingForAll : pendingWrites.computeIfAbsent(key, id -> new PendingWrites());
+            writes.pending++;
+            writes.version++;
+            invalidate(key);
+        }
+        delegate.add(rec, () -> {
+            completed(key);
+            if (written != null) {
+                written.run();
+            }
+        });
+    }
+
+    private void invalidate(@Nullable final String key) {
+        if (key == null) {
+            final long size = cache.size();
+            if (size > 0) {
+                invalidations.add(size);
+                cache.invalidateAll();
+            }
+        } else if (cache.asMap().remove(key) != null) {
+            invalidations.increment();
+        }
+    }
+
+    private void completed(@Nullable final String key) {
+        synchronized (pendingWrites) {
+            if (key == null) {
+                pendingForAll.pending--;
+                return;
+            }
+            final PendingWrites writes = pendingWrites.get(key);
+            writes.pending--;
+            if (writes.isUnused()) {
+                pendingWrites.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Gets the amount of requests that were answered from the cache.
+     *
+     * @return the amount of cache hits
+     */
+    public long getHits() {
+        return cache.stats().hitCount();
+    }
+
+    /**
+     * Gets the amount of requests that loaded the data from the database.
+     *
+     * @return the amount of cache misses
+     */
+    public long getMisses() {
+        return cache.stats().missCount();
+    }
+
+    /**
+     * Gets the amount of entries that were removed because the cache was full or they expired.
+     *
+     * @return the amount of evictions
+     */
+    public long getEvictions() {
+        return cache.stats().evictionCount();
+    }
+
+    /**
+     * Gets the amount of entries that were removed because their profile was changed by a record.
+     *
+     * @return the amount of invalidations
+     */
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+
+    @Override
+    public void end() {
+        final CacheStats stats = cache.stats();
+        log.debug("Offline data cache: " + stats.hitCount() + " hits, " + stats.missCount() + " misses, "
+                + stats.evictionCount() + " evictions, " + invalidations.sum() + " invalidations");
+        cache.invalidateAll();
+        delegate.end();
+    }
+
+    /**
+     * The records of a profile or of all profiles that were added but not written yet.
+     * The entry of a profile is kept while records are pending or its data is loaded.
+     */
+    private static final class PendingWrites {
+        /**
+         * The amount of records that were not written yet.
+         */
+        private int pending;
+
+        /**
+         * The amount of records that were added, so loads notice records that were added and written meanwhile.
+         */
+        private long version;
+
+        /**
+         * The amount of running loads of the profile data.
+         */
+        private int loads;
+
+        private PendingWrites() {
+        }
+
+        private boolean isUnused() {
+            return pending == 0 && loads == 0;
+        }
+    }
+}
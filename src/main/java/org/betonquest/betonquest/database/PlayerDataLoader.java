@@ -0,0 +1,192 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.profiles.Profile;
+import org.betonquest.betonquest.utils.NamedDaemonThreadFactory;
+import org.bukkit.Server;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Loads {@link PlayerData} on a dedicated thread pool with a bounded amount of concurrent loads.
+ * <p>
+ * When many players join at once, the loads are queued instead of all competing for database connections.
+ * Concurrent requests for the same profile share a single load.
+ */
+@SuppressWarnings("PMD.DoNotUseThreads")
+public class PlayerDataLoader {
+    /**
+     * Custom {@link BetonQuestLogger} instance for this class.
+     */
+    private final BetonQuestLogger log;
+
+    /**
+     * The server to check for the main thread.
+     */
+    private final Server server;
+
+    /**
+     * Creates the data of a profile, blocking while it is loaded.
+     */
+    private final Function<Profile, PlayerData> dataFactory;
+
+    /**
+     * The threads loading the data.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Loads that are currently running or queued.
+     */
+    private final Map<Profile, CompletableFuture<PlayerData>> loading = new ConcurrentHashMap<>();
+
+    /**
+     * The amount of finished loads.
+     */
+    private final LongAdder loads = new LongAdder();
+
+    /**
+     * The sum of all load durations in nanoseconds, including the time waiting in the queue.
+     */
+    private final LongAdder loadNanos = new LongAdder();
+
+    /**
+     * The longest load duration in nanoseconds.
+     */
+    private final AtomicLong maxLoadNanos = new AtomicLong();
+
+    /**
+     * The amount of loads that blocked the main thread.
+     */
+    private final LongAdder mainThreadLoads = new LongAdder();
+
+    /**
+     * Creates a new loader.
+     *
+     * @param log         the logger that will be used for logging
+     * @param server      the server to check for the main thread
+     * @param dataFactory creates the data of a profile, blocking while it is loaded
+     * @param threads     the maximum amount of concurrent loads
+     */
+    public PlayerDataLoader(final BetonQuestLogger log, final Server server, final Function<Profile, PlayerData> dataFactory,
+                            final int threads) {
+        this.log = log;
+        this.server = server;
+        this.dataFactory = dataFactory;
+        this.executor = Executors.newFixedThreadPool(threads, new NamedDaemonThreadFactory("BetonQuest Profile Loader"));
+    }
+
+    /**
+     * Loads the data of the profile asynchronously. If the profile is already being loaded, the running load is
+     * returned.
+     *
+     * @param profile the profile to load
+     * @return the future data of the profile
+     */
+    public CompletableFuture<PlayerData> load(final Profile profile) {
+        final CompletableFuture<PlayerData> future = new CompletableFuture<>();
+        final CompletableFuture<PlayerData> running = loading.putIfAbsent(profile, future);
+        if (running != null) {
+            return running;
+        }
+        final long queued = System.nanoTime();
+        final Runnable task = () -> {
+            try {
+                future.complete(loadTimed(profile, queued));
+            } catch (final RuntimeException e) {
+                future.completeExceptionally(e);
+            } finally {
+                loading.remove(profile, future);
+            }
+        };
+        try {
+            executor.execute(task);
+        } catch (final RejectedExecutionException e) {
+            task.run();
+        }
+        return future;
+    }
+
+    private PlayerData loadTimed(final Profile profile, final long queued) {
+        final PlayerData playerData = dataFactory.apply(profile);
+        final long duration = System.nanoTime() - queued;
+        loads.increment();
+        loadNanos.add(duration);
+        maxLoadNanos.accumulateAndGet(duration, Math::max);
+        log.debug("Loaded data of " + profile + " in " + TimeUnit.NANOSECONDS.toMillis(duration) + "ms");
+        return playerData;
+    }
+
+    /**
+     * Loads the data of the profile and waits for it. Loads on the main thread are counted, because they block
+     * the server. They are not queued behind other loads, but run directly if the profile is not already loading.
+     *
+     * @param profile the profile to load
+     * @return the data of the profile
+     */
+    public PlayerData loadBlocking(final Profile profile) {
+        if (!server.isPrimaryThread()) {
+            return load(profile).join();
+        }
+        mainThreadLoads.increment();
+        log.debug("Loading data of " + profile + " on the main thread");
+        final CompletableFuture<PlayerData> running = loading.get(profile);
+        if (running != null) {
+            return running.join();
+        }
+        return loadTimed(profile, System.nanoTime());
+    }
+
+    /**
+     * Gets the amount of finished loads.
+     *
+     * @return the amount of loads
+     */
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    /**
+     * Gets the average time from requesting a load until it finished in milliseconds.
+     *
+     * @return the average load latency
+     */
+    public double getAverageLoadMillis() {
+        final long count = loads.sum();
+        return count == 0 ? 0 : loadNanos.sum() / 1_000_000.0 / count;
+    }
+
+    /**
+     * Gets the longest time from requesting a load until it finished in milliseconds.
+     *
+     * @return the maximum load latency
+     */
+    public double getMaxLoadMillis() {
+        return maxLoadNanos.get() / 1_000_000.0;
+    }
+
+    /**
+     * Gets the amount of loads that blocked the main thread.
+     *
+     * @return the amount of main thread loads
+     */
+    public long getMainThreadLoads() {
+        return mainThreadLoads.sum();
+    }
+
+    /**
+     * Stops the loader threads after the queued loads finished.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
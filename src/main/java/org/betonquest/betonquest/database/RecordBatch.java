@@ -0,0 +1,304 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.database.Saver.Record;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the records of one flush window, drops writes that are made redundant by a later removal and orders
+ * the remaining records into groups of the same {@link UpdateType}, which can be executed as one JDBC batch each.
+ * <p>
+ * The records are split into segments. Inside a segment all removals are executed before all additions. This is
+ * equivalent to the original order, because an addition followed by a removal of the same key is either dropped or
+ * ends the segment. Records of types without a known table and key always form a segment of their own and keep
+ * their position.
+ * <p>
+ * This class is not thread safe.
+ */
+@SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+class RecordBatch {
+    /**
+     * The table writes of all update types that can be coalesced.
+     */
+    private static final Map<UpdateType, TableWrite> TABLE_WRITES = new EnumMap<>(UpdateType.class);
+
+    static {
+        register("objectives", UpdateType.ADD_OBJECTIVES, UpdateType.REMOVE_OBJECTIVES, UpdateType.DELETE_OBJECTIVES);
+        register("tags", UpdateType.ADD_TAGS, UpdateType.REMOVE_TAGS, UpdateType.DELETE_TAGS);
+        register("global_tags", UpdateType.ADD_GLOBAL_TAGS, UpdateType.REMOVE_GLOBAL_TAGS, UpdateType.DELETE_GLOBAL_TAGS);
+        register("points", UpdateType.ADD_POINTS, UpdateType.REMOVE_POINTS, UpdateType.DELETE_POINTS);
+        register("global_points", UpdateType.ADD_GLOBAL_POINTS, UpdateType.REMOVE_GLOBAL_POINTS, UpdateType.DELETE_GLOBAL_POINTS);
+        register("journal", UpdateType.ADD_JOURNAL, UpdateType.REMOVE_JOURNAL, UpdateType.DELETE_JOURNAL);
+        register("backpack", UpdateType.ADD_BACKPACK, UpdateType.DELETE_BACKPACK);
+    }
+
+    /**
+     * All records that were not dropped, in the order they were added.
+     */
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * The segments in execution order.
+     */
+    private final List<Segment> segments = new ArrayList<>();
+
+    /**
+     * The amount of records that were added to this batch.
+     */
+    private int size;
+
+    /**
+     * The amount of records that were dropped because a later removal made them redundant.
+     */
+    private int coalesced;
+
+    /**
+     * Creates a new empty batch.
+     */
+    RecordBatch() {
+    }
+
+    private static void register(final String table, final UpdateType addition, final UpdateType... removals) {
+        TABLE_WRITES.put(addition, new TableWrite(table, false));
+        for (final UpdateType removal : removals) {
+            TABLE_WRITES.put(removal, new TableWrite(table, true));
+        }
+    }
+
+    /**
+     * Adds a record to the batch.
+     *
+     * @param rec the record to add
+     */
+    void add(final Record rec) {
+        size++;
+        final Entry entry = new Entry(rec);
+        entries.add(entry);
+        final TableWrite write = TABLE_WRITES.get(rec.type());
+        if (write == null) {
+            addBarrier(entry);
+            return;
+        }
+        Segment segment = currentKeyedSegment();
+        if (write.removal() && coalesce(segment, write.table(), rec.args())) {
+            segment = newKeyedSegment();
+        }
+        segment.add(write, entry);
+    }
+
+    /**
+     * Drops all earlier records of the segment on the given table that are removed by the given key.
+     *
+     * @param segment the segment to coalesce in
+     * @param table   the table the removal targets
+     * @param key     the arguments of the removal, which are a prefix of the key of the removed rows
+     * @return true if a remaining record of the segment might be removed by the key and the removal must therefore
+     * not be moved in front of it
+     */
+    private boolean coalesce(final Segment segment, final String table, final String... key) {
+        boolean conflict = false;
+        for (final Entry earlier : segment.onTable(table)) {
+            if (earlier.dropped) {
+                continue;
+            }
+            if (matchesKey(earlier.rec.args(), key, false)) {
+                earlier.dropped = true;
+                coalesced++;
+            } else if (matchesKey(earlier.rec.args(), key, true)) {
+                conflict = true;
+            }
+        }
+        return conflict;
+    }
+
+    private boolean matchesKey(final String[] args, final String[] key, final boolean ignoreCase) {
+        if (args.length < key.length) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (ignoreCase ? !args[i].equalsIgnoreCase(key[i]) : !args[i].equals(key[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void addBarrier(final Entry entry) {
+        final Segment last = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        if (last != null && last.barrierType == entry.rec.type()) {
+            last.barrier.add(entry);
+            return;
+        }
+        final Segment segment = new Segment(entry.rec.type());
+        segment.barrier.add(entry);
+        segments.add(segment);
+    }
+
+    private Segment currentKeyedSegment() {
+        final Segment last = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        if (last == null || last.barrierType != null) {
+            return newKeyedSegment();
+        }
+        return last;
+    }
+
+    private Segment newKeyedSegment() {
+        final Segment segment = new Segment(null);
+        segments.add(segment);
+        return segment;
+    }
+
+    /**
+     * Gets the records to execute, grouped by their type. The groups must be executed in the returned order.
+     *
+     * @return the groups of records with the same type
+     */
+    List<List<Record>> getGroups() {
+        final List<List<Record>> groups = new ArrayList<>();
+        for (final Segment segment : segments) {
+            segment.collectGroups(groups);
+        }
+        return groups;
+    }
+
+    /**
+     * Gets all records that were not dropped in the order they were added.
+     *
+     * @return the remaining records
+     */
+    List<Record> getRecords() {
+        final List<Record> records = new ArrayList<>(entries.size());
+        for (final Entry entry : entries) {
+            if (!entry.dropped) {
+                records.add(entry.rec);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Gets the amount of records added to this batch, including dropped ones.
+     *
+     * @return the amount of added records
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Gets the amount of records that were dropped because a later removal made them redundant.
+     *
+     * @return the amount of dropped records
+     */
+    int getCoalesced() {
+        return coalesced;
+    }
+
+    /**
+     * Checks if nothing was added to this batch.
+     *
+     * @return true if the batch is empty
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * The table an update type writes to and whether it removes rows from it.
+     *
+     * @param table   the name of the table without prefix
+     * @param removal true if rows are removed, false if a row is added
+     */
+    private record TableWrite(String table, boolean removal) {
+    }
+
+    /**
+     * A record in the batch.
+     */
+    private static final class Entry {
+        /**
+         * The record.
+         */
+        private final Record rec;
+
+        /**
+         * Whether the record was dropped because a later removal made it redundant.
+         */
+        private boolean dropped;
+
+        private Entry(final Record rec) {
+            this.rec = rec;
+        }
+    }
+
+    /**
+     * A part of the batch that is either a run of records without table information or records that may be
+     * reordered.
+     */
+    private static final class Segment {
+        /**
+         * The type of the barrier records or null if this is a segment of reorderable records.
+         */
+        @Nullable
+        private final UpdateType barrierType;
+
+        /**
+         * The barrier records in order.
+         */
+        private final List<Entry> barrier = new ArrayList<>();
+
+        /**
+         * The removals grouped by type, in order of the first occurrence of the type.
+         */
+        private final Map<UpdateType, List<Entry>> removals = new LinkedHashMap<>();
+
+        /**
+         * The additions grouped by type, in order of the first occurrence of the type.
+         */
+        private final Map<UpdateType, List<Entry>> additions = new LinkedHashMap<>();
+
+        /**
+         * All records of this segment by their table.
+         */
+        private final Map<String, List<Entry>> tables = new HashMap<>();
+
+        private Segment(@Nullable final UpdateType barrierType) {
+            this.barrierType = barrierType;
+        }
+
+        private void add(final TableWrite write, final Entry entry) {
+            final Map<UpdateType, List<Entry>> groups = write.removal() ? removals : additions;
+            groups.computeIfAbsent(entry.rec.type(), type -> new ArrayList<>()).add(entry);
+            tables.computeIfAbsent(write.table(), table -> new ArrayList<>()).add(entry);
+        }
+
+        private List<Entry> onTable(final String table) {
+            return tables.getOrDefault(table, Collections.emptyList());
+        }
+
+        private void collectGroups(final List<List<Record>> groups) {
+            collect(barrier, groups);
+            removals.values().forEach(group -> collect(group, groups));
+            additions.values().forEach(group -> collect(group, groups));
+        }
+
+        private void collect(final List<Entry> group, final List<List<Record>> groups) {
+            final List<Record> records = new ArrayList<>(group.size());
+            for (final Entry entry : group) {
+                if (!entry.dropped) {
+                    records.add(entry.rec);
+                }
+            }
+            if (!records.isEmpty()) {
+                groups.add(records);
+            }
+        }
+    }
+}
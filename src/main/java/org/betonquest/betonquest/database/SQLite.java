@@ -1,5 +1,6 @@
 package org.betonquest.betonquest.database;
 
+import com.zaxxer.hikari.HikariConfig;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
@@ -7,7 +8,6 @@ import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import java.io.File;
 import java.io.IOException;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -44,7 +44,7 @@ public class SQLite extends Database {
 
     @Override
     @SuppressFBWarnings("RV_RETURN_VALUE_IGNORED_BAD_PRACTICE")
-    public Connection openConnection() {
+    protected HikariConfig createPoolConfig() {
         if (!plugin.getDataFolder().exists() && !plugin.getDataFolder().mkdirs()) {
             log.error("Unable to create plugin data folder!");
         }
@@ -58,18 +58,22 @@ public class SQLite extends Database {
                 log.error("Unable to create database!", e);
             }
         }
-        Connection connection = null;
-        try {
-            Class.forName("org.sqlite.JDBC");
-            connection = DriverManager
-                    .getConnection("jdbc:sqlite:" + plugin.getDataFolder().toPath() + "/" + dbLocation);
-        } catch (ClassNotFoundException | SQLException e) {
-            log.error("There was an exception with SQL", e);
-        }
-        if (connection == null) {
-            throw new IllegalStateException("Not able to create a database connection!");
-        }
-        return connection;
+        final HikariConfig config = new HikariConfig();
+        config.setDriverClassName("org.sqlite.JDBC");
+        config.setJdbcUrl("jdbc:sqlite:" + plugin.getDataFolder().toPath() + "/" + dbLocation);
+        // SQLite locks the whole file for writing, so more connections would only wait for each other
+        config.setMaximumPoolSize(1);
+        return config;
+    }
+
+    @Override
+    public int getMaxWriters() {
+        return 1;
+    }
+
+    @Override
+    public boolean isMultiQuerySupported() {
+        return false;
     }
 
     @Override
@@ -99,7 +103,7 @@ public class SQLite extends Database {
 
     @Override
     protected void markMigrationExecuted(final Connection connection, final MigrationKey migrationKey) throws SQLException {
-        try (PreparedStatement statement = getConnection().prepareStatement("INSERT INTO " + prefix + "migration (namespace, migration_id) VALUES (?,?)")) {
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO " + prefix + "migration (namespace, migration_id) VALUES (?,?)")) {
             statement.setString(1, migrationKey.namespace());
             statement.setInt(2, migrationKey.version());
             statement.executeUpdate();
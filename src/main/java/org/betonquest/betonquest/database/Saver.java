@@ -14,6 +14,19 @@ public interface Saver {
      */
     void add(Record rec);
 
+    /**
+     * Adds new record to the queue and runs the callback once the record was written to the database or writing it
+     * failed. Savers that write records later must override this, the default runs the callback right after
+     * {@link #add(Record)}.
+     *
+     * @param rec     Record to save
+     * @param written the callback to run once the record was handled
+     */
+    default void add(final Record rec, final Runnable written) {
+        add(rec);
+        written.run();
+    }
+
     /**
      * Ends this saver's job, letting it save all remaining data.
      */
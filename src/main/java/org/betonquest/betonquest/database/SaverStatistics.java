@@ -0,0 +1,199 @@
+package org.betonquest.betonquest.database;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters describing the work of a {@link Saver}. All methods are thread safe.
+ */
+public class SaverStatistics {
+    /**
+     * The amount of records waiting to be written.
+     */
+    private final AtomicInteger queueDepth = new AtomicInteger();
+
+    /**
+     * The amount of records received by the saver.
+     */
+    private final LongAdder received = new LongAdder();
+
+    /**
+     * The amount of records written to the database.
+     */
+    private final LongAdder written = new LongAdder();
+
+    /**
+     * The amount of records dropped because a later record made them redundant.
+     */
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * The amount of flushes done.
+     */
+    private final LongAdder flushes = new LongAdder();
+
+    /**
+     * The amount of flushes that failed and had to be retried record by record.
+     */
+    private final LongAdder failedFlushes = new LongAdder();
+
+    /**
+     * The sum of all flush durations in nanoseconds.
+     */
+    private final LongAdder flushNanos = new LongAdder();
+
+    /**
+     * The longest flush duration in nanoseconds.
+     */
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+
+    /**
+     * The amount of records in the largest flush.
+     */
+    private final AtomicInteger maxBatchSize = new AtomicInteger();
+
+    /**
+     * Creates new empty statistics.
+     */
+    public SaverStatistics() {
+    }
+
+    /**
+     * Records that a record was queued.
+     */
+    public void recordQueued() {
+        received.increment();
+        queueDepth.incrementAndGet();
+    }
+
+    /**
+     * Records that records were taken from the queue.
+     *
+     * @param amount the amount of records taken
+     */
+    public void recordDequeued(final int amount) {
+        queueDepth.addAndGet(-amount);
+    }
+
+    /**
+     * Records a finished flush.
+     *
+     * @param batchSize      the amount of records taken from the queue for this flush
+     * @param coalescedCount the amount of records that were dropped as redundant
+     * @param nanos          the duration of the flush in nanoseconds
+     * @param failed         whether the batch failed and had to be retried record by record
+     */
+    public void recordFlush(final int batchSize, final int coalescedCount, final long nanos, final boolean failed) {
+        flushes.increment();
+        written.add(batchSize - coalescedCount);
+        coalesced.add(coalescedCount);
+        flushNanos.add(nanos);
+        maxFlushNanos.accumulateAndGet(nanos, Math::max);
+        maxBatchSize.accumulateAndGet(batchSize, Math::max);
+        if (failed) {
+            failedFlushes.increment();
+        }
+    }
+
+    /**
+     * Gets the amount of records currently waiting to be written.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Gets the amount of records received by the saver.
+     *
+     * @return the amount of received records
+     */
+    public long getReceived() {
+        return received.sum();
+    }
+
+    /**
+     * Gets the amount of records written to the database.
+     *
+     * @return the amount of written records
+     */
+    public long getWritten() {
+        return written.sum();
+    }
+
+    /**
+     * Gets the amount of records dropped because a later record made them redundant.
+     *
+     * @return the amount of coalesced records
+     */
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Gets the amount of flushes done.
+     *
+     * @return the amount of flushes
+     */
+    public long getFlushes() {
+        return flushes.sum();
+    }
+
+    /**
+     * Gets the amount of flushes that failed and were retried record by record.
+     *
+     * @return the amount of failed flushes
+     */
+    public long getFailedFlushes() {
+        return failedFlushes.sum();
+    }
+
+    /**
+     * Gets the average amount of records per flush.
+     *
+     * @return the average batch size
+     */
+    public double getAverageBatchSize() {
+        final long count = flushes.sum();
+        return count == 0 ? 0 : (double) (written.sum() + coalesced.sum()) / count;
+    }
+
+    /**
+     * Gets the largest amount of records in a single flush.
+     *
+     * @return the maximum batch size
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize.get();
+    }
+
+    /**
+     * Gets the average flush latency in milliseconds.
+     *
+     * @return the average flush latency
+     */
+    public double getAverageFlushMillis() {
+        final long count = flushes.sum();
+        return count == 0 ? 0 : flushNanos.sum() / 1_000_000.0 / count;
+    }
+
+    /**
+     * Gets the longest flush latency in milliseconds.
+     *
+     * @return the maximum flush latency
+     */
+    public double getMaxFlushMillis() {
+        return maxFlushNanos.get() / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "queue depth: %d, received: %d, written: %d, coalesced: %d, flushes: %d (%d failed), "
+                        + "batch size avg/max: %.1f/%d, flush latency avg/max: %.2fms/%.2fms",
+                getQueueDepth(), getReceived(), getWritten(), getCoalesced(), getFlushes(), getFailedFlushes(),
+                getAverageBatchSize(), getMaxBatchSize(), getAverageFlushMillis(), getMaxFlushMillis());
+    }
+}
@@ -102,6 +102,10 @@ public enum UpdateType {
     UPDATE_PLAYERS_BACKPACK(prefix -> "UPDATE " + prefix + "backpack SET profileID = ? WHERE profileID = ?;"),
     UPDATE_PROFILE_NAME(prefix -> "UPDATE " + prefix + "player_profile SET name = ? WHERE profileID = ?;"),
     UPDATE_PLAYER_LANGUAGE(prefix -> "UPDATE " + prefix + "player SET language = ? WHERE playerID = ?;"),
+    /**
+     * Updates the data of the single objective in the database. Instructions, profileID, objectiveID.
+     */
+    UPDATE_OBJECTIVES(prefix -> "UPDATE " + prefix + "objectives SET instructions = ? WHERE profileID = ? AND objective = ?;"),
 
     DROP_OBJECTIVES(prefix -> "DROP TABLE " + prefix + "objectives"),
     DROP_TAGS(prefix -> "DROP TABLE " + prefix + "tags"),
@@ -0,0 +1,96 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.database.Saver.Record;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * A record that must be written after all records added to any writer before it and before all records added after
+ * it. Every writer waits at the barrier until the executing writer has written the record.
+ */
+class WriterBarrier {
+    /**
+     * Custom {@link BetonQuestLogger} instance for this class.
+     */
+    private final BetonQuestLogger log;
+
+    /**
+     * The record to write.
+     */
+    private final Record rec;
+
+    /**
+     * The writer that writes the record.
+     */
+    private final AsyncSaver executor;
+
+    /**
+     * The callback to run once the record was written.
+     */
+    @Nullable
+    private final Runnable written;
+
+    /**
+     * Counts down when the other writers arrive at the barrier.
+     */
+    private final CountDownLatch arrived;
+
+    /**
+     * Counts down when the record was written.
+     */
+    private final CountDownLatch done;
+
+    /**
+     * Creates a new barrier.
+     *
+     * @param log      the logger that will be used for logging
+     * @param rec      the record to write
+     * @param executor the writer that writes the record
+     * @param writers  the amount of writers that will pass the barrier
+     * @param written  the callback to run once the record was written
+     */
+    /* default */ WriterBarrier(final BetonQuestLogger log, final Record rec, final AsyncSaver executor, final int writers,
+                                @Nullable final Runnable written) {
+        this.log = log;
+        this.rec = rec;
+        this.executor = executor;
+        this.written = written;
+        this.arrived = new CountDownLatch(writers - 1);
+        this.done = new CountDownLatch(1);
+    }
+
+    /**
+     * Passes the barrier. Blocks until all writers arrived and the record was written.
+     *
+     * @param writer the writer passing the barrier
+     */
+    /* default */ void pass(final AsyncSaver writer) {
+        if (writer == executor) {
+            await(arrived);
+            try {
+                writer.write(rec);
+            } finally {
+                done.countDown();
+                if (written != null) {
+                    written.run();
+                }
+            }
+        } else {
+            arrived.countDown();
+            await(done);
+        }
+    }
+
+    private void await(final CountDownLatch latch) {
+        while (true) {
+            try {
+                latch.await();
+                return;
+            } catch (final InterruptedException e) {
+                log.warn("Database writer got interrupted while waiting for other writers!", e);
+            }
+        }
+    }
+}
@@ -45,6 +45,16 @@ public abstract class ID {
     @Nullable
     protected Instruction instruction;
 
+    /**
+     * The cached hash code, 0 if it was not computed yet.
+     */
+    private int hash;
+
+    /**
+     * The dense handle assigned by an {@link IDTable}, -1 if none was assigned yet.
+     */
+    private int handle = -1;
+
     /**
      * Creates a new ID. Handles relative and absolute paths and edge cases with special IDs like variables.
      *
@@ -248,6 +258,24 @@ public abstract class ID {
         return instruction;
     }
 
+    /**
+     * Returns the dense handle assigned by {@link IDTable#handle(ID)}.
+     *
+     * @return the handle or -1 if none was assigned yet
+     */
+    public final int getHandle() {
+        return handle;
+    }
+
+    /**
+     * Sets the dense handle. Only used by the {@link IDTable}.
+     *
+     * @param handle the assigned handle
+     */
+    /* default */ final void setHandle(final int handle) {
+        this.handle = handle;
+    }
+
     @Override
     public String toString() {
         return getFullID();
@@ -268,6 +296,11 @@ public abstract class ID {
 
     @Override
     public int hashCode() {
-        return Objects.hash(identifier, pack.getQuestPath());
+        int result = hash;
+        if (result == 0) {
+            result = Objects.hash(identifier, pack.getQuestPath());
+            hash = result;
+        }
+        return result;
     }
 }
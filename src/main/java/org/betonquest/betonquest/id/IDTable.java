@@ -0,0 +1,184 @@
+package org.betonquest.betonquest.id;
+
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
+import org.betonquest.betonquest.exceptions.ObjectNotFoundException;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Interns {@link ConditionID}s, {@link EventID}s and {@link ObjectiveID}s, so the same textual ID is parsed only once
+ * per generation and all users share one canonical instance with its cached instruction and hash code.
+ * <p>
+ * A new generation is started on every reload, because the IDs depend on the loaded packages.
+ * Additionally, every ID can get a dense handle per ID type, which stays the same over all generations,
+ * so processors can look them up in an array instead of hashing.
+ * <p>
+ * All methods are thread safe.
+ */
+public class IDTable {
+    /**
+     * Interned IDs by the ID type, package and identifier they were created with.
+     */
+    private final Map<RawKey, ID> interned = new ConcurrentHashMap<>();
+
+    /**
+     * Canonical IDs by their type and resolved full ID.
+     */
+    private final Map<CanonicalKey, ID> canonical = new ConcurrentHashMap<>();
+
+    /**
+     * Assigned handles by the ID type and full ID.
+     */
+    private final Map<CanonicalKey, Integer> handles = new ConcurrentHashMap<>();
+
+    /**
+     * The next free handle of each ID type.
+     */
+    private final Map<Class<?>, AtomicInteger> nextHandles = new ConcurrentHashMap<>();
+
+    /**
+     * The amount of IDs that were taken from the table instead of being parsed.
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * Creates a new empty ID table.
+     */
+    public IDTable() {
+    }
+
+    /**
+     * Gets the canonical {@link ConditionID}.
+     *
+     * @param pack       the package the ID is used in
+     * @param identifier the id instruction string
+     * @return the interned ID
+     * @throws ObjectNotFoundException if the ID could not be parsed
+     */
+    public ConditionID condition(@Nullable final QuestPackage pack, final String identifier) throws ObjectNotFoundException {
+        return intern(ConditionID.class, pack, identifier, ConditionID::new);
+    }
+
+    /**
+     * Gets the canonical {@link EventID}.
+     *
+     * @param pack       the package the ID is used in
+     * @param identifier the id instruction string
+     * @return the interned ID
+     * @throws ObjectNotFoundException if the ID could not be parsed
+     */
+    public EventID event(@Nullable final QuestPackage pack, final String identifier) throws ObjectNotFoundException {
+        return intern(EventID.class, pack, identifier, EventID::new);
+    }
+
+    /**
+     * Gets the canonical {@link ObjectiveID}.
+     *
+     * @param pack       the package the ID is used in
+     * @param identifier the id instruction string
+     * @return the interned ID
+     * @throws ObjectNotFoundException if the ID could not be parsed
+     */
+    public ObjectiveID objective(@Nullable final QuestPackage pack, final String identifier) throws ObjectNotFoundException {
+        return intern(ObjectiveID.class, pack, identifier, ObjectiveID::new);
+    }
+
+    private <T extends ID> T intern(final Class<T> type, @Nullable final QuestPackage pack, final String identifier,
+                                    final Factory<T> factory) throws ObjectNotFoundException {
+        final RawKey rawKey = new RawKey(type, pack == null ? null : pack.getQuestPath(), identifier);
+        final ID existing = interned.get(rawKey);
+        if (existing != null) {
+            hits.increment();
+            return type.cast(existing);
+        }
+        final T created = factory.create(pack, identifier);
+        final String inverted = created instanceof final ConditionID condition && condition.inverted() ? "!" : "";
+        final ID canonicalID = canonical.computeIfAbsent(new CanonicalKey(type, inverted + created.getFullID()), key -> created);
+        interned.putIfAbsent(rawKey, canonicalID);
+        return type.cast(canonicalID);
+    }
+
+    /**
+     * Gets the dense handle of an ID. IDs of the same type with the same full ID get the same handle.
+     *
+     * @param id the ID to get the handle for
+     * @return the handle, starting at 0 for each ID type
+     */
+    public int handle(final ID id) {
+        final int cached = id.getHandle();
+        if (cached >= 0) {
+            return cached;
+        }
+        final int handle = handles.computeIfAbsent(new CanonicalKey(id.getClass(), id.getFullID()),
+                key -> nextHandles.computeIfAbsent(key.type(), type -> new AtomicInteger()).getAndIncrement());
+        id.setHandle(handle);
+        return handle;
+    }
+
+    /**
+     * Starts a new generation by forgetting all interned IDs. Assigned handles are kept.
+     */
+    public void newGeneration() {
+        interned.clear();
+        canonical.clear();
+    }
+
+    /**
+     * Gets the amount of interned IDs in the current generation.
+     *
+     * @return the amount of canonical IDs
+     */
+    public int size() {
+        return canonical.size();
+    }
+
+    /**
+     * Gets the amount of IDs that were taken from the table instead of being parsed.
+     *
+     * @return the amount of hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Creates a new ID.
+     *
+     * @param <T> the type of the ID
+     */
+    @FunctionalInterface
+    private interface Factory<T extends ID> {
+        /**
+         * Creates a new ID.
+         *
+         * @param pack       the package the ID is used in
+         * @param identifier the id instruction string
+         * @return the new ID
+         * @throws ObjectNotFoundException if the ID could not be parsed
+         */
+        T create(@Nullable QuestPackage pack, String identifier) throws ObjectNotFoundException;
+    }
+
+    /**
+     * Identifies an ID by the text it was created with.
+     *
+     * @param type       the type of the ID
+     * @param packName   the name of the package the ID was used in
+     * @param identifier the id instruction string
+     */
+    private record RawKey(Class<?> type, @Nullable String packName, String identifier) {
+    }
+
+    /**
+     * Identifies an ID by its resolved full ID.
+     *
+     * @param type   the type of the ID
+     * @param fullID the full ID
+     */
+    private record CanonicalKey(Class<?> type, String fullID) {
+    }
+}
@@ -7,13 +7,13 @@ import org.betonquest.betonquest.exceptions.QuestRuntimeException;
 import org.betonquest.betonquest.quest.registry.processor.VariableProcessor;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.regex.MatchResult;
+import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * Represent a variable that can be resolved in to given type.
@@ -32,6 +32,11 @@ public class Variable<T> {
      */
     private final ValueResolver<T> value;
 
+    /**
+     * Whether the input contains variables, so the value can differ between profiles and over time.
+     */
+    private final boolean containsVariables;
+
     /**
      * Resolves a string that may contain variables to a variable of the given type.
      *
@@ -43,55 +48,95 @@ public class Variable<T> {
      */
     public Variable(final VariableProcessor variableProcessor, final QuestPackage pack, final String input,
                     final TypeResolver<T> resolver) throws InstructionParseException {
-        final Map<String, org.betonquest.betonquest.api.Variable> variables = getVariables(variableProcessor, pack, input);
-        if (variables.isEmpty()) {
+        this(variableProcessor, pack, input, resolver, false);
+    }
+
+    /**
+     * Resolves a string that may contain variables to a variable of the given type.
+     *
+     * @param variableProcessor the processor to create the variables
+     * @param pack              the package in which the variable is used in
+     * @param input             the string that may contain variables
+     * @param resolver          the resolver to convert the resolved variable to the given type
+     * @param dynamic           whether the input is only known at runtime, so its variables are kept in the bounded
+     *                          cache of {@link VariableProcessor#createDynamic(QuestPackage, String)}
+     * @throws InstructionParseException if the variables could not be created or resolved to the given type
+     */
+    public Variable(final VariableProcessor variableProcessor, final QuestPackage pack, final String input,
+                    final TypeResolver<T> resolver, final boolean dynamic) throws InstructionParseException {
+        final List<Segment> segments = compile(variableProcessor, pack, input, dynamic);
+        containsVariables = segments.stream().anyMatch(segment -> segment.variable() != null);
+        if (!containsVariables) {
             try {
                 final T resolved = resolver.resolve(input);
                 value = profile -> resolved;
             } catch (final QuestRuntimeException e) {
                 throw new InstructionParseException(e.getMessage(), e);
             }
+        } else if (segments.size() == 1) {
+            final org.betonquest.betonquest.api.Variable variable = Objects.requireNonNull(segments.get(0).variable());
+            value = profile -> resolver.resolve(variable.getValue(profile));
         } else {
-            value = profile -> resolver.resolve(getString(input, variables, profile));
+            final Segment[] compiled = segments.toArray(new Segment[0]);
+            final int literalLength = segments.stream().mapToInt(Segment::length).sum();
+            value = profile -> resolver.resolve(getString(compiled, literalLength, profile));
         }
     }
 
-    private Map<String, org.betonquest.betonquest.api.Variable> getVariables(final VariableProcessor variableProcessor,
-                                                                             final QuestPackage pack,
-                                                                             final String input)
-            throws InstructionParseException {
+    /**
+     * Splits the input into literal text and variables. The variables are created once, so resolving the input
+     * only needs to concatenate the segments.
+     *
+     * @param variableProcessor the processor to create the variables
+     * @param pack              the package in which the variable is used in
+     * @param input             the string that may contain variables
+     * @param dynamic           whether the variables are created with the bounded cache for runtime instructions
+     * @return the segments of the input in order
+     * @throws InstructionParseException if a variable could not be created
+     */
+    private List<Segment> compile(final VariableProcessor variableProcessor, final QuestPackage pack,
+                                  final String input, final boolean dynamic) throws InstructionParseException {
         final Map<String, org.betonquest.betonquest.api.Variable> variables = new HashMap<>();
-        for (final String variable : resolveVariables(input)) {
-            try {
-                final org.betonquest.betonquest.api.Variable variable1 = variableProcessor.create(pack, replaceEscapedPercent(variable));
-                variables.put(variable, variable1);
-            } catch (final InstructionParseException exception) {
-                throw new InstructionParseException("Could not create variable '" + variable + "': "
-                        + exception.getMessage(), exception);
+        final List<Segment> segments = new ArrayList<>();
+        final Matcher matcher = VARIABLE_PATTERN.matcher(input);
+        int literalStart = 0;
+        while (matcher.find()) {
+            if (matcher.start() > literalStart) {
+                segments.add(new Segment(input.substring(literalStart, matcher.start()), null));
             }
+            final String variable = matcher.group();
+            org.betonquest.betonquest.api.Variable created = variables.get(variable);
+            if (created == null) {
+                created = createVariable(variableProcessor, pack, variable, dynamic);
+                variables.put(variable, created);
+            }
+            segments.add(new Segment(null, created));
+            literalStart = matcher.end();
+        }
+        if (literalStart < input.length()) {
+            segments.add(new Segment(input.substring(literalStart), null));
         }
-        return variables;
+        return segments;
     }
 
-    private Set<String> resolveVariables(final String input) {
-        return VARIABLE_PATTERN.matcher(input).results()
-                .map(MatchResult::group)
-                .collect(Collectors.toSet());
+    private org.betonquest.betonquest.api.Variable createVariable(final VariableProcessor variableProcessor,
+                                                                  final QuestPackage pack, final String variable,
+                                                                  final boolean dynamic)
+            throws InstructionParseException {
+        try {
+            final String instruction = replaceEscapedPercent(variable);
+            return dynamic ? variableProcessor.createDynamic(pack, instruction) : variableProcessor.create(pack, instruction);
+        } catch (final InstructionParseException exception) {
+            throw new InstructionParseException("Could not create variable '" + variable + "': "
+                    + exception.getMessage(), exception);
+        }
     }
 
-    private String getString(final String input, final Map<String, org.betonquest.betonquest.api.Variable> variables,
-                             @Nullable final Profile profile) throws QuestRuntimeException {
-        final Matcher matcher = VARIABLE_PATTERN.matcher(input);
-        final StringBuilder resolvedString = new StringBuilder();
-        while (matcher.find()) {
-            final String variable = matcher.group();
-            final org.betonquest.betonquest.api.Variable resolvedVariable = variables.get(variable);
-            if (resolvedVariable == null) {
-                throw new QuestRuntimeException("Could not resolve variable '" + variable + "'");
-            }
-            matcher.appendReplacement(resolvedString, Matcher.quoteReplacement(resolvedVariable.getValue(profile)));
+    private String getString(final Segment[] segments, final int literalLength, @Nullable final Profile profile) {
+        final StringBuilder resolvedString = new StringBuilder(literalLength + segments.length * 8);
+        for (final Segment segment : segments) {
+            resolvedString.append(segment.resolve(profile));
         }
-        matcher.appendTail(resolvedString);
         return resolvedString.toString();
     }
 
@@ -110,6 +155,15 @@ public class Variable<T> {
         return value.resolve(profile);
     }
 
+    /**
+     * Checks if the input contains variables. Otherwise, the value is the same for every profile.
+     *
+     * @return true if the input contains variables
+     */
+    public boolean containsVariables() {
+        return containsVariables;
+    }
+
     /**
      * Resolves the value of the variable to the given type.
      *
@@ -144,6 +198,36 @@ public class Variable<T> {
         T resolve(@Nullable Profile profile) throws QuestRuntimeException;
     }
 
+    /**
+     * A part of the input, either literal text or a variable.
+     *
+     * @param literal  the literal text or null if this is a variable
+     * @param variable the variable or null if this is literal text
+     */
+    private record Segment(@Nullable String literal, @Nullable org.betonquest.betonquest.api.Variable variable) {
+        /**
+         * Gets the length of the literal text.
+         *
+         * @return the length or 0 if this is a variable
+         */
+        private int length() {
+            return literal == null ? 0 : literal.length();
+        }
+
+        /**
+         * Resolves the segment for the profile.
+         *
+         * @param profile the profile of the player to resolve the variables for
+         * @return the literal text or the value of the variable
+         */
+        private String resolve(@Nullable final Profile profile) {
+            if (literal != null) {
+                return literal;
+            }
+            return Objects.requireNonNull(variable).getValue(profile);
+        }
+    }
+
     /**
      * Checks if the value of the variable is valid.
      * <p>
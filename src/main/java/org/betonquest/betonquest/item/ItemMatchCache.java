@@ -0,0 +1,100 @@
+package org.betonquest.betonquest.item;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Remembers the results of the last comparisons of a {@link QuestItem}.
+ * <p>
+ * An item is recognized again with {@link ItemStack#isSimilar(ItemStack)}, which compares the item data of server
+ * item stacks directly instead of copying their meta like the full comparison does.
+ * So repeated scans of an unchanged inventory do not need to check the meta again.
+ * The comparisons are remembered per material, so a lookup only checks items of the same material.
+ * Each material holds enough comparisons for the differing items of that material in a whole player inventory
+ * and replaces its oldest one when it is full. The cache is thread safe.
+ */
+class ItemMatchCache {
+    /**
+     * The amount of remembered comparisons per material.
+     */
+    private static final int SIZE = 16;
+
+    /**
+     * The remembered comparisons by the material of the compared items.
+     */
+    private final Map<Material, Bucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new empty cache.
+     */
+    /* default */ ItemMatchCache() {
+    }
+
+    /**
+     * Gets the remembered result for an item.
+     *
+     * @param item the item to get the result for
+     * @return the result of the comparison or null if the item was not compared recently
+     */
+    @Nullable
+    /* default */ Boolean get(final ItemStack item) {
+        final Bucket bucket = buckets.get(item.getType());
+        if (bucket == null) {
+            return null;
+        }
+        for (int index = 0; index < SIZE; index++) {
+            final Match match = bucket.matches.get(index);
+            if (match == null) {
+                return null;
+            }
+            if (match.item().isSimilar(item)) {
+                return match.matches();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Remembers the result for an item.
+     *
+     * @param item    the compared item, it is copied
+     * @param matches the result of the comparison
+     */
+    /* default */ void put(final ItemStack item, final boolean matches) {
+        final Bucket bucket = buckets.computeIfAbsent(item.getType(), type -> new Bucket());
+        bucket.matches.set(Math.floorMod(bucket.next.getAndIncrement(), SIZE), new Match(item.clone(), matches));
+    }
+
+    /**
+     * The remembered comparisons of one material, filled from the start.
+     */
+    private static final class Bucket {
+        /**
+         * The remembered comparisons.
+         */
+        private final AtomicReferenceArray<Match> matches = new AtomicReferenceArray<>(SIZE);
+
+        /**
+         * The index of the next comparison to replace.
+         */
+        private final AtomicInteger next = new AtomicInteger();
+
+        private Bucket() {
+        }
+    }
+
+    /**
+     * A remembered comparison.
+     *
+     * @param item    the copy of the compared item
+     * @param matches the result of the comparison
+     */
+    private record Match(ItemStack item, boolean matches) {
+    }
+}
@@ -81,6 +81,16 @@ public class QuestItem {
 
     private final FlagHandler flags = new FlagHandler();
 
+    /**
+     * The recent comparisons with items whose meta had to be checked.
+     */
+    private final ItemMatchCache matchCache = new ItemMatchCache();
+
+    /**
+     * If any meta of the item is checked, otherwise only the material is compared.
+     */
+    private final boolean metaConstraints;
+
     /**
      * Creates new instance of the quest item using the ID
      *
@@ -111,6 +121,7 @@ public class QuestItem {
     public QuestItem(final String instruction) throws InstructionParseException {
         final String[] parts = HandlerUtil.getNNSplit(instruction, "Item instruction is null", " ");
         selector = new BlockSelector(parts[0]);
+        boolean hasMetaConstraints = false;
 
         // Skip the block selector part to process remaining arguments
         for (int i = 1; i < parts.length; i++) {
@@ -167,7 +178,9 @@ public class QuestItem {
                 }
                 default -> throw new InstructionParseException("Unknown argument: " + argumentName);
             }
+            hasMetaConstraints |= !argumentName.isEmpty();
         }
+        metaConstraints = hasMetaConstraints;
     }
 
     /**
@@ -366,11 +379,12 @@ public class QuestItem {
 
     /**
      * Compares ItemStack to the quest item.
+     * <p>
+     * The meta is only checked if the quest item has meta constraints and the item was not compared recently.
      *
      * @param item ItemStack to compare
      * @return true if the item matches
      */
-    @SuppressWarnings("PMD.NPathComplexity")
     public boolean compare(@Nullable final ItemStack item) {
         // basic item checks
         if (item == null) {
@@ -379,6 +393,20 @@ public class QuestItem {
         if (!selector.match(item.getType())) {
             return false;
         }
+        if (!metaConstraints) {
+            return true;
+        }
+        final Boolean cached = matchCache.get(item);
+        if (cached != null) {
+            return cached;
+        }
+        final boolean matches = compareMeta(item);
+        matchCache.put(item, matches);
+        return matches;
+    }
+
+    @SuppressWarnings("PMD.NPathComplexity")
+    private boolean compareMeta(final ItemStack item) {
         // basic meta checks
         final ItemMeta meta = item.getItemMeta();
         if (meta == null) {
@@ -537,6 +565,15 @@ public class QuestItem {
         return selector.getRandomMaterial();
     }
 
+    /**
+     * Get all materials this item can have.
+     *
+     * @return the materials matched by this item
+     */
+    public List<Material> getMaterials() {
+        return selector.getMaterials();
+    }
+
     /**
      * @return the durability value
      */
@@ -0,0 +1,84 @@
+package org.betonquest.betonquest.item;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts multiple {@link QuestItem}s in an inventory with a single pass over its items.
+ * <p>
+ * The quest items are indexed by their materials, so each item is only compared to the quest items
+ * that can have its material.
+ */
+public class QuestItemScanner {
+    /**
+     * The quest items to count.
+     */
+    private final QuestItem[] questItems;
+
+    /**
+     * The indices of the quest items by the materials they can have.
+     */
+    private final Map<Material, int[]> candidates;
+
+    /**
+     * Creates a new scanner for the quest items.
+     *
+     * @param questItems the quest items to count
+     */
+    public QuestItemScanner(final List<QuestItem> questItems) {
+        this.questItems = questItems.toArray(new QuestItem[0]);
+        final Map<Material, List<Integer>> indices = new EnumMap<>(Material.class);
+        for (int index = 0; index < this.questItems.length; index++) {
+            for (final Material material : this.questItems[index].getMaterials()) {
+                final List<Integer> materialIndices = indices.computeIfAbsent(material, key -> new ArrayList<>());
+                if (!materialIndices.contains(index)) {
+                    materialIndices.add(index);
+                }
+            }
+        }
+        candidates = new EnumMap<>(Material.class);
+        for (final Map.Entry<Material, List<Integer>> entry : indices.entrySet()) {
+            candidates.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+
+    /**
+     * Counts the amount of each quest item in the items.
+     *
+     * @param items the items to count, may contain null
+     * @return the amounts in the order of the quest items
+     */
+    public int[] count(final Iterable<ItemStack> items) {
+        final int[] amounts = new int[questItems.length];
+        count(items, amounts);
+        return amounts;
+    }
+
+    /**
+     * Adds the amount of each quest item in the items to the given amounts.
+     *
+     * @param items   the items to count, may contain null
+     * @param amounts the amounts in the order of the quest items to add to
+     */
+    public void count(final Iterable<ItemStack> items, final int[] amounts) {
+        for (final ItemStack item : items) {
+            if (item == null) {
+                continue;
+            }
+            final int[] indices = candidates.get(item.getType());
+            if (indices == null) {
+                continue;
+            }
+            for (final int index : indices) {
+                if (questItems[index].compare(item)) {
+                    amounts[index] += item.getAmount();
+                }
+            }
+        }
+    }
+}
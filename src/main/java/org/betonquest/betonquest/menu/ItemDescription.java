@@ -58,4 +58,18 @@ public class ItemDescription {
         }
         return lore;
     }
+
+    /**
+     * Checks if the description contains variables.
+     *
+     * @return true if any line contains variables
+     */
+    public boolean containsVariables() {
+        for (final VariableString line : lines) {
+            if (line.containsVariables()) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -203,6 +203,24 @@ public class MenuItem extends SimpleYMLSection {
         return true;
     }
 
+    /**
+     * Checks if the generated item can change while it is displayed, because its amount or description
+     * contains variables or its material is chosen randomly from multiple materials.
+     *
+     * @return true if the item has to be generated again on every update
+     */
+    public boolean containsVariables() {
+        if (item.containsVariables()) {
+            return true;
+        }
+        for (final ItemDescription description : descriptions.values()) {
+            if (description.containsVariables()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Generates the menu item for a specific player.
      *
@@ -305,5 +323,9 @@ public class MenuItem extends SimpleYMLSection {
         public ItemStack generate(final Profile profile) throws QuestRuntimeException {
             return questItem.generate(amount.getValue(profile).intValue(), profile);
         }
+
+        public boolean containsVariables() {
+            return amount.containsVariables() || questItem.getMaterials().size() > 1;
+        }
     }
 }
@@ -8,9 +8,6 @@ import org.betonquest.betonquest.menu.events.MenuCloseEvent;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.inventory.Inventory;
@@ -19,19 +16,27 @@ import org.bukkit.inventory.PlayerInventory;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 /**
  * Class representing a menu which is currently displayed to a player.
+ * <p>
+ * The inventory events of all opened menus are passed by the {@link OpenedMenuListener}.
  */
 @SuppressWarnings("PMD.CommentRequired")
-public class OpenedMenu implements Listener {
+public class OpenedMenu {
     /**
      * Hashmap containing all currently opened menus.
      */
     private static final Map<UUID, OpenedMenu> OPENED_MENUS = new HashMap<>();
 
+    /**
+     * All currently opened menus by the inventory showing them.
+     */
+    private static final Map<Inventory, OpenedMenu> MENU_INVENTORIES = new HashMap<>();
+
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
      */
@@ -41,8 +46,16 @@ public class OpenedMenu implements Listener {
 
     private final Menu data;
 
+    private final Inventory inventory;
+
     private MenuItem[] items;
 
+    /**
+     * The items currently shown in each slot.
+     */
+    @Nullable
+    private ItemStack[] content;
+
     private boolean closed;
 
     public OpenedMenu(final BetonQuestLogger log, final OnlineProfile onlineProfile, final Menu menu) {
@@ -56,11 +69,11 @@ public class OpenedMenu implements Listener {
         this.data = menu;
         this.onlineProfile = onlineProfile;
         this.data.runOpenEvents(onlineProfile);
-        final Inventory inventory = Bukkit.createInventory(null, data.getSize(), data.getTitle(onlineProfile));
-        this.update(onlineProfile, inventory);
+        this.inventory = Bukkit.createInventory(null, data.getSize(), data.getTitle(onlineProfile));
+        this.updateContents();
         onlineProfile.getPlayer().openInventory(inventory);
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
         OPENED_MENUS.put(onlineProfile.getProfileUUID(), this);
+        MENU_INVENTORIES.put(inventory, this);
     }
 
     /**
@@ -74,6 +87,17 @@ public class OpenedMenu implements Listener {
         return OPENED_MENUS.get(onlineProfile.getProfileUUID());
     }
 
+    /**
+     * Returns the menu shown in an inventory.
+     *
+     * @param inventory the inventory to check
+     * @return the menu shown in the inventory or null if it does not show a menu
+     */
+    @Nullable
+    /* default */ static OpenedMenu getMenu(final Inventory inventory) {
+        return MENU_INVENTORIES.get(inventory);
+    }
+
     /**
      * Closes the players menu from the {@link OnlineProfile} if he has one open.
      *
@@ -93,7 +117,7 @@ public class OpenedMenu implements Listener {
      * Called when the plugin unloads to prevent glitching menus.
      */
     public static void closeAll() {
-        for (final OpenedMenu openedMenu : OPENED_MENUS.values()) {
+        for (final OpenedMenu openedMenu : List.copyOf(OPENED_MENUS.values())) {
             openedMenu.close();
         }
     }
@@ -143,26 +167,45 @@ public class OpenedMenu implements Listener {
 
     /**
      * (Re-)adds all items to the inventory.
-     *
-     * @param onlineProfile the player the menu is displayed to
-     * @param inventory     the inventory showing the menu
+     * <p>
+     * Only the slots whose displayed item changed are set. Items without variables are only generated again
+     * if the display conditions changed the item of their slot.
      */
-    public final void update(final OnlineProfile onlineProfile, final Inventory inventory) {
+    private void updateContents() {
+        final MenuItem[] previousItems = this.items;
+        final ItemStack[] previousContent = this.content;
         this.items = data.getItems(onlineProfile);
-        final ItemStack[] content = new ItemStack[items.length];
+        final ItemStack[] newContent = new ItemStack[items.length];
+        int changed = 0;
         //add the items if display conditions are matched
         for (int i = 0; i < items.length; i++) {
-            content[i] = (items[i] == null) ? new ItemStack(Material.AIR) : items[i].generateItem(onlineProfile);
+            final MenuItem item = items[i];
+            final ItemStack previous = previousContent == null ? null : previousContent[i];
+            if (previous != null && item != null && item == previousItems[i] && !item.containsVariables()) {
+                newContent[i] = previous;
+                continue;
+            }
+            newContent[i] = item == null ? new ItemStack(Material.AIR) : item.generateItem(onlineProfile);
+            if (previousContent != null && !newContent[i].equals(previous)) {
+                inventory.setItem(i, newContent[i]);
+                changed++;
+            }
+        }
+        this.content = newContent;
+        if (previousContent == null) {
+            inventory.setContents(newContent);
+            log.debug(getId().getPackage(), () -> "updated contents of menu " + getId() + " for " + onlineProfile);
+        } else {
+            final int changedSlots = changed;
+            log.debug(getId().getPackage(), () -> "updated " + changedSlots + " slots of menu " + getId() + " for " + onlineProfile);
         }
-        log.debug(getId().getPackage(), "updated contents of menu " + getId() + " for " + onlineProfile);
-        inventory.setContents(content);
     }
 
     /**
      * Readds all items to the inventory.
      */
     public void update() {
-        this.update(getProfile(), getInventory());
+        this.updateContents();
     }
 
     /**
@@ -170,9 +213,8 @@ public class OpenedMenu implements Listener {
      *
      * @param event the event to process
      */
-    @EventHandler
     @SuppressWarnings("PMD.CyclomaticComplexity")
-    public void onClick(final InventoryClickEvent event) {
+    /* default */ void onClick(final InventoryClickEvent event) {
         if (!(event.getWhoClicked() instanceof final Player player) || !player.equals(onlineProfile.getPlayer())) {
             return;
         }
@@ -239,8 +281,7 @@ public class OpenedMenu implements Listener {
      *
      * @param event the event to process
      */
-    @EventHandler
-    public void onClose(final InventoryCloseEvent event) {
+    /* default */ void onClose(final InventoryCloseEvent event) {
         if (!(event.getPlayer() instanceof final Player player) || !player.equals(onlineProfile.getPlayer())) {
             return;
         }
@@ -249,8 +290,8 @@ public class OpenedMenu implements Listener {
         Bukkit.getPluginManager().callEvent(closeEvent);
         log.debug(getId().getPackage(), onlineProfile + " closed menu " + getId());
         //clean up
-        HandlerList.unregisterAll(this);
-        OPENED_MENUS.remove(onlineProfile.getProfileUUID());
+        OPENED_MENUS.remove(onlineProfile.getProfileUUID(), this);
+        MENU_INVENTORIES.remove(inventory, this);
         closed = true;
         //run close events
         this.data.runCloseEvents(player);
@@ -0,0 +1,47 @@
+package org.betonquest.betonquest.menu;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+
+/**
+ * Listens to the inventory events of all {@link OpenedMenu}s.
+ * <p>
+ * Instead of every opened menu registering its own listener, the events are passed to the menu shown
+ * in the event's inventory.
+ */
+public class OpenedMenuListener implements Listener {
+    /**
+     * Creates a new listener for all opened menus.
+     */
+    public OpenedMenuListener() {
+        // Empty
+    }
+
+    /**
+     * Passes clicks to the menu shown in the clicked view.
+     *
+     * @param event the InventoryClickEvent
+     */
+    @EventHandler
+    public void onClick(final InventoryClickEvent event) {
+        final OpenedMenu menu = OpenedMenu.getMenu(event.getInventory());
+        if (menu != null) {
+            menu.onClick(event);
+        }
+    }
+
+    /**
+     * Passes the closing to the menu shown in the closed view.
+     *
+     * @param event the InventoryCloseEvent
+     */
+    @EventHandler
+    public void onClose(final InventoryCloseEvent event) {
+        final OpenedMenu menu = OpenedMenu.getMenu(event.getInventory());
+        if (menu != null) {
+            menu.onClose(event);
+        }
+    }
+}
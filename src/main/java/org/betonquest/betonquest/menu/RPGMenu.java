@@ -66,6 +66,7 @@ public class RPGMenu {
         betonQuest.registerEvents(menu, MenuQuestEvent.class);
         betonQuest.registerVariable(menu, MenuVariable.class);
         this.pluginCommand = new RPGMenuCommand(loggerFactory.create(RPGMenuCommand.class), this);
+        Bukkit.getPluginManager().registerEvents(new OpenedMenuListener(), betonQuest);
     }
 
     /**
@@ -9,6 +9,7 @@ import org.betonquest.betonquest.api.logger.BetonQuestLoggerFactory;
 import org.betonquest.betonquest.modules.config.quest.Quest;
 import org.betonquest.betonquest.modules.config.quest.QuestPackageImpl;
 import org.betonquest.betonquest.modules.config.quest.QuestTemplate;
+import org.betonquest.betonquest.quest.registry.PackageLoader;
 import org.bukkit.configuration.InvalidConfigurationException;
 import org.jetbrains.annotations.Nullable;
 
@@ -16,9 +17,10 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Class to load all {@link QuestTemplate}s and {@link QuestPackage}s from the root directory and apply all templates.
@@ -58,19 +60,29 @@ public class QuestManager {
     /**
      * All loaded {@link QuestPackage}s.
      */
-    private final Map<String, QuestPackage> packages;
+    private final Map<String, QuestPackageImpl> packages;
+
+    /**
+     * The loader to read the templates and packages in parallel.
+     */
+    private final PackageLoader packageLoader;
 
     /**
      * Loads all {@link QuestTemplate}s and {@link QuestPackage}s from the root directory and applies all templates.
+     * <p>
+     * The files of the templates and packages are read in parallel by the package loader.
      *
      * @param loggerFactory         logger factory to use
      * @param log                   the logger that will be used for logging
      * @param configAccessorFactory the factory that will be used to create {@link ConfigAccessor}s
      * @param root                  The root directory where to create the root folders for templates and packages
+     * @param packageLoader         the loader to read the templates and packages in parallel
      */
-    public QuestManager(final BetonQuestLoggerFactory loggerFactory, final BetonQuestLogger log, final ConfigAccessorFactory configAccessorFactory, final File root) {
+    public QuestManager(final BetonQuestLoggerFactory loggerFactory, final BetonQuestLogger log, final ConfigAccessorFactory configAccessorFactory, final File root,
+                        final PackageLoader packageLoader) {
         this.log = log;
-        this.packages = new HashMap<>();
+        this.packages = new ConcurrentHashMap<>();
+        this.packageLoader = packageLoader;
 
         final File templatesDir = new File(root, QUEST_TEMPLATES_FOLDER);
         final File packagesDir = new File(root, QUEST_PACKAGES_FOLDER);
@@ -79,13 +91,18 @@ public class QuestManager {
             return;
         }
 
-        final Map<String, QuestTemplate> templates = new HashMap<>();
+        final Map<String, QuestTemplate> templates = new ConcurrentHashMap<>();
         try {
-            searchForPackages(templatesDir, templatesDir, FILE_NAME_INDICATOR, FILE_TYPE_INDICATOR, (questPath, questFile, files) -> {
+            final List<QuestFiles> templateFiles = new ArrayList<>();
+            searchForPackages(templatesDir, templatesDir, FILE_NAME_INDICATOR, FILE_TYPE_INDICATOR, templateFiles);
+            final List<QuestFiles> packageFiles = new ArrayList<>();
+            searchForPackages(packagesDir, packagesDir, FILE_NAME_INDICATOR, FILE_TYPE_INDICATOR, packageFiles);
+
+            packageLoader.forEach(templateFiles, questFiles -> createPackage(templatesDir, questFiles, (questPath, questFile, files) -> {
                 final QuestTemplate quest = new QuestTemplate(loggerFactory.create(QuestTemplate.class), configAccessorFactory, questPath, questFile, files);
                 templates.put(quest.getQuestPath(), quest);
-            });
-            searchForPackages(packagesDir, packagesDir, FILE_NAME_INDICATOR, FILE_TYPE_INDICATOR, (questPath, questFile, files) -> {
+            }));
+            packageLoader.forEach(packageFiles, questFiles -> createPackage(packagesDir, questFiles, (questPath, questFile, files) -> {
                 final QuestPackageImpl quest = new QuestPackageImpl(loggerFactory.create(QuestPackageImpl.class), configAccessorFactory, questPath, questFile, files);
                 try {
                     quest.applyQuestTemplates(templates);
@@ -96,7 +113,7 @@ public class QuestManager {
                 if (quest.getConfig().getBoolean("package.enabled", true)) {
                     packages.put(quest.getQuestPath(), quest);
                 }
-            });
+            }));
         } catch (final IOException e) {
             log.error("Error while loading '" + packagesDir.getPath() + "'!", e);
         }
@@ -106,7 +123,16 @@ public class QuestManager {
      * @return a map of packages and their names
      */
     public Map<String, QuestPackage> getPackages() {
-        return packages;
+        return Collections.unmodifiableMap(packages);
+    }
+
+    /**
+     * Builds the string indices of all loaded packages in parallel.
+     * This must be called after the packages are available through
+     * {@link org.betonquest.betonquest.config.Config#getPackages()}, because global variables can reference other packages.
+     */
+    public void indexStrings() {
+        packageLoader.forEach(packages.values(), QuestPackageImpl::indexStrings);
     }
 
     private boolean createFolderIfAbsent(final File file) {
@@ -117,25 +143,25 @@ public class QuestManager {
         return true;
     }
 
-    private List<File> searchForPackages(final File root, final File file, final String fileNameIndicator, final String fileTypeIndicator, final QuestCreator creator) throws IOException {
+    private List<File> searchForPackages(final File root, final File file, final String fileNameIndicator, final String fileTypeIndicator, final List<QuestFiles> found) throws IOException {
         final File[] fileArray = checkAndGetFiles(file);
         final List<File> files = new ArrayList<>();
-        final File questFile = searchQuestFile(root, fileNameIndicator, fileTypeIndicator, creator, fileArray, files);
+        final File questFile = searchQuestFile(root, fileNameIndicator, fileTypeIndicator, found, fileArray, files);
         if (questFile != null) {
             files.add(questFile);
-            createPackage(root, questFile.getParentFile(), files, creator);
+            found.add(new QuestFiles(questFile.getParentFile(), new ArrayList<>(files)));
             files.clear();
         }
         return files;
     }
 
     @Nullable
-    private File searchQuestFile(final File root, final String fileNameIndicator, final String fileTypeIndicator, final QuestCreator creator, final File[] fileArray, final List<File> files) {
+    private File searchQuestFile(final File root, final String fileNameIndicator, final String fileTypeIndicator, final List<QuestFiles> found, final File[] fileArray, final List<File> files) {
         File questFile = null;
         for (final File subFile : fileArray) {
             if (subFile.isDirectory()) {
                 try {
-                    files.addAll(searchForPackages(root, subFile, fileNameIndicator, fileTypeIndicator, creator));
+                    files.addAll(searchForPackages(root, subFile, fileNameIndicator, fileTypeIndicator, found));
                 } catch (final IOException e) {
                     log.warn(e.getMessage(), e);
                 }
@@ -164,16 +190,25 @@ public class QuestManager {
         return files;
     }
 
-    private void createPackage(final File root, final File relativeRoot, final List<File> files, final QuestCreator creator) {
-        final String questPath = root.toURI().relativize(relativeRoot.toURI())
+    private void createPackage(final File root, final QuestFiles questFiles, final QuestCreator creator) {
+        final String questPath = root.toURI().relativize(questFiles.relativeRoot().toURI())
                 .toString().replace('/', ' ').trim().replaceAll(" ", PACKAGE_SEPARATOR);
         try {
-            creator.create(questPath, relativeRoot, files);
+            creator.create(questPath, questFiles.relativeRoot(), questFiles.files());
         } catch (final InvalidConfigurationException | FileNotFoundException e) {
             log.warn(root.getParentFile().getName() + " '" + questPath + "' could not be loaded, reason: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * The files of a {@link Quest} that was found but not loaded yet.
+     *
+     * @param relativeRoot the root file of the {@link Quest}
+     * @param files        all files of the {@link Quest}
+     */
+    private record QuestFiles(File relativeRoot, List<File> files) {
+    }
+
     /**
      * Simple interface to create and register a {@link Quest}.
      */
@@ -14,12 +14,23 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * This {@link QuestPackageImpl} represents all functionality based on a {@link Quest}.
  */
 public class QuestPackageImpl extends QuestTemplate implements QuestPackage {
+    /**
+     * All strings of this package by their address with resolved global variables,
+     * or null if the index is not built yet.
+     */
+    @SuppressWarnings("PMD.AvoidUsingVolatile")
+    @Nullable
+    private volatile Map<String, String> strings;
+
     /**
      * Creates a new {@link QuestPackage}.  For more information see {@link Quest}.
      *
@@ -37,6 +48,38 @@ public class QuestPackageImpl extends QuestTemplate implements QuestPackage {
         super(log, configAccessorFactory, questPath, root, files);
     }
 
+    /**
+     * Builds the index of all strings in this package with their global variables resolved,
+     * so {@link #getString(String, String)} is a single lookup afterwards.
+     * Until the index is built all strings are resolved on every call.
+     * <p>
+     * This must be called after all packages are loaded, because global variables can reference other packages.
+     * The index is rebuilt on {@link #saveAll()}, otherwise it lives until the package is reloaded.
+     */
+    public void indexStrings() {
+        final MultiConfiguration config = getConfig();
+        final Map<String, String> index = new HashMap<>();
+        for (final String address : config.getKeys(true)) {
+            if (address.indexOf('.') < 0 || config.isConfigurationSection(address)) {
+                continue;
+            }
+            final String value = resolve(getRawString(address));
+            if (value != null) {
+                index.put(address, value);
+            }
+        }
+        strings = Map.copyOf(index);
+    }
+
+    @Override
+    public boolean saveAll() throws IOException {
+        try {
+            return super.saveAll();
+        } finally {
+            indexStrings();
+        }
+    }
+
     @Override
     public boolean hasTemplate(final String templatePath) {
         return getTemplates().contains(templatePath);
@@ -88,14 +131,16 @@ public class QuestPackageImpl extends QuestTemplate implements QuestPackage {
     @Contract("_, !null -> !null")
     @Nullable
     public String getString(final String address, @Nullable final String def) {
-        final String value = getRawString(address);
-        if (value == null) {
-            return def;
-        }
-        if (!value.contains("$")) {
+        final Map<String, String> index = strings;
+        final String value = index == null ? resolve(getRawString(address)) : index.get(address);
+        return value == null ? def : value;
+    }
+
+    @Nullable
+    private String resolve(@Nullable final String value) {
+        if (value == null || !value.contains("$")) {
             return value;
         }
-
         return GlobalVariableResolver.resolve(this, value);
     }
 
@@ -16,6 +16,16 @@ public class DebugHandlerConfig {
      */
     private static final int EXPIRE_AFTER_DEFAULT = 10;
 
+    /**
+     * Default value for the maximum amount of records in the history.
+     */
+    private static final int MAX_RECORDS_DEFAULT = 100_000;
+
+    /**
+     * Default value for the maximum size of the history in kilobytes.
+     */
+    private static final int MAX_KILOBYTES_DEFAULT = 32_768;
+
     /**
      * The file path to the latest.log.
      */
@@ -36,6 +46,16 @@ public class DebugHandlerConfig {
      */
     private static final String CONFIG_HISTORY_PATH = CONFIG_SECTION + ".history_in_minutes";
 
+    /**
+     * The full path to the config setting, that defines the maximum amount of records in the history.
+     */
+    private static final String CONFIG_MAX_RECORDS_PATH = CONFIG_SECTION + ".history_max_records";
+
+    /**
+     * The full path to the config setting, that defines the maximum size of the history in kilobytes.
+     */
+    private static final String CONFIG_MAX_KILOBYTES_PATH = CONFIG_SECTION + ".history_max_kilobytes";
+
     /**
      * The {@link ConfigurationFile} where to configure debugging.
      */
@@ -90,6 +110,37 @@ public class DebugHandlerConfig {
         return config.getInt(CONFIG_HISTORY_PATH, EXPIRE_AFTER_DEFAULT);
     }
 
+    /**
+     * Gets the maximum amount of {@link LogRecord}s in the history.
+     * <p>
+     * If it is 0, the amount and size of the history are not limited.
+     *
+     * @return the maximum amount of records
+     */
+    public int getHistoryMaxRecords() {
+        return config.getInt(CONFIG_MAX_RECORDS_PATH, MAX_RECORDS_DEFAULT);
+    }
+
+    /**
+     * Gets the maximum estimated size of the history.
+     * <p>
+     * If it is 0, only the amount of records is limited.
+     *
+     * @return the maximum size in kilobytes
+     */
+    public int getHistoryMaxKilobytes() {
+        return config.getInt(CONFIG_MAX_KILOBYTES_PATH, MAX_KILOBYTES_DEFAULT);
+    }
+
+    /**
+     * Checks if a history of {@link LogRecord}s is kept while debugging is disabled.
+     *
+     * @return true if the history expires after more than 0 minutes
+     */
+    public boolean isHistoryEnabled() {
+        return getExpireAfterMinutes() > 0;
+    }
+
     /**
      * Get the {@link File} for writing log messages into.
      *
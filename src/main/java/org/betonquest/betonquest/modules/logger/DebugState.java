@@ -0,0 +1,93 @@
+package org.betonquest.betonquest.modules.logger;
+
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+/**
+ * Tracks whether debug {@link LogRecord}s are consumed by any {@link Handler},
+ * so building and logging debug messages can be skipped if they are not.
+ * <p>
+ * Debug messages are consumed if debugging is enabled, the log history is kept
+ * or a player watches the debug messages of the package in game.
+ * Until the handlers are set up all debug messages are considered as consumed.
+ * <p>
+ * The history is kept by default ({@code debug.history_in_minutes: 10}), so all debug messages are consumed and
+ * nothing is skipped unless the history is disabled with {@code debug.history_in_minutes: 0}.
+ */
+public class DebugState {
+    /**
+     * The package filters of all in game watchers that receive debug messages.
+     */
+    private final Map<Object, Predicate<String>> watchers = new ConcurrentHashMap<>();
+
+    /**
+     * Checks if the debug log or its history consume debug messages.
+     */
+    @SuppressWarnings("PMD.AvoidUsingVolatile")
+    private volatile BooleanSupplier recording = () -> true;
+
+    /**
+     * Creates a new debug state that considers all debug messages as consumed.
+     */
+    public DebugState() {
+    }
+
+    /**
+     * Checks if debug messages of the package are consumed.
+     * <p>
+     * This check does not allocate, so it can be used to guard building debug messages in hot paths.
+     *
+     * @param pack the package of the message or null
+     * @return true if debug messages of the package are consumed
+     */
+    public boolean isEnabled(@Nullable final QuestPackage pack) {
+        if (recording.getAsBoolean()) {
+            return true;
+        }
+        if (watchers.isEmpty()) {
+            return false;
+        }
+        final String packName = pack == null ? "" : pack.getQuestPath();
+        for (final Predicate<String> packageFilter : watchers.values()) {
+            if (packageFilter.test(packName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sets the check if the debug log or its history consume debug messages.
+     *
+     * @param recording the check if debug messages are recorded
+     */
+    public void setRecording(final BooleanSupplier recording) {
+        this.recording = recording;
+    }
+
+    /**
+     * Adds an in game watcher that receives the debug messages of all packages matching the filter.
+     *
+     * @param watcher       the watcher to identify it when it is removed
+     * @param packageFilter the filter for the package names
+     */
+    public void watch(final Object watcher, final Predicate<String> packageFilter) {
+        watchers.put(watcher, packageFilter);
+    }
+
+    /**
+     * Removes an in game watcher.
+     *
+     * @param watcher the watcher to remove
+     */
+    public void unwatch(final Object watcher) {
+        watchers.remove(watcher);
+    }
+}
@@ -24,6 +24,11 @@ public class DefaultBetonQuestLogger implements BetonQuestLogger {
      */
     private final Logger logger;
 
+    /**
+     * The state deciding if debug messages are logged.
+     */
+    private final DebugState debugState;
+
     /**
      * Creates a decorator for the {@link TopicLogger}.
      *
@@ -31,10 +36,18 @@ public class DefaultBetonQuestLogger implements BetonQuestLogger {
      * @param parentLogger The parent logger for this logger.
      * @param clazz        The calling class.
      * @param topic        The topic of the logger.
+     * @param debugState   The state deciding if debug messages are logged.
      */
-    public DefaultBetonQuestLogger(final Plugin plugin, final Logger parentLogger, final Class<?> clazz, @Nullable final String topic) {
+    public DefaultBetonQuestLogger(final Plugin plugin, final Logger parentLogger, final Class<?> clazz, @Nullable final String topic,
+                                   final DebugState debugState) {
         this.plugin = plugin;
         this.logger = new TopicLogger(parentLogger, clazz, topic);
+        this.debugState = debugState;
+    }
+
+    @Override
+    public boolean isDebugEnabled(@Nullable final QuestPackage pack) {
+        return debugState.isEnabled(pack);
     }
 
     @Override
@@ -44,6 +57,9 @@ public class DefaultBetonQuestLogger implements BetonQuestLogger {
 
     @Override
     public void debug(@Nullable final QuestPackage pack, @Nullable final String msg) {
+        if (!isDebugEnabled(pack)) {
+            return;
+        }
         final BetonQuestLogRecord record = new BetonQuestLogRecord(Level.FINE, msg, plugin, pack);
         logger.log(record);
     }
@@ -55,6 +71,9 @@ public class DefaultBetonQuestLogger implements BetonQuestLogger {
 
     @Override
     public void debug(@Nullable final QuestPackage pack, @Nullable final String msg, final Throwable thrown) {
+        if (!isDebugEnabled(pack)) {
+            return;
+        }
         final BetonQuestLogRecord record = new BetonQuestLogRecord(Level.FINE, msg, plugin, pack);
         record.setThrown(thrown);
         logger.log(record);
@@ -92,6 +111,9 @@ public class DefaultBetonQuestLogger implements BetonQuestLogger {
         final BetonQuestLogRecord record = new BetonQuestLogRecord(Level.WARNING, msg, plugin, pack);
         logger.log(record);
 
+        if (!isDebugEnabled(pack)) {
+            return;
+        }
         final BetonQuestLogRecord recordThrowable = new BetonQuestLogRecord(Level.FINE, "Additional stacktrace:", plugin, pack);
         recordThrowable.setThrown(thrown);
         logger.log(recordThrowable);
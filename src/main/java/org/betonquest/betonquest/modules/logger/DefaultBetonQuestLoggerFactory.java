@@ -10,10 +10,18 @@ import org.jetbrains.annotations.Nullable;
  * Factory for creating {@link BetonQuestLogger} instances.
  */
 public class DefaultBetonQuestLoggerFactory implements BetonQuestLoggerFactory {
+    /**
+     * The state deciding if debug messages are logged.
+     */
+    private final DebugState debugState;
+
     /**
      * Creates a new instance.
+     *
+     * @param debugState the state deciding if debug messages are logged
      */
-    public DefaultBetonQuestLoggerFactory() {
+    public DefaultBetonQuestLoggerFactory(final DebugState debugState) {
+        this.debugState = debugState;
     }
 
     @Override
@@ -25,7 +33,7 @@ public class DefaultBetonQuestLoggerFactory implements BetonQuestLoggerFactory {
         }
         for (final Plugin plugin : Bukkit.getPluginManager().getPlugins()) {
             if (plugin.getClass().getClassLoader().equals(clazz.getClassLoader())) {
-                return new DefaultBetonQuestLogger(plugin, plugin.getLogger(), clazz, topic);
+                return new DefaultBetonQuestLogger(plugin, plugin.getLogger(), clazz, topic, debugState);
             }
         }
         throw new IllegalStateException("The class '" + clazz.getName()
@@ -35,6 +43,6 @@ public class DefaultBetonQuestLoggerFactory implements BetonQuestLoggerFactory {
 
     @Override
     public BetonQuestLogger create(final Plugin plugin, @Nullable final String topic) {
-        return new DefaultBetonQuestLogger(plugin, plugin.getLogger(), plugin.getClass(), topic);
+        return new DefaultBetonQuestLogger(plugin, plugin.getLogger(), plugin.getClass(), topic, debugState);
     }
 }
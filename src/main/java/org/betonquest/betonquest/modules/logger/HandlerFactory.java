@@ -5,6 +5,7 @@ import org.betonquest.betonquest.api.config.ConfigurationFile;
 import org.betonquest.betonquest.modules.logger.filter.LogRecordTypeFilter;
 import org.betonquest.betonquest.modules.logger.format.ChatFormatter;
 import org.betonquest.betonquest.modules.logger.format.LogfileFormatter;
+import org.betonquest.betonquest.modules.logger.handler.BackgroundWriterHandler;
 import org.betonquest.betonquest.modules.logger.handler.LazyHandler;
 import org.betonquest.betonquest.modules.logger.handler.ResettableHandler;
 import org.betonquest.betonquest.modules.logger.handler.chat.ChatHandler;
@@ -13,10 +14,13 @@ import org.betonquest.betonquest.modules.logger.handler.history.BukkitSchedulerC
 import org.betonquest.betonquest.modules.logger.handler.history.DiscardingLogQueue;
 import org.betonquest.betonquest.modules.logger.handler.history.HistoryHandler;
 import org.betonquest.betonquest.modules.logger.handler.history.LogRecordQueue;
+import org.betonquest.betonquest.modules.logger.handler.history.RingBufferLogRecordQueue;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitScheduler;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.attribute.BasicFileAttributeView;
@@ -27,8 +31,9 @@ import java.time.Instant;
 import java.time.InstantSource;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
-import java.util.logging.FileHandler;
 import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.StreamHandler;
 
 /**
  * A static helper class to create {@link Handler}s in the way they are usually used by BetonQuest.
@@ -61,24 +66,35 @@ public final class HandlerFactory {
      * @param config        {@link ConfigurationFile} instance
      * @param logFileFolder {@link File} to the log folder
      * @param instantSource {@link InstantSource} instance
+     * @param debugState    {@link DebugState} to inform if debug messages are recorded
      * @return a new {@link HistoryHandler}
      */
-    public static HistoryHandler createHistoryHandler(final Plugin plugin, final BukkitScheduler scheduler, final ConfigurationFile config, final File logFileFolder, final InstantSource instantSource) {
+    public static HistoryHandler createHistoryHandler(final Plugin plugin, final BukkitScheduler scheduler, final ConfigurationFile config, final File logFileFolder, final InstantSource instantSource,
+                                                      final DebugState debugState) {
         final DebugHandlerConfig debugHandlerConfig = new DebugHandlerConfig(config, logFileFolder);
-        final LogRecordQueue logQueue = createLogRecordQueue(plugin, scheduler, instantSource, debugHandlerConfig.getExpireAfterMinutes());
+        final LogRecordQueue logQueue = createLogRecordQueue(plugin, scheduler, instantSource, debugHandlerConfig);
         final ResettableHandler targetHandler = createDebugLogFileHandler(debugHandlerConfig.getLogFile(), instantSource);
         final HistoryHandler historyHandler = new HistoryHandler(debugHandlerConfig.isDebugging(), debugHandlerConfig::setDebugging, logQueue, targetHandler);
         historyHandler.setFilter(new LogRecordTypeFilter(BetonQuestLogRecord.class));
+        final boolean historyEnabled = debugHandlerConfig.isHistoryEnabled();
+        debugState.setRecording(() -> historyEnabled || historyHandler.isLogging());
         return historyHandler;
     }
 
     private static ResettableHandler createDebugLogFileHandler(final File logFile, final InstantSource instantSource) {
-        return new ResettableHandler(() -> new LazyHandler(() -> setupFileHandler(logFile, instantSource)));
+        return new ResettableHandler(() -> new BackgroundWriterHandler(new LazyHandler(() -> setupFileHandler(logFile, instantSource))));
     }
 
-    private static LogRecordQueue createLogRecordQueue(final Plugin plugin, final BukkitScheduler scheduler, final InstantSource instantSource, final int keepMinutes) {
+    private static LogRecordQueue createLogRecordQueue(final Plugin plugin, final BukkitScheduler scheduler, final InstantSource instantSource,
+                                                       final DebugHandlerConfig debugHandlerConfig) {
+        final int keepMinutes = debugHandlerConfig.getExpireAfterMinutes();
+        final int maxRecords = debugHandlerConfig.getHistoryMaxRecords();
         if (keepMinutes == 0) {
             return new DiscardingLogQueue();
+        } else if (maxRecords > 0) {
+            final int maxKilobytes = debugHandlerConfig.getHistoryMaxKilobytes();
+            return new RingBufferLogRecordQueue(instantSource, Duration.of(keepMinutes, ChronoUnit.MINUTES), maxRecords,
+                    maxKilobytes > 0 ? maxKilobytes * 1024L : Long.MAX_VALUE);
         } else {
             final BukkitSchedulerCleaningLogQueue bukkitQueue = new BukkitSchedulerCleaningLogQueue(instantSource, Duration.of(keepMinutes, ChronoUnit.MINUTES));
             bukkitQueue.runCleanupTimerAsynchronously(scheduler, plugin, 20, 20);
@@ -86,11 +102,12 @@ public final class HandlerFactory {
         }
     }
 
+    @SuppressWarnings("PMD.CloseResource")
     private static Handler setupFileHandler(final File logFile, final InstantSource instantSource) {
         try {
             renameLogFile(logFile, instantSource);
-            final FileHandler fileHandler = new FileHandler(logFile.getAbsolutePath());
-            fileHandler.setFormatter(new LogfileFormatter());
+            final StreamHandler fileHandler = new StreamHandler(new BufferedOutputStream(new FileOutputStream(logFile, true)), new LogfileFormatter());
+            fileHandler.setLevel(Level.ALL);
             return fileHandler;
         } catch (final IOException e) {
             throw new IllegalStateException("Could not create the FileHandler for the DebugLogger!\n"
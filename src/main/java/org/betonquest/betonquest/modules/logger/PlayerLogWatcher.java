@@ -27,15 +27,22 @@ public class PlayerLogWatcher {
      */
     private final ReceiverSelectorRegistry selectorRegistry;
 
+    /**
+     * Debug state to inform about watchers that receive debug messages.
+     */
+    private final DebugState debugState;
+
     /**
      * Create a facade for the given {@link ReceiverSelectorRegistry}. Please be aware that the facade assumes that it
      * has full and sole control over the registry and that the registry is provided empty.
      *
      * @param selectorRegistry registry to be controlled
+     * @param debugState       debug state to inform about watchers that receive debug messages
      */
-    public PlayerLogWatcher(final ReceiverSelectorRegistry selectorRegistry) {
+    public PlayerLogWatcher(final ReceiverSelectorRegistry selectorRegistry, final DebugState debugState) {
         activeSelectors = HashBasedTable.create();
         this.selectorRegistry = selectorRegistry;
+        this.debugState = debugState;
     }
 
     /**
@@ -85,6 +92,9 @@ public class PlayerLogWatcher {
         final PlayerPackageReceiverSelector newSelector = new PlayerPackageReceiverSelector(
                 Collections.singleton(subject), minimumLevel, packagePattern);
         selectorRegistry.addSelector(newSelector);
+        if (minimumLevel.intValue() <= Level.FINE.intValue()) {
+            debugState.watch(newSelector, PlayerPackageReceiverSelector.createPackageFilter(packagePattern));
+        }
         final RecordReceiverSelector oldSelector = activeSelectors.put(subject, packagePattern, newSelector);
         unregisterSelector(oldSelector);
     }
@@ -104,6 +114,7 @@ public class PlayerLogWatcher {
     private void unregisterSelector(@Nullable final RecordReceiverSelector oldSelector) {
         if (oldSelector != null) {
             selectorRegistry.removeSelector(oldSelector);
+            debugState.unwatch(oldSelector);
         }
     }
 }
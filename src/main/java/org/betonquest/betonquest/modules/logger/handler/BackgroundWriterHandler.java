@@ -0,0 +1,119 @@
+package org.betonquest.betonquest.modules.logger.handler;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+/**
+ * {@link Handler} that passes all {@link LogRecord}s to the target {@link Handler} on a background writer thread.
+ * <p>
+ * Publishing only adds the record to a lock-free queue. The writer publishes all queued records as a batch
+ * and flushes the target once per batch. Closing waits for the writer to publish the remaining records
+ * before the target is closed.
+ */
+@SuppressWarnings("PMD.DoNotUseThreads")
+public class BackgroundWriterHandler extends Handler {
+    /**
+     * The time the writer waits for new records if the queue is empty.
+     */
+    private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    /**
+     * The time to wait for the writer to finish when closing.
+     */
+    private static final long CLOSE_TIMEOUT_MILLIS = 1000;
+
+    /**
+     * The target {@link Handler} to write the records to.
+     */
+    private final Handler target;
+
+    /**
+     * The records that are not written yet.
+     */
+    private final Queue<LogRecord> pending;
+
+    /**
+     * The writer thread.
+     */
+    private final Thread writer;
+
+    /**
+     * Marker that this handler is closed and the writer should stop.
+     */
+    @SuppressWarnings("PMD.AvoidUsingVolatile")
+    private volatile boolean closed;
+
+    /**
+     * Create a new {@link BackgroundWriterHandler} and start its writer thread.
+     *
+     * @param target the {@link Handler} to write the records to
+     */
+    public BackgroundWriterHandler(final Handler target) {
+        super();
+        this.target = target;
+        this.pending = new ConcurrentLinkedQueue<>();
+        this.writer = new Thread(this::write, "BetonQuest Debug Log Writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void publish(final LogRecord record) {
+        if (!closed) {
+            pending.add(record);
+        }
+    }
+
+    /**
+     * Wakes up the writer to write all queued records as soon as possible.
+     */
+    @Override
+    public void flush() {
+        LockSupport.unpark(writer);
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write() {
+        while (!closed) {
+            if (!writeBatch()) {
+                LockSupport.parkNanos(this, IDLE_NANOS);
+            }
+        }
+        writeBatch();
+        target.close();
+    }
+
+    private boolean writeBatch() {
+        boolean written = false;
+        for (LogRecord record = pending.poll(); record != null; record = pending.poll()) {
+            try {
+                target.publish(record);
+                written = true;
+            } catch (final RuntimeException e) {
+                reportError("Could not write a log record in the background.", e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+        if (written) {
+            target.flush();
+        }
+        return written;
+    }
+}
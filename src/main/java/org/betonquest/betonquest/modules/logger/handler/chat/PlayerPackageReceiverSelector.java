@@ -75,7 +75,14 @@ public class PlayerPackageReceiverSelector implements RecordReceiverSelector {
         this(receivers, minimumLevel, createPackageFilter(packagePattern));
     }
 
-    private static Predicate<String> createPackageFilter(final String packagePattern) {
+    /**
+     * Creates the package filter for a package pattern as described in
+     * {@link #PlayerPackageReceiverSelector(Set, Level, String)}.
+     *
+     * @param packagePattern package pattern to match
+     * @return the filter matching the package names
+     */
+    public static Predicate<String> createPackageFilter(final String packagePattern) {
         if (ALL_SELECTOR.equals(packagePattern)) {
             return pack -> true;
         }
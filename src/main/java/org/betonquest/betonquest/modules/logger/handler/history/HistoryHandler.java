@@ -4,8 +4,8 @@ import org.betonquest.betonquest.modules.logger.handler.ResettableHandler;
 import org.betonquest.betonquest.utils.WriteOperation;
 
 import java.io.IOException;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
@@ -35,9 +35,14 @@ public class HistoryHandler extends Handler implements LogPublishingController {
     private final LogRecordQueue recordQueue;
 
     /**
-     * Lock for publishing {@link LogRecord}s to maintain chronological order while publishing the accumulated history.
+     * Lock to maintain chronological order while publishing the accumulated history.
+     * Publishing {@link LogRecord}s only shares the read lock, so publishers do not block each other.
+     * <p>
+     * Publishing is therefore not lock-free. The lock stays, because without it a record could be pushed to the
+     * history after the history was published when logging starts. That record would then only be published with
+     * the next history, or after newer records. The read lock is only contended while logging is started or stopped.
      */
-    private final Lock publishLock;
+    private final ReadWriteLock publishLock;
 
     /**
      * The target Handler to log the history to.
@@ -52,7 +57,8 @@ public class HistoryHandler extends Handler implements LogPublishingController {
     /**
      * Whether debugging is enabled.
      */
-    private boolean logging;
+    @SuppressWarnings("PMD.AvoidUsingVolatile")
+    private volatile boolean logging;
 
     /**
      * Creates a new {@link HistoryHandler}.
@@ -69,7 +75,7 @@ public class HistoryHandler extends Handler implements LogPublishingController {
         this.loggingStateUpdater = loggingStateUpdater;
         this.recordQueue = recordQueue;
         this.target = target;
-        this.publishLock = new ReentrantLock(true);
+        this.publishLock = new ReentrantReadWriteLock();
     }
 
     /**
@@ -82,15 +88,15 @@ public class HistoryHandler extends Handler implements LogPublishingController {
         if (!isLoggable(record)) {
             return;
         }
-        if (isLogging()) {
-            publishLock.lock();
-            try {
+        publishLock.readLock().lock();
+        try {
+            if (isLogging()) {
                 target.publish(record);
-            } finally {
-                publishLock.unlock();
+            } else {
+                recordQueue.push(record);
             }
-        } else {
-            recordQueue.push(record);
+        } finally {
+            publishLock.readLock().unlock();
         }
     }
 
@@ -121,27 +127,27 @@ public class HistoryHandler extends Handler implements LogPublishingController {
 
     @Override
     public void startLogging() throws IOException {
-        publishLock.lock();
+        publishLock.writeLock().lock();
         try {
             if (!isLogging()) {
                 setLogging(true);
                 push();
             }
         } finally {
-            publishLock.unlock();
+            publishLock.writeLock().unlock();
         }
     }
 
     @Override
     public void stopLogging() throws IOException {
-        publishLock.lock();
+        publishLock.writeLock().lock();
         try {
             if (isLogging()) {
                 setLogging(false);
                 target.reset();
             }
         } finally {
-            publishLock.unlock();
+            publishLock.writeLock().unlock();
         }
     }
 
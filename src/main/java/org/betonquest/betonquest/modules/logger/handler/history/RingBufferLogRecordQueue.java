@@ -0,0 +1,235 @@
+package org.betonquest.betonquest.modules.logger.handler.history;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.time.InstantSource;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+/**
+ * LogRecord Queue with a fixed capacity that overwrites the oldest records once it is full.
+ * Additionally, the estimated size of all records is limited and records that are older than the configured
+ * duration are skipped when publishing, so the history never grows beyond its limits.
+ * <p>
+ * Pushing is lock-free and can be done by any thread,
+ * while only one thread at a time may check for and publish records.
+ * <p>
+ * A record is only stored or removed by a compare-and-set on its slot, and only the thread that succeeded changes
+ * the estimated size. So each record is counted exactly once, even if a record is pushed while its slot is taken.
+ */
+public class RingBufferLogRecordQueue implements LogRecordQueue {
+    /**
+     * The estimated size of a record without its message in bytes.
+     */
+    private static final long RECORD_SIZE = 128;
+
+    /**
+     * The estimated size of a throwable with its stacktrace in bytes.
+     */
+    private static final long THROWN_SIZE = 4096;
+
+    /**
+     * The slots of the ring buffer.
+     */
+    private final AtomicReferenceArray<Entry> slots;
+
+    /**
+     * The maximum amount of records.
+     */
+    private final int capacity;
+
+    /**
+     * The maximum estimated size of all records in bytes.
+     */
+    private final long maxBytes;
+
+    /**
+     * Time that new log records are valid for.
+     */
+    private final Duration validFor;
+
+    /**
+     * Instant source to get the current time when comparing {@link LogRecord}s.
+     */
+    private final InstantSource instantSource;
+
+    /**
+     * The sequence number of the next pushed record.
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * The sequence number of the oldest record that was not dropped or published yet.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * The estimated size of all records in the buffer in bytes.
+     */
+    private final AtomicLong bytes = new AtomicLong();
+
+    /**
+     * The record that was taken from the buffer by {@link #canPublish()} but not published yet.
+     */
+    @Nullable
+    private Entry next;
+
+    /**
+     * Create a log record queue with a fixed capacity.
+     *
+     * @param instantSource instant source
+     * @param validFor      duration that log records should be valid for
+     * @param capacity      the maximum amount of records
+     * @param maxBytes      the maximum estimated size of all records in bytes
+     */
+    public RingBufferLogRecordQueue(final InstantSource instantSource, final Duration validFor, final int capacity, final long maxBytes) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive, but was " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.capacity = capacity;
+        this.maxBytes = maxBytes;
+        this.validFor = validFor;
+        this.instantSource = instantSource;
+    }
+
+    private static long estimateSize(final LogRecord record) {
+        final String message = record.getMessage();
+        return RECORD_SIZE + (message == null ? 0 : message.length() * 2L) + (record.getThrown() == null ? 0 : THROWN_SIZE);
+    }
+
+    @Override
+    public void push(final LogRecord record) {
+        final Entry entry = new Entry(head.getAndIncrement(), record, estimateSize(record));
+        if (store(entry) && entry.sequence() < tail.get()) {
+            // the record was skipped by the publisher before it was stored, so it would never be taken
+            release(entry);
+        }
+        while (bytes.get() > maxBytes) {
+            if (takeOldest() == null && oldest() >= head.get()) {
+                break;
+            }
+        }
+    }
+
+    @Override
+    public boolean canPublish() {
+        if (next == null) {
+            next = poll();
+        }
+        return next != null;
+    }
+
+    @Override
+    public void publishNext(final Handler publishingTarget) {
+        final Entry entry = next == null ? poll() : next;
+        next = null;
+        if (entry != null) {
+            publishingTarget.publish(entry.record());
+        }
+    }
+
+    /**
+     * Gets the amount of records in the buffer, including records that are expired but not yet skipped.
+     *
+     * @return the amount of records
+     */
+    public int size() {
+        return (int) (head.get() - oldest()) + (next == null ? 0 : 1);
+    }
+
+    /**
+     * Gets the estimated size of all records in the buffer.
+     *
+     * @return the estimated size in bytes
+     */
+    public long getBytes() {
+        return bytes.get();
+    }
+
+    @Nullable
+    private Entry poll() {
+        while (oldest() < head.get()) {
+            final Entry entry = takeOldest();
+            if (entry != null && !isExpired(entry.record())) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private Entry takeOldest() {
+        final long oldest = oldest();
+        if (oldest >= head.get()) {
+            return null;
+        }
+        // advance before reading the slot, so a record stored afterwards sees that it was skipped
+        tail.accumulateAndGet(oldest + 1, Math::max);
+        final Entry entry = slots.get(index(oldest));
+        if (entry != null && entry.sequence() == oldest && release(entry)) {
+            return entry;
+        }
+        return null;
+    }
+
+    /**
+     * Stores the entry in its slot, replacing an older entry. If a newer entry already took the slot, the entry is
+     * dropped.
+     *
+     * @param entry the entry to store
+     * @return true if the entry was stored
+     */
+    private boolean store(final Entry entry) {
+        final int index = index(entry.sequence());
+        while (true) {
+            final Entry current = slots.get(index);
+            if (current != null && current.sequence() > entry.sequence()) {
+                return false;
+            }
+            if (slots.compareAndSet(index, current, entry)) {
+                bytes.addAndGet(current == null ? entry.size() : entry.size() - current.size());
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Removes the entry from its slot, unless it was already removed or replaced.
+     *
+     * @param entry the entry to remove
+     * @return true if this call removed the entry
+     */
+    private boolean release(final Entry entry) {
+        if (slots.compareAndSet(index(entry.sequence()), entry, null)) {
+            bytes.addAndGet(-entry.size());
+            return true;
+        }
+        return false;
+    }
+
+    private long oldest() {
+        return Math.max(tail.get(), head.get() - capacity);
+    }
+
+    private int index(final long sequence) {
+        return (int) (sequence % capacity);
+    }
+
+    private boolean isExpired(final LogRecord record) {
+        return record.getInstant().isBefore(instantSource.instant().minus(validFor));
+    }
+
+    /**
+     * A record in the buffer.
+     *
+     * @param sequence the sequence number of the record
+     * @param record   the record
+     * @param size     the estimated size of the record in bytes
+     */
+    private record Entry(long sequence, LogRecord record, long size) {
+    }
+}
@@ -11,30 +11,73 @@ import org.betonquest.betonquest.id.ConditionID;
 import org.betonquest.betonquest.utils.PlayerConverter;
 import org.bukkit.Bukkit;
 import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * The {@link PlayerHider} can hide others, if both the source and the target {@link Profile} meet all conditions.
+ * <p>
+ * The conditions are checked asynchronously, the conditions requiring the primary server thread are batched to it
+ * for all players at once.
+ * The result is compared with the previous visibility of each player and only the changed pairs are hidden or shown.
+ * These changes are spread over multiple ticks, so each tick only spends a limited amount of time on them.
  */
 public class PlayerHider {
     /**
-     * The map's key is an array containing the source {@link Profile}'s conditions
-     * and the map's value is an array containing the target {@link Profile}'s conditions.
+     * The source and target conditions of all hiders.
      */
-    private final Map<ConditionID[], ConditionID[]> hiders;
+    private final List<Hider> hiders;
+
+    /**
+     * The plugin instance to hide and show players for.
+     */
+    private final BetonQuest plugin;
+
+    /**
+     * The maximum time to spend on visibility changes each tick.
+     */
+    private final long tickBudgetNanos;
+
+    /**
+     * The players hidden from each online source player, by the source player's UUID.
+     * Only accessed by the evaluation, which never runs concurrently.
+     */
+    private final Map<UUID, Visibility> visibilities;
+
+    /**
+     * The visibility changes waiting to be applied on the primary server thread.
+     */
+    private final Queue<VisibilityChange> changes;
+
+    /**
+     * Whether an evaluation is currently running.
+     */
+    private final AtomicBoolean evaluating;
 
     /**
      * The running hider.
      */
     private final BukkitTask bukkitTask;
 
+    /**
+     * The task applying the visibility changes.
+     */
+    private final BukkitTask changeTask;
+
     /**
      * Initialize and start a new {@link PlayerHider}.
      *
@@ -42,7 +85,11 @@ public class PlayerHider {
      * @throws InstructionParseException Thrown if there is a configuration error.
      */
     public PlayerHider(final BetonQuest betonQuest) throws InstructionParseException {
-        hiders = new HashMap<>();
+        plugin = betonQuest;
+        hiders = new ArrayList<>();
+        visibilities = new HashMap<>();
+        changes = new ConcurrentLinkedQueue<>();
+        evaluating = new AtomicBoolean();
 
         for (final QuestPackage pack : Config.getPackages().values()) {
             final ConfigurationSection hiderSection = pack.getConfig().getConfigurationSection("player_hider");
@@ -52,12 +99,14 @@ public class PlayerHider {
             for (final String key : hiderSection.getKeys(false)) {
                 final String rawConditionsSource = hiderSection.getString(key + ".source_player");
                 final String rawConditionsTarget = hiderSection.getString(key + ".target_player");
-                hiders.put(getConditions(pack, key, rawConditionsSource), getConditions(pack, key, rawConditionsTarget));
+                hiders.add(new Hider(getConditions(pack, key, rawConditionsSource), getConditions(pack, key, rawConditionsTarget)));
             }
         }
 
         final long period = betonQuest.getPluginConfig().getLong("player_hider_check_interval", 20);
+        tickBudgetNanos = TimeUnit.MILLISECONDS.toNanos(betonQuest.getPluginConfig().getLong("player_hider_tick_budget", 2));
         bukkitTask = Bukkit.getScheduler().runTaskTimer(betonQuest, this::updateVisibility, 1, period);
+        changeTask = Bukkit.getScheduler().runTaskTimer(betonQuest, this::applyChanges, 1, 1);
     }
 
     /**
@@ -65,6 +114,8 @@ public class PlayerHider {
      */
     public void stop() {
         bukkitTask.cancel();
+        changeTask.cancel();
+        changes.clear();
     }
 
     private ConditionID[] getConditions(final QuestPackage pack, final String key, @Nullable final String rawConditions) throws InstructionParseException {
@@ -75,7 +126,7 @@ public class PlayerHider {
         final ConditionID[] conditionList = new ConditionID[rawConditionsList.length];
         for (int i = 0; i < rawConditionsList.length; i++) {
             try {
-                conditionList[i] = new ConditionID(pack, rawConditionsList[i]);
+                conditionList[i] = BetonQuest.getInstance().getIdTable().condition(pack, rawConditionsList[i]);
             } catch (final ObjectNotFoundException e) {
                 throw new InstructionParseException("Error while loading " + rawConditionsList[i]
                         + " condition for player_hider " + pack.getQuestPath() + "." + key + ": " + e.getMessage(), e);
@@ -86,55 +137,133 @@ public class PlayerHider {
 
     /**
      * Trigger an update for the visibility.
+     * <p>
+     * The conditions are checked asynchronously. If the previous update is still running, this update is skipped.
      */
     public void updateVisibility() {
-        final Collection<? extends OnlineProfile> onlineProfiles = PlayerConverter.getOnlineProfiles();
-        final Map<OnlineProfile, List<OnlineProfile>> profilesToHide = getProfilesToHide(onlineProfiles);
-        for (final OnlineProfile source : onlineProfiles) {
-            updateVisibilityForProfiles(onlineProfiles, source, profilesToHide.get(source));
+        if (!evaluating.compareAndSet(false, true)) {
+            return;
         }
+        final List<OnlineProfile> onlineProfiles = List.copyOf(PlayerConverter.getOnlineProfiles());
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                evaluate(onlineProfiles);
+            } finally {
+                evaluating.set(false);
+            }
+        });
     }
 
-    private void updateVisibilityForProfiles(final Collection<? extends OnlineProfile> onlineProfiles, final OnlineProfile source, @Nullable final List<OnlineProfile> profilesToHide) {
-        if (profilesToHide == null) {
-            for (final OnlineProfile target : onlineProfiles) {
-                source.getPlayer().showPlayer(BetonQuest.getInstance(), target.getPlayer());
-            }
-        } else {
-            for (final OnlineProfile target : onlineProfiles) {
-                if (profilesToHide.contains(target)) {
-                    source.getPlayer().hidePlayer(BetonQuest.getInstance(), target.getPlayer());
-                } else {
-                    source.getPlayer().showPlayer(BetonQuest.getInstance(), target.getPlayer());
+    private void evaluate(final List<OnlineProfile> onlineProfiles) {
+        final BitSet[] sources = new BitSet[hiders.size()];
+        final BitSet[] targets = new BitSet[hiders.size()];
+        for (int hider = 0; hider < hiders.size(); hider++) {
+            targets[hider] = getMatching(onlineProfiles, hiders.get(hider).target());
+            sources[hider] = targets[hider].isEmpty() ? new BitSet() : getMatching(onlineProfiles, hiders.get(hider).source());
+        }
+        final Set<UUID> online = new HashSet<>();
+        for (final OnlineProfile onlineProfile : onlineProfiles) {
+            online.add(onlineProfile.getPlayerUUID());
+        }
+        visibilities.keySet().retainAll(online);
+        for (int source = 0; source < onlineProfiles.size(); source++) {
+            final BitSet hidden = new BitSet(onlineProfiles.size());
+            for (int hider = 0; hider < hiders.size(); hider++) {
+                if (sources[hider].get(source)) {
+                    hidden.or(targets[hider]);
                 }
             }
+            hidden.clear(source);
+            updateVisibility(onlineProfiles, source, hidden);
         }
     }
 
-    private Map<OnlineProfile, List<OnlineProfile>> getProfilesToHide(final Collection<? extends OnlineProfile> onlineProfiles) {
-        final Map<OnlineProfile, List<OnlineProfile>> profilesToHide = new HashMap<>();
-        for (final Map.Entry<ConditionID[], ConditionID[]> hider : hiders.entrySet()) {
-            final List<OnlineProfile> targetProfiles = new ArrayList<>();
-            for (final OnlineProfile target : onlineProfiles) {
-                if (BetonQuest.conditions(target, hider.getValue())) {
-                    targetProfiles.add(target);
-                }
+    private BitSet getMatching(final List<OnlineProfile> onlineProfiles, final ConditionID... conditions) {
+        final BitSet matching = new BitSet(onlineProfiles.size());
+        final boolean[] met = BetonQuest.conditionsForAll(onlineProfiles, conditions);
+        for (int index = 0; index < met.length; index++) {
+            if (met[index]) {
+                matching.set(index);
             }
-            for (final OnlineProfile source : onlineProfiles) {
-                if (!BetonQuest.conditions(source, hider.getKey())) {
-                    continue;
-                }
-                final List<OnlineProfile> hiddenProfiles = getOrCreateProfileList(source, profilesToHide);
-                hiddenProfiles.addAll(targetProfiles);
-                hiddenProfiles.remove(source);
-                profilesToHide.put(source, hiddenProfiles);
+        }
+        return matching;
+    }
+
+    private void updateVisibility(final List<OnlineProfile> onlineProfiles, final int sourceIndex, final BitSet hidden) {
+        final OnlineProfile source = onlineProfiles.get(sourceIndex);
+        final Player player = source.getPlayer();
+        final Visibility previous = visibilities.get(source.getPlayerUUID());
+        final boolean known = previous != null && previous.player() == player;
+        final Set<UUID> hiddenBefore = known ? previous.hidden() : Set.of();
+        final Set<UUID> hiddenNow = new HashSet<>(hiddenBefore);
+        for (int targetIndex = 0; targetIndex < onlineProfiles.size(); targetIndex++) {
+            if (targetIndex == sourceIndex) {
+                continue;
+            }
+            final OnlineProfile target = onlineProfiles.get(targetIndex);
+            final boolean hide = hidden.get(targetIndex);
+            if (hide) {
+                hiddenNow.add(target.getPlayerUUID());
+            } else {
+                hiddenNow.remove(target.getPlayerUUID());
+            }
+            if (!known || hide != hiddenBefore.contains(target.getPlayerUUID())) {
+                changes.add(new VisibilityChange(player, target.getPlayer(), hide));
             }
         }
-        return profilesToHide;
+        visibilities.put(source.getPlayerUUID(), new Visibility(player, hiddenNow));
     }
 
-    private List<OnlineProfile> getOrCreateProfileList(final OnlineProfile onlineProfile, final Map<OnlineProfile, List<OnlineProfile>> profilesToHide) {
-        final List<OnlineProfile> profiles = profilesToHide.get(onlineProfile);
-        return profiles == null ? new ArrayList<>() : profiles;
+    private void applyChanges() {
+        final long deadline = System.nanoTime() + tickBudgetNanos;
+        for (VisibilityChange change = changes.poll(); change != null; change = changes.poll()) {
+            change.apply(plugin);
+            if (System.nanoTime() - deadline >= 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * The conditions of a hider.
+     *
+     * @param source the conditions the source player has to meet to not see the target player
+     * @param target the conditions the target player has to meet to be hidden
+     */
+    private record Hider(ConditionID[] source, ConditionID[] target) {
+    }
+
+    /**
+     * The players hidden from a source player.
+     *
+     * @param player the source player, to detect when the player rejoined
+     * @param hidden the UUIDs of the hidden players, including offline ones that may still be hidden after rejoining
+     */
+    private record Visibility(Player player, Set<UUID> hidden) {
+    }
+
+    /**
+     * A change of the visibility of a target player for a source player.
+     *
+     * @param source the player seeing or not seeing the target
+     * @param target the player to hide or show
+     * @param hide   whether to hide or show the target
+     */
+    private record VisibilityChange(Player source, Player target, boolean hide) {
+        /**
+         * Applies the change if both players are still online.
+         *
+         * @param plugin the plugin to hide or show the player for
+         */
+        private void apply(final BetonQuest plugin) {
+            if (!source.isOnline() || !target.isOnline()) {
+                return;
+            }
+            if (hide) {
+                source.hidePlayer(plugin, target);
+            } else if (!source.canSee(target)) {
+                source.showPlayer(plugin, target);
+            }
+        }
     }
 }
@@ -1,40 +1,29 @@
 package org.betonquest.betonquest.objectives;
 
+import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.Instruction;
 import org.betonquest.betonquest.api.Objective;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.betonquest.betonquest.api.profiles.OnlineProfile;
+import org.betonquest.betonquest.api.profiles.Profile;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
 import org.betonquest.betonquest.exceptions.QuestRuntimeException;
-import org.betonquest.betonquest.utils.PlayerConverter;
 import org.bukkit.Location;
-import org.bukkit.entity.Entity;
-import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
-import org.bukkit.event.entity.PlayerDeathEvent;
-import org.bukkit.event.player.PlayerJoinEvent;
-import org.bukkit.event.player.PlayerMoveEvent;
-import org.bukkit.event.player.PlayerQuitEvent;
-import org.bukkit.event.player.PlayerRespawnEvent;
-import org.bukkit.event.player.PlayerTeleportEvent;
-import org.bukkit.event.vehicle.VehicleMoveEvent;
-
-import java.util.HashMap;
-import java.util.List;
+
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * The AbstractLocationObjective class extends the Objective class and implements the Listener interface
+ * The AbstractLocationObjective class extends the Objective class
  * to handle all movements of players in the game.
  * This abstract class serves as a base for objectives that are completed
  * when a player enters or exits a specific location.
- * It listens for various player events such as join, quit, death, respawn, teleport, and movement
- * to check the player's location.
+ * The {@link LocationObjectiveDispatcher} checks the player's location on various player events
+ * such as join, death, respawn, teleport, and movement.
  */
-public abstract class AbstractLocationObjective extends Objective implements Listener {
+public abstract class AbstractLocationObjective extends Objective {
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
      */
@@ -68,86 +57,53 @@ public abstract class AbstractLocationObjective extends Objective implements Lis
         this.log = log;
         entry = instruction.hasArgument("entry");
         exit = instruction.hasArgument("exit");
-        playersInsideRegion = new HashMap<>();
-    }
-
-    /**
-     * The onPlayerJoin method listens for the PlayerJoinEvent and checks the player's location.
-     *
-     * @param event the PlayerJoinEvent to be used in the method
-     */
-    @EventHandler(ignoreCancelled = true)
-    public void onPlayerJoin(final PlayerJoinEvent event) {
-        checkLocation(event.getPlayer(), event.getPlayer().getLocation());
-    }
-
-    /**
-     * The onPlayerQuit method listens for the PlayerQuitEvent and removes the player from the playersInsideRegion map.
-     *
-     * @param event the PlayerQuitEvent to be used in the method
-     */
-    @EventHandler(ignoreCancelled = true)
-    public void onPlayerQuit(final PlayerQuitEvent event) {
-        playersInsideRegion.remove(PlayerConverter.getID(event.getPlayer()).getProfileUUID());
+        playersInsideRegion = new ConcurrentHashMap<>();
     }
 
     /**
-     * The onPlayerDeath method listens for the PlayerDeathEvent and checks the player's location.
-     *
-     * @param event the PlayerDeathEvent to be used in the method
+     * The listening for movements is done by the {@link LocationObjectiveDispatcher} for all location objectives.
      */
-    @EventHandler(ignoreCancelled = true)
-    public void onPlayerDeath(final PlayerDeathEvent event) {
-        checkLocation(event.getEntity(), event.getEntity().getLocation());
+    @Override
+    public void start() {
+        // Empty
     }
 
     /**
-     * The onPlayerRespawn method listens for the PlayerRespawnEvent and checks the player's location.
-     *
-     * @param event the PlayerRespawnEvent to be used in the method
+     * The listening for movements is done by the {@link LocationObjectiveDispatcher} for all location objectives.
      */
-    @EventHandler(ignoreCancelled = true)
-    public void onPlayerRespawn(final PlayerRespawnEvent event) {
-        checkLocation(event.getPlayer(), event.getRespawnLocation());
+    @Override
+    public void stop() {
+        // Empty
     }
 
     /**
-     * The onPlayerTeleport method listens for the PlayerTeleportEvent and checks the player's location.
+     * Registers the profile at the {@link LocationObjectiveDispatcher} to check its location.
      *
-     * @param event the PlayerTeleportEvent to be used in the method
+     * @param profile the {@link Profile} of the player
      */
-    @EventHandler(ignoreCancelled = true)
-    public void onPlayerTeleport(final PlayerTeleportEvent event) {
-        onPlayerMove(event);
+    @Override
+    public void start(final Profile profile) {
+        BetonQuest.getInstance().getLocationObjectiveDispatcher().register(profile, this);
     }
 
     /**
-     * The onPlayerMove method listens for the PlayerMoveEvent and checks the player's location.
+     * Unregisters the profile from the {@link LocationObjectiveDispatcher} and forgets if it was inside the location.
      *
-     * @param event the PlayerMoveEvent to be used in the method
+     * @param profile the {@link Profile} of the player
      */
-    @EventHandler(ignoreCancelled = true)
-    public void onPlayerMove(final PlayerMoveEvent event) {
-        checkLocation(event.getPlayer(), event.getTo());
+    @Override
+    public void stop(final Profile profile) {
+        BetonQuest.getInstance().getLocationObjectiveDispatcher().unregister(profile, this);
+        playersInsideRegion.remove(profile.getProfileUUID());
     }
 
     /**
-     * The onVehicleMove method listens for the VehicleMoveEvent and checks the player's location.
+     * Checks the location of the player and completes the objective if the location requirement is met.
      *
-     * @param event the VehicleMoveEvent to be used in the method
+     * @param onlineProfile the online profile of the player
+     * @param location      the location of the player
      */
-    @EventHandler(ignoreCancelled = true)
-    public void onVehicleMove(final VehicleMoveEvent event) {
-        final List<Entity> passengers = event.getVehicle().getPassengers();
-        for (final Entity passenger : passengers) {
-            if (passenger instanceof final Player player) {
-                checkLocation(player, event.getTo());
-            }
-        }
-    }
-
-    private void checkLocation(final Player player, final Location location) {
-        final OnlineProfile onlineProfile = PlayerConverter.getID(player);
+    /* default */ void checkLocation(final OnlineProfile onlineProfile, final Location location) {
         if (!containsPlayer(onlineProfile)) {
             return;
         }
@@ -12,15 +12,10 @@ import org.betonquest.betonquest.instruction.variable.VariableNumber;
 import org.betonquest.betonquest.instruction.variable.location.VariableLocation;
 import org.betonquest.betonquest.utils.BlockSelector;
 import org.betonquest.betonquest.utils.PlayerConverter;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.jetbrains.annotations.Nullable;
@@ -35,7 +30,7 @@ import static org.bukkit.event.block.Action.RIGHT_CLICK_BLOCK;
  * them is supported.
  */
 @SuppressWarnings({"PMD.GodClass", "PMD.CommentRequired"})
-public class ActionObjective extends Objective implements Listener {
+public class ActionObjective extends Objective {
     /**
      * The key for the location property
      */
@@ -83,8 +78,7 @@ public class ActionObjective extends Objective implements Listener {
     }
 
     @SuppressWarnings({"PMD.CognitiveComplexity", "PMD.CyclomaticComplexity", "PMD.NPathComplexity"})
-    @EventHandler(priority = EventPriority.LOWEST)
-    public void onInteract(final PlayerInteractEvent event) {
+    /* default */ void onInteract(final PlayerInteractEvent event) {
         final OnlineProfile onlineProfile = PlayerConverter.getID(event.getPlayer());
         if (!containsPlayer(onlineProfile) || !action.match(event.getAction())) {
             return;
@@ -124,14 +118,40 @@ public class ActionObjective extends Objective implements Listener {
                 && selector.match(clickedBlock.getRelative(blockFace), exactMatch) || selector.match(clickedBlock, exactMatch);
     }
 
+    /**
+     * The {@link PlayerInteractEvent}s are passed by the {@link ObjectiveEventDispatcher} for all action objectives.
+     */
     @Override
     public void start() {
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
+        // Empty
     }
 
+    /**
+     * The {@link PlayerInteractEvent}s are passed by the {@link ObjectiveEventDispatcher} for all action objectives.
+     */
     @Override
     public void stop() {
-        HandlerList.unregisterAll(this);
+        // Empty
+    }
+
+    /**
+     * Registers the profile at the {@link ObjectiveEventDispatcher} to receive its interactions.
+     *
+     * @param profile the {@link Profile} of the player
+     */
+    @Override
+    public void start(final Profile profile) {
+        BetonQuest.getInstance().getObjectiveEventDispatcher().register(profile, this);
+    }
+
+    /**
+     * Unregisters the profile from the {@link ObjectiveEventDispatcher}.
+     *
+     * @param profile the {@link Profile} of the player
+     */
+    @Override
+    public void stop(final Profile profile) {
+        BetonQuest.getInstance().getObjectiveEventDispatcher().unregister(profile, this);
     }
 
     @Override
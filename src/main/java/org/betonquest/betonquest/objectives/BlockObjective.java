@@ -11,12 +11,7 @@ import org.betonquest.betonquest.exceptions.QuestRuntimeException;
 import org.betonquest.betonquest.instruction.variable.location.VariableLocation;
 import org.betonquest.betonquest.utils.BlockSelector;
 import org.betonquest.betonquest.utils.PlayerConverter;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.block.BlockPlaceEvent;
 import org.jetbrains.annotations.Nullable;
@@ -26,7 +21,7 @@ import org.jetbrains.annotations.Nullable;
  * (breaking when should be placing) will reverse the progress.
  */
 @SuppressWarnings({"PMD.CommentRequired", "PMD.AvoidDuplicateLiterals"})
-public class BlockObjective extends CountingObjective implements Listener {
+public class BlockObjective extends CountingObjective {
     /**
      * Blockselector parameter.
      */
@@ -76,8 +71,7 @@ public class BlockObjective extends CountingObjective implements Listener {
         ignorecancel = instruction.hasArgument("ignorecancel");
     }
 
-    @EventHandler(priority = EventPriority.HIGHEST)
-    public void onBlockPlace(final BlockPlaceEvent event) {
+    /* default */ void onBlockPlace(final BlockPlaceEvent event) {
         if (event.isCancelled() && !ignorecancel) {
             return;
         }
@@ -93,8 +87,7 @@ public class BlockObjective extends CountingObjective implements Listener {
         }
     }
 
-    @EventHandler(priority = EventPriority.HIGHEST)
-    public void onBlockBreak(final BlockBreakEvent event) {
+    /* default */ void onBlockBreak(final BlockBreakEvent event) {
         if (event.isCancelled() && !ignorecancel) {
             return;
         }
@@ -115,14 +108,21 @@ public class BlockObjective extends CountingObjective implements Listener {
         completeIfDoneOrNotify(onlineProfile, message);
     }
 
+    /**
+     * The {@link BlockPlaceEvent}s and {@link BlockBreakEvent}s of matching blocks are passed by the
+     * {@link ObjectiveEventDispatcher}.
+     */
     @Override
     public void start() {
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
+        BetonQuest.getInstance().getObjectiveEventDispatcher().register(this, selector.getMaterials());
     }
 
+    /**
+     * Stops receiving the {@link BlockPlaceEvent}s and {@link BlockBreakEvent}s from the {@link ObjectiveEventDispatcher}.
+     */
     @Override
     public void stop() {
-        HandlerList.unregisterAll(this);
+        BetonQuest.getInstance().getObjectiveEventDispatcher().unregister(this, selector.getMaterials());
     }
 
     private boolean checkLocation(final Location loc, final Profile profile) {
@@ -7,16 +7,12 @@ import org.betonquest.betonquest.api.profiles.OnlineProfile;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
 import org.betonquest.betonquest.instruction.variable.VariableNumber;
 import org.betonquest.betonquest.utils.PlayerConverter;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityBreedEvent;
 
 @SuppressWarnings("PMD.CommentRequired")
-public class BreedObjective extends CountingObjective implements Listener {
+public class BreedObjective extends CountingObjective {
 
     private final EntityType type;
 
@@ -26,8 +22,7 @@ public class BreedObjective extends CountingObjective implements Listener {
         targetAmount = instruction.getVarNum(VariableNumber.NOT_LESS_THAN_ONE_CHECKER);
     }
 
-    @EventHandler(ignoreCancelled = true)
-    public void onBreeding(final EntityBreedEvent event) {
+    /* default */ void onBreeding(final EntityBreedEvent event) {
         if (event.getEntityType() == type && event.getBreeder() instanceof Player) {
             final OnlineProfile onlineProfile = PlayerConverter.getID((Player) event.getBreeder());
             if (containsPlayer(onlineProfile) && checkConditions(onlineProfile)) {
@@ -37,13 +32,19 @@ public class BreedObjective extends CountingObjective implements Listener {
         }
     }
 
+    /**
+     * The {@link EntityBreedEvent}s are passed by the {@link ObjectiveEventDispatcher} for all the matching entity type.
+     */
     @Override
     public void start() {
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
+        BetonQuest.getInstance().getObjectiveEventDispatcher().register(this, type);
     }
 
+    /**
+     * Stops receiving the {@link EntityBreedEvent}s from the {@link ObjectiveEventDispatcher}.
+     */
     @Override
     public void stop() {
-        HandlerList.unregisterAll(this);
+        BetonQuest.getInstance().getObjectiveEventDispatcher().unregister(this, type);
     }
 }
@@ -9,12 +9,7 @@ import org.betonquest.betonquest.instruction.variable.VariableNumber;
 import org.betonquest.betonquest.item.QuestItem;
 import org.betonquest.betonquest.utils.InventoryUtils;
 import org.betonquest.betonquest.utils.PlayerConverter;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.CraftItemEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
@@ -23,7 +18,7 @@ import org.bukkit.inventory.PlayerInventory;
  * Player has to craft specified amount of items.
  */
 @SuppressWarnings("PMD.CommentRequired")
-public class CraftingObjective extends CountingObjective implements Listener {
+public class CraftingObjective extends CountingObjective {
 
     private final QuestItem item;
 
@@ -49,8 +44,7 @@ public class CraftingObjective extends CountingObjective implements Listener {
         };
     }
 
-    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-    public void onCrafting(final CraftItemEvent event) {
+    /* default */ void onCrafting(final CraftItemEvent event) {
         if (event.getWhoClicked() instanceof final Player player) {
             final OnlineProfile onlineProfile = PlayerConverter.getID(player);
             if (containsPlayer(onlineProfile) && item.compare(event.getInventory().getResult()) && checkConditions(onlineProfile)) {
@@ -60,13 +54,19 @@ public class CraftingObjective extends CountingObjective implements Listener {
         }
     }
 
+    /**
+     * The {@link CraftItemEvent}s are passed by the {@link ObjectiveEventDispatcher} for all matching items.
+     */
     @Override
     public void start() {
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
+        BetonQuest.getInstance().getObjectiveEventDispatcher().register(this, item.getMaterials());
     }
 
+    /**
+     * Stops receiving the {@link CraftItemEvent}s from the {@link ObjectiveEventDispatcher}.
+     */
     @Override
     public void stop() {
-        HandlerList.unregisterAll(this);
+        BetonQuest.getInstance().getObjectiveEventDispatcher().unregister(this, item.getMaterials());
     }
 }
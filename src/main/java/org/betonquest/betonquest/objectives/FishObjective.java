@@ -13,14 +13,9 @@ import org.betonquest.betonquest.instruction.variable.VariableNumber;
 import org.betonquest.betonquest.instruction.variable.location.VariableLocation;
 import org.betonquest.betonquest.utils.BlockSelector;
 import org.betonquest.betonquest.utils.PlayerConverter;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Item;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerFishEvent;
 import org.bukkit.event.player.PlayerFishEvent.State;
 import org.bukkit.inventory.ItemStack;
@@ -30,7 +25,7 @@ import org.jetbrains.annotations.Nullable;
  * Requires the player to catch the fish.
  */
 @SuppressWarnings("PMD.CommentRequired")
-public class FishObjective extends CountingObjective implements Listener {
+public class FishObjective extends CountingObjective {
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
      */
@@ -62,8 +57,7 @@ public class FishObjective extends CountingObjective implements Listener {
         }
     }
 
-    @EventHandler(ignoreCancelled = true, priority = EventPriority.MONITOR)
-    public void onFishCatch(final PlayerFishEvent event) {
+    /* default */ void onFishCatch(final PlayerFishEvent event) {
         if (event.getState() != State.CAUGHT_FISH) {
             return;
         }
@@ -98,13 +92,19 @@ public class FishObjective extends CountingObjective implements Listener {
         return !hookLocation.getWorld().equals(targetLocation.getWorld()) || targetLocation.distanceSquared(hookLocation) > range * range;
     }
 
+    /**
+     * The {@link PlayerFishEvent}s are passed by the {@link ObjectiveEventDispatcher} for all matching items.
+     */
     @Override
     public void start() {
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
+        BetonQuest.getInstance().getObjectiveEventDispatcher().register(this, blockSelector.getMaterials());
     }
 
+    /**
+     * Stops receiving the {@link PlayerFishEvent}s from the {@link ObjectiveEventDispatcher}.
+     */
     @Override
     public void stop() {
-        HandlerList.unregisterAll(this);
+        BetonQuest.getInstance().getObjectiveEventDispatcher().unregister(this, blockSelector.getMaterials());
     }
 }
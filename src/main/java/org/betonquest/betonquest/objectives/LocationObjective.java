@@ -8,9 +8,7 @@ import org.betonquest.betonquest.exceptions.InstructionParseException;
 import org.betonquest.betonquest.exceptions.QuestRuntimeException;
 import org.betonquest.betonquest.instruction.variable.VariableNumber;
 import org.betonquest.betonquest.instruction.variable.location.VariableLocation;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.event.HandlerList;
 
 /**
  * Player has to reach certain radius around the specified location
@@ -53,16 +51,6 @@ public class LocationObjective extends AbstractLocationObjective {
         return location.distanceSquared(targetLocation) <= pRange * pRange;
     }
 
-    @Override
-    public void start() {
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
-    }
-
-    @Override
-    public void stop() {
-        HandlerList.unregisterAll(this);
-    }
-
     @Override
     public String getDefaultDataInstruction() {
         return "";
@@ -0,0 +1,160 @@
+package org.betonquest.betonquest.objectives;
+
+import org.betonquest.betonquest.api.profiles.OnlineProfile;
+import org.betonquest.betonquest.api.profiles.Profile;
+import org.betonquest.betonquest.utils.PlayerConverter;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.event.vehicle.VehicleMoveEvent;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * Listens to the movement of all players for all {@link AbstractLocationObjective}s.
+ * <p>
+ * Instead of every objective listening to every movement, the dispatcher only checks the objectives the moving
+ * player has active. Movements within the same block are not checked.
+ */
+public class LocationObjectiveDispatcher implements Listener {
+    /**
+     * Active location objectives of each profile.
+     */
+    private final Map<Profile, Set<AbstractLocationObjective>> objectives = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new dispatcher without any objectives.
+     */
+    public LocationObjectiveDispatcher() {
+        // Empty
+    }
+
+    /**
+     * Checks the location of the profile for the objective from now on.
+     *
+     * @param profile   the profile that started the objective
+     * @param objective the objective
+     */
+    /* default */ void register(final Profile profile, final AbstractLocationObjective objective) {
+        objectives.compute(profile, (key, active) -> {
+            final Set<AbstractLocationObjective> locationObjectives = active == null ? new CopyOnWriteArraySet<>() : active;
+            locationObjectives.add(objective);
+            return locationObjectives;
+        });
+    }
+
+    /**
+     * Stops checking the location of the profile for the objective.
+     *
+     * @param profile   the profile that stopped the objective
+     * @param objective the objective
+     */
+    /* default */ void unregister(final Profile profile, final AbstractLocationObjective objective) {
+        objectives.computeIfPresent(profile, (key, active) -> {
+            active.remove(objective);
+            return active.isEmpty() ? null : active;
+        });
+    }
+
+    /**
+     * Checks the location of joining players.
+     *
+     * @param event the PlayerJoinEvent
+     */
+    @EventHandler(ignoreCancelled = true)
+    public void onPlayerJoin(final PlayerJoinEvent event) {
+        checkLocation(event.getPlayer(), event.getPlayer().getLocation());
+    }
+
+    /**
+     * Checks the location of dying players.
+     *
+     * @param event the PlayerDeathEvent
+     */
+    @EventHandler(ignoreCancelled = true)
+    public void onPlayerDeath(final PlayerDeathEvent event) {
+        checkLocation(event.getEntity(), event.getEntity().getLocation());
+    }
+
+    /**
+     * Checks the respawn location of players.
+     *
+     * @param event the PlayerRespawnEvent
+     */
+    @EventHandler(ignoreCancelled = true)
+    public void onPlayerRespawn(final PlayerRespawnEvent event) {
+        checkLocation(event.getPlayer(), event.getRespawnLocation());
+    }
+
+    /**
+     * Checks the target location of teleporting players.
+     *
+     * @param event the PlayerTeleportEvent
+     */
+    @EventHandler(ignoreCancelled = true)
+    public void onPlayerTeleport(final PlayerTeleportEvent event) {
+        checkLocation(event.getPlayer(), event.getTo());
+    }
+
+    /**
+     * Checks the location of moving players when they enter another block.
+     *
+     * @param event the PlayerMoveEvent
+     */
+    @EventHandler(ignoreCancelled = true)
+    public void onPlayerMove(final PlayerMoveEvent event) {
+        if (isSameBlock(event.getFrom(), event.getTo())) {
+            return;
+        }
+        checkLocation(event.getPlayer(), event.getTo());
+    }
+
+    /**
+     * Checks the location of players in moving vehicles when they enter another block.
+     *
+     * @param event the VehicleMoveEvent
+     */
+    @EventHandler(ignoreCancelled = true)
+    public void onVehicleMove(final VehicleMoveEvent event) {
+        if (objectives.isEmpty() || isSameBlock(event.getFrom(), event.getTo())) {
+            return;
+        }
+        for (final Entity passenger : event.getVehicle().getPassengers()) {
+            if (passenger instanceof final Player player) {
+                checkLocation(player, event.getTo());
+            }
+        }
+    }
+
+    private boolean isSameBlock(final Location from, final Location to) {
+        return from.getBlockX() == to.getBlockX()
+                && from.getBlockY() == to.getBlockY()
+                && from.getBlockZ() == to.getBlockZ()
+                && Objects.equals(from.getWorld(), to.getWorld());
+    }
+
+    private void checkLocation(final Player player, final Location location) {
+        if (objectives.isEmpty()) {
+            return;
+        }
+        final OnlineProfile onlineProfile = PlayerConverter.getID(player);
+        final Set<AbstractLocationObjective> active = objectives.get(onlineProfile);
+        if (active == null) {
+            return;
+        }
+        for (final AbstractLocationObjective objective : active) {
+            objective.checkLocation(onlineProfile, location);
+        }
+    }
+}
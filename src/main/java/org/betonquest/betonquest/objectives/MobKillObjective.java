@@ -9,12 +9,8 @@ import org.betonquest.betonquest.exceptions.InstructionParseException;
 import org.betonquest.betonquest.instruction.variable.VariableNumber;
 import org.betonquest.betonquest.instruction.variable.VariableString;
 import org.betonquest.betonquest.utils.Utils;
-import org.bukkit.Bukkit;
 import org.bukkit.NamespacedKey;
 import org.bukkit.entity.EntityType;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
 import org.bukkit.persistence.PersistentDataType;
 import org.jetbrains.annotations.Nullable;
 
@@ -26,7 +22,7 @@ import java.util.List;
  * amount.
  */
 @SuppressWarnings("PMD.CommentRequired")
-public class MobKillObjective extends CountingObjective implements Listener {
+public class MobKillObjective extends CountingObjective {
     private final List<EntityType> entities;
 
     @Nullable
@@ -51,8 +47,7 @@ public class MobKillObjective extends CountingObjective implements Listener {
     }
 
     @SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.NPathComplexity"})
-    @EventHandler(ignoreCancelled = true)
-    public void onMobKill(final MobKilledEvent event) {
+    /* default */ void onMobKill(final MobKilledEvent event) {
         final OnlineProfile onlineProfile = event.getProfile().getOnlineProfile().get();
         if (!containsPlayer(onlineProfile)
                 || !entities.contains(event.getEntity().getType())
@@ -75,13 +70,19 @@ public class MobKillObjective extends CountingObjective implements Listener {
         }
     }
 
+    /**
+     * The {@link MobKilledEvent}s are passed by the {@link ObjectiveEventDispatcher} for all matching entity types.
+     */
     @Override
     public void start() {
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
+        BetonQuest.getInstance().getObjectiveEventDispatcher().register(this, entities);
     }
 
+    /**
+     * Stops receiving the {@link MobKilledEvent}s from the {@link ObjectiveEventDispatcher}.
+     */
     @Override
     public void stop() {
-        HandlerList.unregisterAll(this);
+        BetonQuest.getInstance().getObjectiveEventDispatcher().unregister(this, entities);
     }
 }
@@ -0,0 +1,371 @@
+package org.betonquest.betonquest.objectives;
+
+import org.betonquest.betonquest.api.MobKillNotifier.MobKilledEvent;
+import org.betonquest.betonquest.api.profiles.Profile;
+import org.betonquest.betonquest.utils.PlayerConverter;
+import org.bukkit.Material;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Item;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityBreedEvent;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.inventory.CraftItemEvent;
+import org.bukkit.event.player.PlayerFishEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * Listens to the events of the most common objectives once for all of them.
+ * <p>
+ * Instead of every objective registering its own listener, each event is only passed to the objectives
+ * that can match it: block, pickup, craft and fish objectives by their {@link Material}s,
+ * kill and breed objectives by their {@link EntityType}s and action objectives by the profiles that have them active.
+ */
+@SuppressWarnings({"PMD.CouplingBetweenObjects", "PMD.TooManyMethods"})
+public class ObjectiveEventDispatcher implements Listener {
+    /**
+     * Active block objectives by the materials they count.
+     */
+    private final Index<Material, BlockObjective> blocks = new Index<>();
+
+    /**
+     * Active mob kill objectives by the entity types they count.
+     */
+    private final Index<EntityType, MobKillObjective> kills = new Index<>();
+
+    /**
+     * Active breed objectives by the entity type they count.
+     */
+    private final Index<EntityType, BreedObjective> breeds = new Index<>();
+
+    /**
+     * Active pickup objectives by the materials they count.
+     */
+    private final Index<Material, PickupObjective> pickups = new Index<>();
+
+    /**
+     * Active crafting objectives by the materials they count.
+     */
+    private final Index<Material, CraftingObjective> crafts = new Index<>();
+
+    /**
+     * Active fish objectives by the materials they count.
+     */
+    private final Index<Material, FishObjective> fish = new Index<>();
+
+    /**
+     * Active action objectives by the profiles that have them active.
+     */
+    private final Index<Profile, ActionObjective> actions = new Index<>();
+
+    /**
+     * Creates a new dispatcher without any objectives.
+     */
+    public ObjectiveEventDispatcher() {
+        // Empty
+    }
+
+    /**
+     * Passes block place and break events to the objective from now on.
+     *
+     * @param objective the objective
+     * @param materials the materials the objective counts
+     */
+    /* default */ void register(final BlockObjective objective, final Collection<Material> materials) {
+        blocks.add(materials, objective);
+    }
+
+    /**
+     * Stops passing block place and break events to the objective.
+     *
+     * @param objective the objective
+     * @param materials the materials the objective counts
+     */
+    /* default */ void unregister(final BlockObjective objective, final Collection<Material> materials) {
+        blocks.remove(materials, objective);
+    }
+
+    /**
+     * Passes mob kill events to the objective from now on.
+     *
+     * @param objective the objective
+     * @param types     the entity types the objective counts
+     */
+    /* default */ void register(final MobKillObjective objective, final Collection<EntityType> types) {
+        kills.add(types, objective);
+    }
+
+    /**
+     * Stops passing mob kill events to the objective.
+     *
+     * @param objective the objective
+     * @param types     the entity types the objective counts
+     */
+    /* default */ void unregister(final MobKillObjective objective, final Collection<EntityType> types) {
+        kills.remove(types, objective);
+    }
+
+    /**
+     * Passes breed events to the objective from now on.
+     *
+     * @param objective the objective
+     * @param type      the entity type the objective counts
+     */
+    /* default */ void register(final BreedObjective objective, final EntityType type) {
+        breeds.add(Set.of(type), objective);
+    }
+
+    /**
+     * Stops passing breed events to the objective.
+     *
+     * @param objective the objective
+     * @param type      the entity type the objective counts
+     */
+    /* default */ void unregister(final BreedObjective objective, final EntityType type) {
+        breeds.remove(Set.of(type), objective);
+    }
+
+    /**
+     * Passes pickup events to the objective from now on.
+     *
+     * @param objective the objective
+     * @param materials the materials the objective counts
+     */
+    /* default */ void register(final PickupObjective objective, final Collection<Material> materials) {
+        pickups.add(materials, objective);
+    }
+
+    /**
+     * Stops passing pickup events to the objective.
+     *
+     * @param objective the objective
+     * @param materials the materials the objective counts
+     */
+    /* default */ void unregister(final PickupObjective objective, final Collection<Material> materials) {
+        pickups.remove(materials, objective);
+    }
+
+    /**
+     * Passes craft events to the objective from now on.
+     *
+     * @param objective the objective
+     * @param materials the materials the objective counts
+     */
+    /* default */ void register(final CraftingObjective objective, final Collection<Material> materials) {
+        crafts.add(materials, objective);
+    }
+
+    /**
+     * Stops passing craft events to the objective.
+     *
+     * @param objective the objective
+     * @param materials the materials the objective counts
+     */
+    /* default */ void unregister(final CraftingObjective objective, final Collection<Material> materials) {
+        crafts.remove(materials, objective);
+    }
+
+    /**
+     * Passes fish events to the objective from now on.
+     *
+     * @param objective the objective
+     * @param materials the materials the objective counts
+     */
+    /* default */ void register(final FishObjective objective, final Collection<Material> materials) {
+        fish.add(materials, objective);
+    }
+
+    /**
+     * Stops passing fish events to the objective.
+     *
+     * @param objective the objective
+     * @param materials the materials the objective counts
+     */
+    /* default */ void unregister(final FishObjective objective, final Collection<Material> materials) {
+        fish.remove(materials, objective);
+    }
+
+    /**
+     * Passes the interactions of the profile to the objective from now on.
+     *
+     * @param profile   the profile that started the objective
+     * @param objective the objective
+     */
+    /* default */ void register(final Profile profile, final ActionObjective objective) {
+        actions.add(Set.of(profile), objective);
+    }
+
+    /**
+     * Stops passing the interactions of the profile to the objective.
+     *
+     * @param profile   the profile that stopped the objective
+     * @param objective the objective
+     */
+    /* default */ void unregister(final Profile profile, final ActionObjective objective) {
+        actions.remove(Set.of(profile), objective);
+    }
+
+    /**
+     * Passes placed blocks to the block objectives counting their material.
+     *
+     * @param event the BlockPlaceEvent
+     */
+    @EventHandler(priority = EventPriority.HIGHEST)
+    public void onBlockPlace(final BlockPlaceEvent event) {
+        for (final BlockObjective objective : blocks.get(event.getBlock().getType())) {
+            objective.onBlockPlace(event);
+        }
+    }
+
+    /**
+     * Passes broken blocks to the block objectives counting their material.
+     *
+     * @param event the BlockBreakEvent
+     */
+    @EventHandler(priority = EventPriority.HIGHEST)
+    public void onBlockBreak(final BlockBreakEvent event) {
+        for (final BlockObjective objective : blocks.get(event.getBlock().getType())) {
+            objective.onBlockBreak(event);
+        }
+    }
+
+    /**
+     * Passes killed mobs to the mob kill objectives counting their type.
+     *
+     * @param event the MobKilledEvent
+     */
+    @EventHandler(ignoreCancelled = true)
+    public void onMobKill(final MobKilledEvent event) {
+        for (final MobKillObjective objective : kills.get(event.getEntity().getType())) {
+            objective.onMobKill(event);
+        }
+    }
+
+    /**
+     * Passes bred animals to the breed objectives counting their type.
+     *
+     * @param event the EntityBreedEvent
+     */
+    @EventHandler(ignoreCancelled = true)
+    public void onBreeding(final EntityBreedEvent event) {
+        for (final BreedObjective objective : breeds.get(event.getEntityType())) {
+            objective.onBreeding(event);
+        }
+    }
+
+    /**
+     * Passes picked up items to the pickup objectives counting their material.
+     *
+     * @param event the EntityPickupItemEvent
+     */
+    @EventHandler(ignoreCancelled = true)
+    public void onPickup(final EntityPickupItemEvent event) {
+        for (final PickupObjective objective : pickups.get(event.getItem().getItemStack().getType())) {
+            objective.onPickup(event);
+        }
+    }
+
+    /**
+     * Passes crafted items to the crafting objectives counting their material.
+     *
+     * @param event the CraftItemEvent
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onCrafting(final CraftItemEvent event) {
+        final ItemStack result = event.getInventory().getResult();
+        if (result == null) {
+            return;
+        }
+        for (final CraftingObjective objective : crafts.get(result.getType())) {
+            objective.onCrafting(event);
+        }
+    }
+
+    /**
+     * Passes caught items to the fish objectives counting their material.
+     *
+     * @param event the PlayerFishEvent
+     */
+    @EventHandler(ignoreCancelled = true, priority = EventPriority.MONITOR)
+    public void onFishCatch(final PlayerFishEvent event) {
+        if (event.getState() != PlayerFishEvent.State.CAUGHT_FISH || !(event.getCaught() instanceof final Item caught)) {
+            return;
+        }
+        for (final FishObjective objective : fish.get(caught.getItemStack().getType())) {
+            objective.onFishCatch(event);
+        }
+    }
+
+    /**
+     * Passes interactions to the action objectives of the interacting player.
+     *
+     * @param event the PlayerInteractEvent
+     */
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onInteract(final PlayerInteractEvent event) {
+        if (actions.isEmpty()) {
+            return;
+        }
+        for (final ActionObjective objective : actions.get(PlayerConverter.getID(event.getPlayer()))) {
+            objective.onInteract(event);
+        }
+    }
+
+    /**
+     * Active objectives of one type by the keys of the events they can match.
+     *
+     * @param <K> the type of the keys
+     * @param <O> the type of the objectives
+     */
+    private static final class Index<K, O> {
+        /**
+         * Active objectives by the keys they can match.
+         */
+        private final Map<K, Set<O>> objectives = new ConcurrentHashMap<>();
+
+        private Index() {
+        }
+
+        private void add(final Collection<K> keys, final O objective) {
+            for (final K key : keys) {
+                objectives.compute(key, (k, active) -> {
+                    final Set<O> keyed = active == null ? new CopyOnWriteArraySet<>() : active;
+                    keyed.add(objective);
+                    return keyed;
+                });
+            }
+        }
+
+        private void remove(final Collection<K> keys, final O objective) {
+            for (final K key : keys) {
+                objectives.computeIfPresent(key, (k, active) -> {
+                    active.remove(objective);
+                    return active.isEmpty() ? null : active;
+                });
+            }
+        }
+
+        private Set<O> get(@Nullable final K key) {
+            if (key == null) {
+                return Set.of();
+            }
+            final Set<O> active = objectives.get(key);
+            return active == null ? Set.of() : active;
+        }
+
+        private boolean isEmpty() {
+            return objectives.isEmpty();
+        }
+    }
+}
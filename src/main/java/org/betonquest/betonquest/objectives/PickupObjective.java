@@ -8,27 +8,32 @@ import org.betonquest.betonquest.api.profiles.OnlineProfile;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
 import org.betonquest.betonquest.instruction.variable.VariableNumber;
 import org.betonquest.betonquest.utils.PlayerConverter;
-import org.bukkit.Bukkit;
+import org.bukkit.Material;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityPickupItemEvent;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.HashSet;
+import java.util.Set;
+
 @SuppressWarnings("PMD.CommentRequired")
-public class PickupObjective extends CountingObjective implements Listener {
+public class PickupObjective extends CountingObjective {
 
     private final Item[] pickupItems;
 
+    private final Set<Material> materials;
+
     public PickupObjective(final Instruction instruction) throws InstructionParseException {
         super(instruction, "items_to_pickup");
         pickupItems = instruction.getItemList();
         targetAmount = instruction.getVarNum(instruction.getOptional("amount", "1"), VariableNumber.NOT_LESS_THAN_ONE_CHECKER);
+        materials = new HashSet<>();
+        for (final Item item : pickupItems) {
+            materials.addAll(item.getItem().getMaterials());
+        }
     }
 
-    @EventHandler(ignoreCancelled = true)
-    public void onPickup(final EntityPickupItemEvent event) {
+    /* default */ void onPickup(final EntityPickupItemEvent event) {
         if (isValidItem(event.getItem().getItemStack()) && event.getEntity() instanceof Player) {
             final OnlineProfile onlineProfile = PlayerConverter.getID((Player) event.getEntity());
 
@@ -49,13 +54,19 @@ public class PickupObjective extends CountingObjective implements Listener {
         return false;
     }
 
+    /**
+     * The {@link EntityPickupItemEvent}s are passed by the {@link ObjectiveEventDispatcher} for all matching items.
+     */
     @Override
     public void start() {
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
+        BetonQuest.getInstance().getObjectiveEventDispatcher().register(this, materials);
     }
 
+    /**
+     * Stops receiving the {@link EntityPickupItemEvent}s from the {@link ObjectiveEventDispatcher}.
+     */
     @Override
     public void stop() {
-        HandlerList.unregisterAll(this);
+        BetonQuest.getInstance().getObjectiveEventDispatcher().unregister(this, materials);
     }
 }
@@ -5,9 +5,9 @@ import org.betonquest.betonquest.api.profiles.Profile;
 import org.betonquest.betonquest.api.quest.condition.nullable.NullableCondition;
 import org.betonquest.betonquest.exceptions.QuestRuntimeException;
 import org.betonquest.betonquest.instruction.variable.location.VariableLocation;
+import org.betonquest.betonquest.item.QuestItemScanner;
 import org.bukkit.block.Block;
 import org.bukkit.inventory.InventoryHolder;
-import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
@@ -22,6 +22,11 @@ public class ChestItemCondition implements NullableCondition {
      */
     private final Item[] questItems;
 
+    /**
+     * The scanner counting all items in one pass.
+     */
+    private final QuestItemScanner scanner;
+
     /**
      * Location of the chest.
      */
@@ -35,6 +40,7 @@ public class ChestItemCondition implements NullableCondition {
      */
     public ChestItemCondition(final VariableLocation loc, final Item... questItems) {
         this.questItems = Arrays.copyOf(questItems, questItems.length);
+        this.scanner = new QuestItemScanner(Arrays.stream(questItems).map(Item::getItem).toList());
         this.loc = loc;
     }
 
@@ -48,24 +54,12 @@ public class ChestItemCondition implements NullableCondition {
             throw new QuestRuntimeException("Trying to check items in a chest, but there's no chest! Location: X" + block.getX() + " Y"
                     + block.getY() + " Z" + block.getZ(), e);
         }
-        int counter = 0;
-        for (final Item questItem : questItems) {
-            int amount = questItem.getAmount().getValue(profile).intValue();
-            final ItemStack[] inventoryItems = chest.getInventory().getContents();
-            for (final ItemStack item : inventoryItems) {
-                if (item == null) {
-                    continue;
-                }
-                if (!questItem.isItemEqual(item)) {
-                    continue;
-                }
-                amount -= item.getAmount();
-                if (amount <= 0) {
-                    counter++;
-                    break;
-                }
+        final int[] amounts = scanner.count(Arrays.asList(chest.getInventory().getContents()));
+        for (int index = 0; index < questItems.length; index++) {
+            if (amounts[index] <= 0 || amounts[index] < questItems[index].getAmount().getValue(profile).intValue()) {
+                return false;
             }
         }
-        return counter == questItems.length;
+        return true;
     }
 }
@@ -5,11 +5,11 @@ import org.betonquest.betonquest.Instruction.Item;
 import org.betonquest.betonquest.api.profiles.OnlineProfile;
 import org.betonquest.betonquest.api.quest.condition.online.OnlineCondition;
 import org.betonquest.betonquest.exceptions.QuestRuntimeException;
+import org.betonquest.betonquest.item.QuestItemScanner;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Stream;
 
 /**
  * A condition that checks if the player has the specified items.
@@ -26,6 +26,11 @@ public class ItemCondition implements OnlineCondition {
      */
     private final Item[] questItems;
 
+    /**
+     * The scanner counting all items in one pass.
+     */
+    private final QuestItemScanner scanner;
+
     /**
      * Create a new item condition.
      *
@@ -34,6 +39,7 @@ public class ItemCondition implements OnlineCondition {
      */
     public ItemCondition(final Item[] questItems, final BetonQuest betonQuest) {
         this.questItems = Arrays.copyOf(questItems, questItems.length);
+        this.scanner = new QuestItemScanner(Arrays.stream(questItems).map(Item::getItem).toList());
         this.betonQuest = betonQuest;
     }
 
@@ -41,15 +47,10 @@ public class ItemCondition implements OnlineCondition {
     public boolean check(final OnlineProfile profile) throws QuestRuntimeException {
         final ItemStack[] inventoryItems = profile.getPlayer().getInventory().getContents();
         final List<ItemStack> backpackItems = betonQuest.getPlayerData(profile).getBackpack();
-        for (final Item questItem : questItems) {
-            final long totalAmount = Stream.concat(
-                            Stream.of(inventoryItems),
-                            backpackItems.stream()
-                    )
-                    .filter(itemStack -> itemStack != null && questItem.isItemEqual(itemStack))
-                    .mapToInt(ItemStack::getAmount)
-                    .sum();
-            if (totalAmount < questItem.getAmount().getValue(profile).intValue()) {
+        final int[] amounts = scanner.count(Arrays.asList(inventoryItems));
+        scanner.count(backpackItems, amounts);
+        for (int index = 0; index < questItems.length; index++) {
+            if (amounts[index] < questItems[index].getAmount().getValue(profile).intValue()) {
                 return false;
             }
         }
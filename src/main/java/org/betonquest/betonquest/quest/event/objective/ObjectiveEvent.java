@@ -107,7 +107,7 @@ public class ObjectiveEvent implements NullableEvent {
 
     private void handleForOfflinePlayer(final Profile profile, final ObjectiveID objectiveID) {
         Bukkit.getScheduler().runTaskAsynchronously(betonQuest, () -> {
-            final PlayerData playerData = new PlayerData(profile);
+            final PlayerData playerData = betonQuest.getOfflinePlayerData(profile);
             switch (action.toLowerCase(Locale.ROOT)) {
                 case "start", "add" -> playerData.addNewRawObjective(objectiveID);
                 case "complete", "finish" ->
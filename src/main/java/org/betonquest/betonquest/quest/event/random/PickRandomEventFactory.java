@@ -1,5 +1,6 @@
 package org.betonquest.betonquest.quest.event.random;
 
+import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.Instruction;
 import org.betonquest.betonquest.api.quest.event.Event;
 import org.betonquest.betonquest.api.quest.event.EventFactory;
@@ -81,7 +82,7 @@ public class PickRandomEventFactory implements EventFactory, StaticEventFactory
 
             if (NUMBER_OF_MINIMUM_PERCENTAGES == count) {
                 try {
-                    eventID = new EventID(instruction.getPackage(), parts[1]);
+                    eventID = BetonQuest.getInstance().getIdTable().event(instruction.getPackage(), parts[1]);
                 } catch (final ObjectNotFoundException e) {
                     throw new InstructionParseException("Error while loading event: " + e.getMessage(), e);
                 }
@@ -89,7 +90,7 @@ public class PickRandomEventFactory implements EventFactory, StaticEventFactory
                 return new RandomEvent(eventID, chance);
             } else if (NUMBER_OF_MAXIMUM_PERCENTAGES == count) {
                 try {
-                    eventID = new EventID(instruction.getPackage(), parts[3]);
+                    eventID = BetonQuest.getInstance().getIdTable().event(instruction.getPackage(), parts[3]);
                 } catch (final ObjectNotFoundException e) {
                     throw new InstructionParseException("Error while loading event: " + e.getMessage(), e);
                 }
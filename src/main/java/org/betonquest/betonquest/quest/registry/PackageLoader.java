@@ -0,0 +1,93 @@
+package org.betonquest.betonquest.quest.registry;
+
+import org.betonquest.betonquest.utils.NamedDaemonThreadFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Loads quest packages in parallel on a dedicated thread pool.
+ * <p>
+ * The tasks must not access data that is only safe to use on the primary server thread,
+ * like registering listeners or starting objectives.
+ */
+@SuppressWarnings("PMD.DoNotUseThreads")
+public class PackageLoader {
+    /**
+     * The executor loading the packages.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Creates a new package loader.
+     *
+     * @param threads the amount of threads to load packages with
+     */
+    public PackageLoader(final int threads) {
+        this.executor = Executors.newFixedThreadPool(threads, new NamedDaemonThreadFactory("BetonQuest Package Loader"));
+    }
+
+    /**
+     * Runs the task for all inputs in parallel and waits for the results.
+     *
+     * @param inputs the inputs to run the task for
+     * @param task   the task to run for each input
+     * @param <T>    the type of the inputs
+     * @param <R>    the type of the results
+     * @return the results in the order of the inputs
+     */
+    public <T, R> List<R> map(final Collection<T> inputs, final Function<T, R> task) {
+        final List<CompletableFuture<R>> futures = new ArrayList<>(inputs.size());
+        for (final T input : inputs) {
+            futures.add(CompletableFuture.supplyAsync(() -> task.apply(input), executor));
+        }
+        final List<R> results = new ArrayList<>(futures.size());
+        for (final CompletableFuture<R> future : futures) {
+            results.add(join(future));
+        }
+        return results;
+    }
+
+    /**
+     * Runs the task for all inputs in parallel and waits for them to finish.
+     *
+     * @param inputs the inputs to run the task for
+     * @param task   the task to run for each input
+     * @param <T>    the type of the inputs
+     */
+    public <T> void forEach(final Collection<T> inputs, final Consumer<T> task) {
+        map(inputs, input -> {
+            task.accept(input);
+            return input;
+        });
+    }
+
+    @SuppressWarnings("PMD.PreserveStackTrace")
+    private <R> R join(final CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof final RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof final Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Stops the threads of the loader.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,27 +1,61 @@
 package org.betonquest.betonquest.quest.registry;
 
 import org.betonquest.betonquest.BetonQuest;
+import org.betonquest.betonquest.GlobalObjectives;
+import org.betonquest.betonquest.api.Condition;
 import org.betonquest.betonquest.api.Objective;
+import org.betonquest.betonquest.api.QuestEvent;
+import org.betonquest.betonquest.api.config.ConfigurationFile;
 import org.betonquest.betonquest.api.config.quest.QuestPackage;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.betonquest.betonquest.api.logger.BetonQuestLoggerFactory;
 import org.betonquest.betonquest.bstats.InstructionMetricsSupplier;
+import org.betonquest.betonquest.config.QuestCanceler;
+import org.betonquest.betonquest.conversation.ConversationData;
+import org.betonquest.betonquest.id.ConditionID;
+import org.betonquest.betonquest.id.ConversationID;
+import org.betonquest.betonquest.id.EventID;
 import org.betonquest.betonquest.id.ID;
+import org.betonquest.betonquest.id.IDTable;
+import org.betonquest.betonquest.id.ObjectiveID;
+import org.betonquest.betonquest.id.QuestCancelerID;
 import org.betonquest.betonquest.modules.schedule.EventScheduling;
+import org.betonquest.betonquest.quest.PrimaryServerThreadData;
 import org.betonquest.betonquest.quest.registry.processor.CancellerProcessor;
 import org.betonquest.betonquest.quest.registry.processor.ConditionProcessor;
 import org.betonquest.betonquest.quest.registry.processor.ConversationProcessor;
 import org.betonquest.betonquest.quest.registry.processor.EventProcessor;
+import org.betonquest.betonquest.quest.registry.processor.JournalProcessor;
 import org.betonquest.betonquest.quest.registry.processor.ObjectiveProcessor;
 import org.betonquest.betonquest.quest.registry.processor.VariableProcessor;
+import org.bukkit.configuration.ConfigurationSection;
+import org.jetbrains.annotations.Nullable;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Stores the active Quest Types, Conversations, Quest Canceller and Event Scheduler.
  */
 public class QuestRegistry {
+    /**
+     * Matches the package part of addresses like {@code pack.name}, {@code $pack.variable$}, {@code _-sub.name}
+     * or {@code -sub.name}.
+     */
+    private static final Pattern PACKAGE_REFERENCE = Pattern.compile("(?<![\\w-])([\\w-]+)\\.");
+
     /**
      * The custom {@link BetonQuestLogger} instance for this class.
      */
@@ -62,6 +96,31 @@ public class QuestRegistry {
      */
     private final ConversationProcessor conversationProcessor;
 
+    /**
+     * Journal entry and main page logic.
+     */
+    private final JournalProcessor journalProcessor;
+
+    /**
+     * Interned IDs of the loaded generation.
+     */
+    private final IDTable idTable;
+
+    /**
+     * Loader to parse the packages in parallel.
+     */
+    private final PackageLoader packageLoader;
+
+    /**
+     * The plugin config, to check if packages may be parsed in parallel.
+     */
+    private final ConfigurationFile config;
+
+    /**
+     * Content hashes of the loaded packages by their name, used to detect changed packages on reload.
+     */
+    private final Map<String, String> fingerprints = new HashMap<>();
+
     /**
      * Create a new Registry for storing and using Conditions, Events, Objectives, Variables,
      * Conversations and Quest canceller.
@@ -72,49 +131,175 @@ public class QuestRegistry {
      * @param scheduleTypes       the available schedule types
      * @param questTypeRegistries the available quest types
      * @param objectiveTypes      the available objective types
+     * @param packageLoader       the loader to parse the packages in parallel
      */
     public QuestRegistry(final BetonQuestLogger log, final BetonQuestLoggerFactory loggerFactory, final BetonQuest plugin,
                          final Map<String, EventScheduling.ScheduleType<?>> scheduleTypes,
                          final QuestTypeRegistries questTypeRegistries,
-                         final Map<String, Class<? extends Objective>> objectiveTypes) {
+                         final Map<String, Class<? extends Objective>> objectiveTypes,
+                         final PackageLoader packageLoader) {
         this.log = log;
+        this.packageLoader = packageLoader;
+        this.config = plugin.getPluginConfig();
+        this.idTable = new IDTable();
         this.eventScheduling = new EventScheduling(loggerFactory.create(EventScheduling.class, "Schedules"), scheduleTypes);
-        this.conditionProcessor = new ConditionProcessor(loggerFactory.create(ConditionProcessor.class), questTypeRegistries.getConditionTypes());
-        this.eventProcessor = new EventProcessor(loggerFactory.create(EventProcessor.class), questTypeRegistries.getEventTypes());
-        this.objectiveProcessor = new ObjectiveProcessor(loggerFactory.create(ObjectiveProcessor.class), objectiveTypes);
-        this.variableProcessor = new VariableProcessor(loggerFactory.create(VariableProcessor.class), questTypeRegistries.getVariableTypes(), loggerFactory);
-        this.cancellerProcessor = new CancellerProcessor(loggerFactory.create(CancellerProcessor.class));
-        this.conversationProcessor = new ConversationProcessor(loggerFactory.create(ConversationProcessor.class), plugin);
+        this.conditionProcessor = new ConditionProcessor(loggerFactory.create(ConditionProcessor.class), idTable, questTypeRegistries.getConditionTypes(),
+                new PrimaryServerThreadData(plugin.getServer(), plugin.getServer().getScheduler(), plugin));
+        this.eventProcessor = new EventProcessor(loggerFactory.create(EventProcessor.class), idTable, questTypeRegistries.getEventTypes());
+        this.objectiveProcessor = new ObjectiveProcessor(loggerFactory.create(ObjectiveProcessor.class), idTable, objectiveTypes);
+        this.variableProcessor = new VariableProcessor(loggerFactory.create(VariableProcessor.class), idTable, questTypeRegistries.getVariableTypes(), loggerFactory,
+                Math.max(0, config.getLong("dynamic_variable_cache_size", 1000)));
+        this.cancellerProcessor = new CancellerProcessor(loggerFactory.create(CancellerProcessor.class), idTable);
+        this.conversationProcessor = new ConversationProcessor(loggerFactory.create(ConversationProcessor.class), idTable, plugin);
+        this.journalProcessor = new JournalProcessor(loggerFactory.create(JournalProcessor.class), variableProcessor, idTable);
     }
 
     /**
      * Loads Conditions, Events, Objectives, Variables, Conversations, Quest Canceller and Event Scheduler.
      * <p>
-     * Removes previous data and loads the given QuestPackages.
+     * Replaces previous data with the given QuestPackages. The packages are parsed first, while the previous
+     * data stays available. Objectives and schedules are created on the primary server thread afterwards.
+     * <p>
+     * Events, conditions and conversations of third party and legacy types may not be safe to create off the
+     * primary server thread, so the packages are only parsed in parallel if {@code parallel_parsing} is enabled.
      *
      * @param packages the quest packages to load
      */
     public void loadData(final Collection<QuestPackage> packages) {
         eventScheduling.stopAll();
-        conditionProcessor.clear();
-        eventProcessor.clear();
-        objectiveProcessor.clear();
-        variableProcessor.clear();
-        cancellerProcessor.clear();
-        conversationProcessor.clear();
+        variableProcessor.startLoading();
+        startIdGeneration();
 
+        final List<ParsedPackage> parsedPackages;
+        if (config.getBoolean("parallel_parsing", false)) {
+            parsedPackages = packageLoader.map(packages, this::parse);
+        } else {
+            parsedPackages = new ArrayList<>(packages.size());
+            for (final QuestPackage pack : packages) {
+                parsedPackages.add(parse(pack));
+            }
+        }
+
+        final Map<QuestCancelerID, QuestCanceler> cancelers = new HashMap<>();
+        final Map<EventID, QuestEvent> events = new HashMap<>();
+        final Map<ConditionID, Condition> conditions = new HashMap<>();
+        final Map<ConversationID, ConversationData> conversations = new HashMap<>();
+        final List<JournalProcessor.PackageJournal> journals = new ArrayList<>();
+        for (final ParsedPackage parsed : parsedPackages) {
+            cancelers.putAll(parsed.cancelers());
+            events.putAll(parsed.events());
+            conditions.putAll(parsed.conditions());
+            conversations.putAll(parsed.conversations());
+            journals.add(parsed.journal());
+        }
+        cancellerProcessor.replace(cancelers);
+        eventProcessor.replace(events);
+        conditionProcessor.replace(conditions);
+        conversationProcessor.replace(conversations);
+        journalProcessor.replace(journals);
+        variableProcessor.finishLoading();
+
+        final Map<ObjectiveID, Objective> objectives = new HashMap<>();
         for (final QuestPackage pack : packages) {
-            final String packName = pack.getQuestPath();
-            log.debug(pack, "Loading stuff in package " + packName);
-            cancellerProcessor.load(pack);
-            eventProcessor.load(pack);
-            conditionProcessor.load(pack);
-            objectiveProcessor.load(pack);
-            conversationProcessor.load(pack);
+            objectives.putAll(objectiveProcessor.parse(pack));
             eventScheduling.loadData(pack);
+        }
+        objectiveProcessor.replace(objectives);
+
+        conversationProcessor.checkExternalPointers();
+
+        log.info("There are " + conditionProcessor.size() + " conditions, " + eventProcessor.size() + " events, "
+                + objectiveProcessor.size() + " objectives and " + conversationProcessor.size() + " conversations loaded from "
+                + packages.size() + " packages.");
+
+        eventScheduling.startAll();
+
+        fingerprints.clear();
+        for (final QuestPackage pack : packages) {
+            fingerprints.put(pack.getQuestPath(), fingerprint(getContent(pack)));
+        }
+    }
+
+    /**
+     * Loads only the QuestPackages whose content changed since they were loaded the last time.
+     * <p>
+     * Packages that were removed are unloaded, changed and new packages are reloaded. All other loaded data stays
+     * untouched. If nothing was loaded before or an unchanged package references a changed, new or removed package,
+     * all packages are loaded like {@link #loadData(Collection)} does, because the unchanged package may hold objects
+     * resolved from the old definitions.
+     * <p>
+     * Closed objectives of the reloaded packages keep their player data as raw objectives,
+     * so they must be started again afterwards. Only the global objectives of the reloaded and removed packages
+     * are replaced, the ones of unchanged packages stay registered.
+     *
+     * @param packages the quest packages to load
+     * @return the names of the reloaded and removed packages
+     */
+    public PackageChanges loadChangedData(final Collection<QuestPackage> packages) {
+        if (fingerprints.isEmpty()) {
+            return loadAllData(packages, Set.of());
+        }
+        final Map<String, String> contents = new HashMap<>();
+        final Map<String, String> newFingerprints = new HashMap<>();
+        for (final QuestPackage pack : packages) {
+            final String content = getContent(pack);
+            contents.put(pack.getQuestPath(), content);
+            newFingerprints.put(pack.getQuestPath(), fingerprint(content));
+        }
+        final Set<String> removed = new TreeSet<>(fingerprints.keySet());
+        removed.removeAll(newFingerprints.keySet());
+        final Set<String> changed = new HashSet<>(removed);
+        newFingerprints.forEach((packName, fingerprint) -> {
+            if (!fingerprint.equals(fingerprints.get(packName))) {
+                changed.add(packName);
+            }
+        });
+        final Set<String> reloaded = new TreeSet<>();
+        for (final QuestPackage pack : packages) {
+            final String packName = pack.getQuestPath();
+            if (changed.contains(packName)) {
+                reloaded.add(packName);
+            } else if (references(packName, contents.get(packName), changed)) {
+                log.debug(pack, "Package " + packName + " references a changed package, reloading all packages");
+                return loadAllData(packages, removed);
+            }
+        }
+        if (removed.isEmpty() && reloaded.isEmpty()) {
+            return new PackageChanges(reloaded, removed);
+        }
 
-            log.debug(pack, "Everything in package " + packName + " loaded");
+        eventScheduling.stopAll();
+        variableProcessor.startLoading();
+        startIdGeneration();
+        for (final String packName : removed) {
+            log.debug("Unloading removed package " + packName);
+            GlobalObjectives.removePackage(packName);
+            cancellerProcessor.unload(packName);
+            eventProcessor.unload(packName);
+            conditionProcessor.unload(packName);
+            objectiveProcessor.unload(packName);
+            conversationProcessor.unload(packName);
+            journalProcessor.unload(packName);
         }
+        for (final QuestPackage pack : packages) {
+            final String packName = pack.getQuestPath();
+            if (reloaded.contains(packName)) {
+                log.debug(pack, "Reloading stuff in package " + packName);
+                GlobalObjectives.removePackage(packName);
+                cancellerProcessor.reload(pack);
+                eventProcessor.reload(pack);
+                conditionProcessor.reload(pack);
+                objectiveProcessor.reload(pack);
+                conversationProcessor.reload(pack);
+                journalProcessor.unload(packName);
+                journalProcessor.load(pack);
+                log.debug(pack, "Everything in package " + packName + " reloaded");
+            }
+            eventScheduling.loadData(pack);
+        }
+        final Set<String> replaced = new HashSet<>(reloaded);
+        replaced.addAll(removed);
+        variableProcessor.finishLoading(replaced);
 
         conversationProcessor.checkExternalPointers();
 
@@ -123,6 +308,91 @@ public class QuestRegistry {
                 + packages.size() + " packages.");
 
         eventScheduling.startAll();
+
+        fingerprints.clear();
+        fingerprints.putAll(newFingerprints);
+        return new PackageChanges(reloaded, removed);
+    }
+
+    private void startIdGeneration() {
+        log.debug("Interned IDs: " + idTable.size() + " in the last generation, " + idTable.getHits() + " reused in total");
+        idTable.newGeneration();
+    }
+
+    private ParsedPackage parse(final QuestPackage pack) {
+        final String packName = pack.getQuestPath();
+        log.debug(pack, "Loading stuff in package " + packName);
+        final ParsedPackage parsed = new ParsedPackage(cancellerProcessor.parse(pack), eventProcessor.parse(pack),
+                conditionProcessor.parse(pack), conversationProcessor.parse(pack), journalProcessor.parse(pack));
+        log.debug(pack, "Everything in package " + packName + " loaded");
+        return parsed;
+    }
+
+    private PackageChanges loadAllData(final Collection<QuestPackage> packages, final Set<String> removed) {
+        new GlobalObjectives();
+        loadData(packages);
+        return new PackageChanges(new TreeSet<>(fingerprints.keySet()), removed);
+    }
+
+    /**
+     * Checks if the content of a package references any of the given packages by an absolute or relative address.
+     *
+     * @param packName  the name of the package the content belongs to
+     * @param content   the content of the package
+     * @param packNames the names of the referenced packages to look for
+     * @return true if any of the packages is referenced
+     */
+    private boolean references(final String packName, final String content, final Set<String> packNames) {
+        final Matcher matcher = PACKAGE_REFERENCE.matcher(content);
+        while (matcher.find()) {
+            final String referenced = resolvePackage(packName, matcher.group(1));
+            if (referenced != null && packNames.contains(referenced)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Nullable
+    private String resolvePackage(final String packName, final String reference) {
+        if (reference.startsWith(ID.UP_STR + "-")) {
+            final String[] root = packName.split("-");
+            final String[] path = reference.split("-");
+            int stepsUp = 0;
+            while (stepsUp < path.length && ID.UP_STR.equals(path[stepsUp])) {
+                stepsUp++;
+            }
+            if (stepsUp > root.length) {
+                return null;
+            }
+            final List<String> parts = new ArrayList<>(List.of(root).subList(0, root.length - stepsUp));
+            parts.addAll(List.of(path).subList(stepsUp, path.length));
+            return String.join("-", parts);
+        }
+        if (reference.startsWith("-")) {
+            return packName + reference;
+        }
+        return reference;
+    }
+
+    private String getContent(final QuestPackage pack) {
+        final StringBuilder content = new StringBuilder();
+        for (final Map.Entry<String, Object> entry : pack.getConfig().getValues(true).entrySet()) {
+            if (!(entry.getValue() instanceof ConfigurationSection)) {
+                content.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+            }
+        }
+        return content.toString();
+    }
+
+    private String fingerprint(final String content) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (final NoSuchAlgorithmException e) {
+            log.debug("SHA-256 is not available, falling back to the content as fingerprint", e);
+            return content;
+        }
     }
 
     /**
@@ -146,6 +416,15 @@ public class QuestRegistry {
         eventScheduling.stopAll();
     }
 
+    /**
+     * Gets the table interning the IDs of the loaded generation.
+     *
+     * @return the ID table
+     */
+    public IDTable ids() {
+        return idTable;
+    }
+
     /**
      * Gets the class processing condition logic.
      *
@@ -199,4 +478,45 @@ public class QuestRegistry {
     public ConversationProcessor conversations() {
         return conversationProcessor;
     }
+
+    /**
+     * Gets the class processing journal entries and main page lines.
+     *
+     * @return journal logic
+     */
+    public JournalProcessor journals() {
+        return journalProcessor;
+    }
+
+    /**
+     * The parsed data of a package that can be created off the primary server thread.
+     *
+     * @param cancelers     the quest cancelers
+     * @param events        the events
+     * @param conditions    the conditions
+     * @param conversations the conversations
+     * @param journal       the journal entries and main page lines
+     */
+    private record ParsedPackage(Map<QuestCancelerID, QuestCanceler> cancelers, Map<EventID, QuestEvent> events,
+                                 Map<ConditionID, Condition> conditions,
+                                 Map<ConversationID, ConversationData> conversations,
+                                 JournalProcessor.PackageJournal journal) {
+    }
+
+    /**
+     * The packages changed by a reload.
+     *
+     * @param reloaded the names of the changed, new and dependent packages that were reloaded
+     * @param removed  the names of the packages that were unloaded
+     */
+    public record PackageChanges(Set<String> reloaded, Set<String> removed) {
+        /**
+         * Checks if no package was reloaded or removed.
+         *
+         * @return true if nothing changed
+         */
+        public boolean isEmpty() {
+            return reloaded.isEmpty() && removed.isEmpty();
+        }
+    }
 }
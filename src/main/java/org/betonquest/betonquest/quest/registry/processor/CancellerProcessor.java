@@ -5,6 +5,7 @@ import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.betonquest.betonquest.config.QuestCanceler;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
 import org.betonquest.betonquest.exceptions.ObjectNotFoundException;
+import org.betonquest.betonquest.id.IDTable;
 import org.betonquest.betonquest.id.QuestCancelerID;
 import org.bukkit.configuration.ConfigurationSection;
 
@@ -19,23 +20,26 @@ public class CancellerProcessor extends QuestProcessor<QuestCancelerID, QuestCan
      * Create a new Quest Canceller Processor to store them.
      *
      * @param log the custom logger for this class
+     * @param ids the table interning the IDs and assigning their handles
      */
-    public CancellerProcessor(final BetonQuestLogger log) {
-        super(log);
+    public CancellerProcessor(final BetonQuestLogger log, final IDTable ids) {
+        super(log, ids);
     }
 
     @Override
-    public void load(final QuestPackage pack) {
+    public Map<QuestCancelerID, QuestCanceler> parse(final QuestPackage pack) {
+        final Map<QuestCancelerID, QuestCanceler> parsed = new HashMap<>();
         final ConfigurationSection cancelSection = pack.getConfig().getConfigurationSection("cancel");
         if (cancelSection != null) {
             for (final String key : cancelSection.getKeys(false)) {
                 try {
-                    values.put(new QuestCancelerID(pack, key), new QuestCanceler(pack, key));
+                    parsed.put(new QuestCancelerID(pack, key), new QuestCanceler(pack, key));
                 } catch (final InstructionParseException | ObjectNotFoundException e) {
                     log.warn(pack, "Could not load '" + pack.getQuestPath() + "." + key + "' quest canceler: " + e.getMessage(), e);
                 }
             }
         }
+        return parsed;
     }
 
     /**
@@ -8,42 +8,84 @@ import org.betonquest.betonquest.api.profiles.Profile;
 import org.betonquest.betonquest.exceptions.ObjectNotFoundException;
 import org.betonquest.betonquest.exceptions.QuestRuntimeException;
 import org.betonquest.betonquest.id.ConditionID;
+import org.betonquest.betonquest.id.IDTable;
+import org.betonquest.betonquest.quest.PrimaryServerThreadData;
 import org.betonquest.betonquest.quest.registry.type.ConditionTypeRegistry;
+import org.betonquest.betonquest.utils.LatencyHistogram;
 import org.bukkit.Bukkit;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Does the logic around Conditions.
  */
 public class ConditionProcessor extends TypedQuestProcessor<ConditionID, Condition> {
+    /**
+     * Time to wait for conditions checked on the primary server thread.
+     */
+    private static final long PRIMARY_THREAD_TIMEOUT_SECONDS = 10;
+
+    /**
+     * Checks conditions that require the primary server thread for other threads.
+     */
+    private final PrimaryThreadConditionBatcher batcher;
+
+    /**
+     * The time it took to check each condition.
+     */
+    private final Map<ConditionID, LatencyHistogram> timings = new ConcurrentHashMap<>();
+
     /**
      * Create a new Condition Processor to store Conditions and checks them.
      *
      * @param log            the custom logger for this class
+     * @param ids            the table interning the IDs and assigning their handles
      * @param conditionTypes the available condition types
+     * @param data           the data used to check conditions on the primary server thread
      */
-    public ConditionProcessor(final BetonQuestLogger log, final ConditionTypeRegistry conditionTypes) {
-        super(log, conditionTypes, "Condition", "conditions");
+    public ConditionProcessor(final BetonQuestLogger log, final IDTable ids, final ConditionTypeRegistry conditionTypes,
+                              final PrimaryServerThreadData data) {
+        super(log, ids, conditionTypes, "Condition", "conditions");
+        this.batcher = new PrimaryThreadConditionBatcher(log, data, this::check);
     }
 
     @Override
     protected ConditionID getIdentifier(final QuestPackage pack, final String identifier) throws ObjectNotFoundException {
-        return new ConditionID(pack, identifier);
+        return ids.condition(pack, identifier);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        timings.clear();
+    }
+
+    @Override
+    public void replace(final Map<ConditionID, Condition> loaded) {
+        super.replace(loaded);
+        timings.clear();
     }
 
     /**
      * Checks if the conditions described by conditionID are met.
+     * <p>
+     * When called from another thread than the primary server thread, the conditions that do not require the
+     * primary thread are checked on the current thread first. The remaining conditions are checked together with
+     * the conditions of other threads in a single task on the primary server thread.
      *
      * @param profile      the {@link Profile} of the player which should be checked
      * @param conditionIDs IDs of the conditions to check
      * @return if all conditions are met
      */
-    @SuppressWarnings({"PMD.CognitiveComplexity", "PMD.CyclomaticComplexity"})
     public boolean checks(@Nullable final Profile profile, final ConditionID... conditionIDs) {
         if (Bukkit.isPrimaryThread()) {
             for (final ConditionID id : conditionIDs) {
@@ -51,41 +93,127 @@ public class ConditionProcessor extends TypedQuestProcessor<ConditionID, Conditi
                     return false;
                 }
             }
-        } else {
-            final List<CompletableFuture<Boolean>> conditions = new ArrayList<>();
-            for (final ConditionID id : conditionIDs) {
-                final CompletableFuture<Boolean> future = CompletableFuture.supplyAsync(
-                        () -> check(profile, id));
-                conditions.add(future);
+            return true;
+        }
+        final List<ConditionID> primaryThreadConditions = new ArrayList<>();
+        for (final ConditionID id : conditionIDs) {
+            final Condition condition = get(id);
+            if (condition != null && condition.isPrimaryThreadRequired()) {
+                primaryThreadConditions.add(id);
+            } else if (!check(profile, id)) {
+                return false;
             }
-            for (final CompletableFuture<Boolean> condition : conditions) {
-                try {
-                    if (!condition.get()) {
-                        return false;
-                    }
-                } catch (final InterruptedException | ExecutionException e) {
-                    // Currently conditions that are forced to be sync cause every CompletableFuture.get() call
-                    // to delay the check by one tick.
-                    // If this happens during a shutdown, the check will be delayed past the last tick.
-                    // This will throw a CancellationException and IllegalPluginAccessExceptions.
-                    // For Paper, we can detect this and only log it to the debug log.
-                    // When the conditions get reworked, this complete check can be removed including the Spigot message.
-                    if (PaperLib.isPaper() && Bukkit.getServer().isStopping()) {
-                        log.debug("Exception during shutdown while checking conditions (expected):", e);
-                        return false;
-                    }
-                    if (PaperLib.isSpigot()) {
-                        log.warn("The following exception is only ok when the server is currently stopping."
-                                + "Switch to papermc.io to fix this.");
-                    }
-                    log.reportException(e);
-                    return false;
-                }
+        }
+        return primaryThreadConditions.isEmpty() || checkOnPrimaryThread(profile, primaryThreadConditions);
+    }
+
+    /**
+     * Checks if the conditions described by conditionID are met for each of the profiles.
+     * <p>
+     * When called from another thread than the primary server thread, the conditions that require the primary
+     * thread are submitted for all profiles before waiting for any of them. So all profiles are checked in the same
+     * task on the primary server thread instead of one task after another.
+     *
+     * @param profiles     the {@link Profile}s of the players which should be checked
+     * @param conditionIDs IDs of the conditions to check
+     * @return if all conditions are met, in the order of the profiles
+     */
+    public boolean[] checksForAll(final List<? extends Profile> profiles, final ConditionID... conditionIDs) {
+        final boolean[] met = new boolean[profiles.size()];
+        if (Bukkit.isPrimaryThread()) {
+            for (int index = 0; index < met.length; index++) {
+                met[index] = checks(profiles.get(index), conditionIDs);
+            }
+            return met;
+        }
+        final List<ConditionID> primaryThreadConditions = new ArrayList<>();
+        final List<ConditionID> otherConditions = new ArrayList<>();
+        for (final ConditionID id : conditionIDs) {
+            final Condition condition = get(id);
+            if (condition != null && condition.isPrimaryThreadRequired()) {
+                primaryThreadConditions.add(id);
+            } else {
+                otherConditions.add(id);
+            }
+        }
+        final List<CompletableFuture<Boolean>> results = new ArrayList<>(met.length);
+        for (final Profile profile : profiles) {
+            if (!checksAll(profile, otherConditions)) {
+                results.add(CompletableFuture.completedFuture(false));
+            } else if (primaryThreadConditions.isEmpty()) {
+                results.add(CompletableFuture.completedFuture(true));
+            } else {
+                results.add(batcher.submit(profile, primaryThreadConditions));
+            }
+        }
+        for (int index = 0; index < met.length; index++) {
+            met[index] = await(results.get(index), primaryThreadConditions);
+        }
+        return met;
+    }
+
+    private boolean checksAll(final Profile profile, final List<ConditionID> conditionIDs) {
+        for (final ConditionID id : conditionIDs) {
+            if (!check(profile, id)) {
+                return false;
             }
         }
         return true;
     }
 
+    private boolean checkOnPrimaryThread(@Nullable final Profile profile, final List<ConditionID> conditionIDs) {
+        return await(batcher.submit(profile, conditionIDs), conditionIDs);
+    }
+
+    private boolean await(final CompletableFuture<Boolean> result, final List<ConditionID> conditionIDs) {
+        try {
+            return result.get(PRIMARY_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (final TimeoutException e) {
+            log.warn("Conditions " + conditionIDs + " were not checked on the primary thread within "
+                    + PRIMARY_THREAD_TIMEOUT_SECONDS + " seconds, returning false");
+            return false;
+        } catch (final InterruptedException | ExecutionException e) {
+            // If this happens during a shutdown, the scheduled check will never run.
+            // For Paper, we can detect this and only log it to the debug log.
+            if (PaperLib.isPaper() && Bukkit.getServer().isStopping()) {
+                log.debug("Exception during shutdown while checking conditions (expected):", e);
+                return false;
+            }
+            if (PaperLib.isSpigot()) {
+                log.warn("The following exception is only ok when the server is currently stopping."
+                        + "Switch to papermc.io to fix this.");
+            }
+            log.reportException(e);
+            return false;
+        }
+    }
+
+    /**
+     * Completes all conditions waiting for the primary server thread as not met.
+     * Used when the plugin is disabled and the waiting checks will not run anymore.
+     */
+    public void cancelPrimaryThreadChecks() {
+        batcher.failPending();
+    }
+
+    /**
+     * Gets the time it took to check each condition.
+     *
+     * @return the timings of the conditions checked since the last reload
+     */
+    public Map<ConditionID, LatencyHistogram> getTimings() {
+        return Collections.unmodifiableMap(timings);
+    }
+
+    /**
+     * Gets the time conditions checked from other threads waited for the primary server thread.
+     *
+     * @return the tick wait histogram
+     */
+    public LatencyHistogram getTickWait() {
+        return batcher.getTickWait();
+    }
+
     /**
      * Checks if the condition described by conditionID is met
      *
@@ -95,7 +223,7 @@ public class ConditionProcessor extends TypedQuestProcessor<ConditionID, Conditi
      */
     @SuppressWarnings("PMD.CyclomaticComplexity")
     public boolean check(@Nullable final Profile profile, final ConditionID conditionID) {
-        final Condition condition = values.get(conditionID);
+        final Condition condition = get(conditionID);
         if (condition == null) {
             log.warn(conditionID.getPackage(), "The condition " + conditionID + " is not defined!");
             return false;
@@ -110,16 +238,21 @@ public class ConditionProcessor extends TypedQuestProcessor<ConditionID, Conditi
             return false;
         }
         final boolean outcome;
+        final long start = System.nanoTime();
         try {
             outcome = condition.handle(profile);
         } catch (final QuestRuntimeException e) {
             log.warn(conditionID.getPackage(), "Error while checking '" + conditionID + "' condition: " + e.getMessage(), e);
             return false;
+        } finally {
+            timings.computeIfAbsent(conditionID, id -> new LatencyHistogram()).record(System.nanoTime() - start);
         }
         final boolean isMet = outcome != conditionID.inverted();
-        log.debug(conditionID.getPackage(),
-                (isMet ? "TRUE" : "FALSE") + ": " + (conditionID.inverted() ? "inverted" : "") + " condition "
-                        + conditionID + " for " + profile);
+        if (log.isDebugEnabled(conditionID.getPackage())) {
+            log.debug(conditionID.getPackage(),
+                    (isMet ? "TRUE" : "FALSE") + ": " + (conditionID.inverted() ? "inverted" : "") + " condition "
+                            + conditionID + " for " + profile);
+        }
         return isMet;
     }
 }
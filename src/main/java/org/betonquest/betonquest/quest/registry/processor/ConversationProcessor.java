@@ -7,9 +7,13 @@ import org.betonquest.betonquest.conversation.ConversationData;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
 import org.betonquest.betonquest.exceptions.ObjectNotFoundException;
 import org.betonquest.betonquest.id.ConversationID;
+import org.betonquest.betonquest.id.IDTable;
 import org.bukkit.configuration.ConfigurationSection;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Stores Conversation Data and validates it.
  */
@@ -23,15 +27,17 @@ public class ConversationProcessor extends QuestProcessor<ConversationID, Conver
      * Create a new Conversation Data Processor to load and process conversation data.
      *
      * @param log    the custom logger for this class
+     * @param ids    the table interning the IDs and assigning their handles
      * @param plugin the plugin instance used for new conversation data
      */
-    public ConversationProcessor(final BetonQuestLogger log, final BetonQuest plugin) {
-        super(log);
+    public ConversationProcessor(final BetonQuestLogger log, final IDTable ids, final BetonQuest plugin) {
+        super(log, ids);
         this.plugin = plugin;
     }
 
     @Override
-    public void load(final QuestPackage pack) {
+    public Map<ConversationID, ConversationData> parse(final QuestPackage pack) {
+        final Map<ConversationID, ConversationData> parsed = new HashMap<>();
         final ConfigurationSection conversationsConfig = pack.getConfig().getConfigurationSection("conversations");
         if (conversationsConfig != null) {
             final String packName = pack.getQuestPath();
@@ -43,12 +49,13 @@ public class ConversationProcessor extends QuestProcessor<ConversationID, Conver
                         continue;
                     }
                     final ConversationID convID = new ConversationID(pack, convName);
-                    values.put(convID, new ConversationData(plugin, convID, convSection));
+                    parsed.put(convID, new ConversationData(plugin, convID, convSection));
                 } catch (final InstructionParseException | ObjectNotFoundException e) {
                     log.warn(pack, "Error in '" + packName + "." + convName + "' conversation: " + e.getMessage(), e);
                 }
             }
         }
+        return parsed;
     }
 
     /**
@@ -59,7 +66,7 @@ public class ConversationProcessor extends QuestProcessor<ConversationID, Conver
      * @see ConversationData#checkExternalPointers()
      */
     public void checkExternalPointers() {
-        values.entrySet().removeIf(entry -> {
+        final boolean removed = values.entrySet().removeIf(entry -> {
             final ConversationData convData = entry.getValue();
             try {
                 convData.checkExternalPointers();
@@ -70,6 +77,9 @@ public class ConversationProcessor extends QuestProcessor<ConversationID, Conver
             }
             return false;
         });
+        if (removed) {
+            modified();
+        }
     }
 
     /**
@@ -82,6 +92,6 @@ public class ConversationProcessor extends QuestProcessor<ConversationID, Conver
      */
     @Nullable
     public ConversationData getConversation(final ConversationID conversationID) {
-        return values.get(conversationID);
+        return get(conversationID);
     }
 }
@@ -7,6 +7,7 @@ import org.betonquest.betonquest.api.profiles.Profile;
 import org.betonquest.betonquest.exceptions.ObjectNotFoundException;
 import org.betonquest.betonquest.exceptions.QuestRuntimeException;
 import org.betonquest.betonquest.id.EventID;
+import org.betonquest.betonquest.id.IDTable;
 import org.betonquest.betonquest.quest.registry.type.EventTypeRegistry;
 import org.jetbrains.annotations.Nullable;
 
@@ -18,15 +19,16 @@ public class EventProcessor extends TypedQuestProcessor<EventID, QuestEvent> {
      * Create a new Event Processor to store events and execute them.
      *
      * @param log        the custom logger for this class
+     * @param ids        the table interning the IDs and assigning their handles
      * @param eventTypes the available event types
      */
-    public EventProcessor(final BetonQuestLogger log, final EventTypeRegistry eventTypes) {
-        super(log, eventTypes, "Event", "events");
+    public EventProcessor(final BetonQuestLogger log, final IDTable ids, final EventTypeRegistry eventTypes) {
+        super(log, ids, eventTypes, "Event", "events");
     }
 
     @Override
     protected EventID getIdentifier(final QuestPackage pack, final String identifier) throws ObjectNotFoundException {
-        return new EventID(pack, identifier);
+        return ids.event(pack, identifier);
     }
 
     /**
@@ -38,16 +40,14 @@ public class EventProcessor extends TypedQuestProcessor<EventID, QuestEvent> {
      * @return true if the event was run even if there was an exception during execution
      */
     public boolean execute(@Nullable final Profile profile, final EventID eventID) {
-        final QuestEvent event = values.get(eventID);
+        final QuestEvent event = get(eventID);
         if (event == null) {
             log.warn(eventID.getPackage(), "Event " + eventID + " is not defined");
             return false;
         }
-        if (profile == null) {
-            log.debug(eventID.getPackage(), "Firing event " + eventID + " player independent");
-        } else {
-            log.debug(eventID.getPackage(),
-                    "Firing event " + eventID + " for " + profile);
+        if (log.isDebugEnabled(eventID.getPackage())) {
+            log.debug(eventID.getPackage(), "Firing event " + eventID
+                    + (profile == null ? " player independent" : " for " + profile));
         }
         try {
             return event.fire(profile);
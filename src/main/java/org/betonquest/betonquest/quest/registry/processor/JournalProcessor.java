@@ -0,0 +1,349 @@
+package org.betonquest.betonquest.quest.registry.processor;
+
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.profiles.Profile;
+import org.betonquest.betonquest.config.Config;
+import org.betonquest.betonquest.exceptions.InstructionParseException;
+import org.betonquest.betonquest.exceptions.ObjectNotFoundException;
+import org.betonquest.betonquest.exceptions.QuestRuntimeException;
+import org.betonquest.betonquest.id.ConditionID;
+import org.betonquest.betonquest.id.IDTable;
+import org.betonquest.betonquest.instruction.variable.VariableString;
+import org.betonquest.betonquest.variables.GlobalVariableResolver;
+import org.bukkit.configuration.ConfigurationSection;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stores the journal entries and main page lines of all packages, so journals do not parse them on every update.
+ */
+public class JournalProcessor {
+    /**
+     * The language key of texts that are not defined per language.
+     */
+    private static final String DEFAULT_LANGUAGE = "";
+
+    /**
+     * Custom {@link BetonQuestLogger} instance for this class.
+     */
+    private final BetonQuestLogger log;
+
+    /**
+     * The processor to create the variables in the texts.
+     */
+    private final VariableProcessor variableProcessor;
+
+    /**
+     * The table interning the condition IDs of the main page lines.
+     */
+    private final IDTable ids;
+
+    /**
+     * The loaded entries and main page lines. Changes publish a new snapshot, so journals can read it from any thread
+     * while packages are reloaded.
+     */
+    @SuppressWarnings("PMD.AvoidUsingVolatile")
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), List.of(), 0);
+
+    /**
+     * Create a new Journal Processor to store journal entries and main page lines.
+     *
+     * @param log               the custom logger for this class
+     * @param variableProcessor the processor to create the variables in the texts
+     * @param ids               the table interning the condition IDs of the main page lines
+     */
+    public JournalProcessor(final BetonQuestLogger log, final VariableProcessor variableProcessor, final IDTable ids) {
+        this.log = log;
+        this.variableProcessor = variableProcessor;
+        this.ids = ids;
+    }
+
+    /**
+     * Clears the loaded entries and main page lines. Used before reloading all QuestPackages.
+     */
+    public void clear() {
+        publish(Map.of(), List.of());
+    }
+
+    /**
+     * Removes the entries and main page lines of a QuestPackage. Used before reloading a single QuestPackage
+     * or when it was removed.
+     *
+     * @param packName the name of the package to unload
+     */
+    public void unload(final String packName) {
+        final Snapshot current = snapshot;
+        final Map<String, Entry> entries = new HashMap<>(current.entries());
+        final List<MainPageLine> mainPageLines = new ArrayList<>(current.mainPageLines());
+        entries.values().removeIf(entry -> packName.equals(entry.pack().getQuestPath()));
+        mainPageLines.removeIf(line -> packName.equals(line.pack().getQuestPath()));
+        publish(entries, mainPageLines);
+    }
+
+    /**
+     * Load all journal entries and main page lines from the QuestPackage.
+     * <p>
+     * Any errors will be logged.
+     *
+     * @param pack to load the journal from
+     */
+    public void load(final QuestPackage pack) {
+        final Snapshot current = snapshot;
+        final Map<String, Entry> entries = new HashMap<>(current.entries());
+        final List<MainPageLine> mainPageLines = new ArrayList<>(current.mainPageLines());
+        final PackageJournal parsed = parse(pack);
+        entries.putAll(parsed.entries());
+        mainPageLines.addAll(parsed.mainPageLines());
+        publish(entries, mainPageLines);
+    }
+
+    /**
+     * Parses all journal entries and main page lines of the QuestPackage without storing them.
+     * It is safe to parse different packages in parallel.
+     * <p>
+     * Any errors will be logged.
+     *
+     * @param pack to parse the journal from
+     * @return the parsed journal of the package
+     */
+    public PackageJournal parse(final QuestPackage pack) {
+        final PackageJournal parsed = new PackageJournal(new HashMap<>(), new ArrayList<>());
+        final ConfigurationSection journal = pack.getConfig().getConfigurationSection("journal");
+        if (journal != null) {
+            for (final String key : journal.getKeys(false)) {
+                parsed.entries().put(pack.getQuestPath() + "." + key, loadEntry(pack, journal, key));
+            }
+        }
+        final ConfigurationSection mainPage = pack.getConfig().getConfigurationSection("journal_main_page");
+        if (mainPage != null) {
+            for (final String key : mainPage.getKeys(false)) {
+                loadMainPageLine(pack, mainPage, key, parsed.mainPageLines());
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * Replaces all entries and main page lines with the given ones.
+     *
+     * @param journals the parsed journals of all packages
+     */
+    public void replace(final List<PackageJournal> journals) {
+        final Map<String, Entry> entries = new HashMap<>();
+        final List<MainPageLine> mainPageLines = new ArrayList<>();
+        for (final PackageJournal journal : journals) {
+            entries.putAll(journal.entries());
+            mainPageLines.addAll(journal.mainPageLines());
+        }
+        publish(entries, mainPageLines);
+    }
+
+    private void publish(final Map<String, Entry> entries, final List<MainPageLine> mainPageLines) {
+        snapshot = new Snapshot(Map.copyOf(entries), List.copyOf(mainPageLines), snapshot.generation() + 1);
+    }
+
+    private Entry loadEntry(final QuestPackage pack, final ConfigurationSection journal, final String key) {
+        final Map<String, Text> texts = new HashMap<>();
+        if (journal.isConfigurationSection(key)) {
+            final ConfigurationSection languages = journal.getConfigurationSection(key);
+            if (languages != null) {
+                for (final String lang : languages.getKeys(false)) {
+                    putText(pack, texts, lang, pack.getFormattedString("journal." + key + "." + lang), "journal page '" + key + "'");
+                }
+            }
+        } else {
+            putText(pack, texts, DEFAULT_LANGUAGE, pack.getFormattedString("journal." + key), "journal page '" + key + "'");
+        }
+        return new Entry(pack, texts);
+    }
+
+    private void loadMainPageLine(final QuestPackage pack, final ConfigurationSection section, final String key,
+                                  final List<MainPageLine> lines) {
+        final int priority = section.getInt(key + ".priority", -1);
+        if (priority < 0) {
+            log.warn(pack, "Priority of " + pack.getQuestPath() + "." + key + " journal main page line is not defined");
+            return;
+        }
+        final List<ConditionID> conditions = new ArrayList<>();
+        final String rawConditions = GlobalVariableResolver.resolve(pack, section.getString(key + ".conditions"));
+        if (rawConditions != null) {
+            try {
+                for (final String conditionString : rawConditions.split(",")) {
+                    if (!conditionString.isEmpty()) {
+                        conditions.add(ids.condition(pack, conditionString));
+                    }
+                }
+            } catch (final ObjectNotFoundException e) {
+                log.warn(pack, "Error while loading journal main page line '" + key + "': " + e.getMessage(), e);
+                return;
+            }
+        }
+        final Map<String, Text> texts = new HashMap<>();
+        if (section.isConfigurationSection(key + ".text")) {
+            final ConfigurationSection languages = section.getConfigurationSection(key + ".text");
+            if (languages != null) {
+                for (final String lang : languages.getKeys(false)) {
+                    putText(pack, texts, lang, GlobalVariableResolver.resolve(pack, languages.getString(lang)), "main page line '" + key + "'");
+                }
+            }
+        } else {
+            putText(pack, texts, DEFAULT_LANGUAGE, GlobalVariableResolver.resolve(pack, section.getString(key + ".text")), "main page line '" + key + "'");
+        }
+        lines.add(new MainPageLine(pack, priority, conditions, texts));
+    }
+
+    private void putText(final QuestPackage pack, final Map<String, Text> texts, final String lang,
+                         @Nullable final String text, final String description) {
+        if (text == null) {
+            return;
+        }
+        try {
+            texts.put(lang, new Text(new VariableString(variableProcessor, pack, text), text));
+        } catch (final InstructionParseException e) {
+            log.warn(pack, "Error while creating variable on " + description + ": " + e.getMessage(), e);
+            texts.put(lang, new Text(null, text));
+        }
+    }
+
+    /**
+     * Gets the journal entry of a pointer.
+     *
+     * @param pointer the pointer to the entry, consisting of package and entry name
+     * @return the entry or null if it is not defined
+     */
+    @Nullable
+    public Entry getEntry(final String pointer) {
+        return snapshot.entries().get(pointer);
+    }
+
+    /**
+     * Gets the main page lines of all packages.
+     *
+     * @return the loaded main page lines, which are not changed by later reloads
+     */
+    public List<MainPageLine> getMainPageLines() {
+        return snapshot.mainPageLines();
+    }
+
+    /**
+     * Gets the amount of times the processor was cleared.
+     *
+     * @return the current generation of loaded texts
+     */
+    public int getGeneration() {
+        return snapshot.generation();
+    }
+
+    /**
+     * The immutable loaded entries and main page lines.
+     *
+     * @param entries       the entries identified by their pointer
+     * @param mainPageLines the main page lines of all packages
+     * @param generation    the amount of times the processor was cleared, journals use it to notice that cached
+     *                      texts are outdated
+     */
+    private record Snapshot(Map<String, Entry> entries, List<MainPageLine> mainPageLines, int generation) {
+    }
+
+    /**
+     * The parsed journal of a package.
+     *
+     * @param entries       the entries identified by their pointer
+     * @param mainPageLines the main page lines
+     */
+    public record PackageJournal(Map<String, Entry> entries, List<MainPageLine> mainPageLines) {
+    }
+
+    /**
+     * A text that may contain variables.
+     *
+     * @param variable the text with parsed variables or null if the variables could not be parsed
+     * @param raw      the text as defined
+     */
+    public record Text(@Nullable VariableString variable, String raw) {
+        /**
+         * Resolves the variables in the text.
+         *
+         * @param profile the profile to resolve the variables for
+         * @return the resolved text
+         */
+        public String resolve(final Profile profile) {
+            if (variable == null) {
+                return raw;
+            }
+            try {
+                return variable.getValue(profile);
+            } catch (final QuestRuntimeException e) {
+                return "";
+            }
+        }
+
+        /**
+         * Checks if the text is the same for every profile.
+         *
+         * @return true if the text does not contain variables
+         */
+        public boolean isStatic() {
+            return variable == null || !variable.containsVariables();
+        }
+    }
+
+    /**
+     * A journal entry.
+     *
+     * @param pack  the package the entry is defined in
+     * @param texts the texts of the entry by language
+     */
+    public record Entry(QuestPackage pack, Map<String, Text> texts) {
+        /**
+         * Gets the text in the given language, falling back to the default language.
+         *
+         * @param lang the language of the player
+         * @return the text or null if it is not defined
+         */
+        @Nullable
+        public Text getText(final String lang) {
+            final Text text = texts.get(DEFAULT_LANGUAGE);
+            if (text != null) {
+                return text;
+            }
+            final Text translated = texts.get(lang);
+            return translated == null ? texts.get(Config.getLanguage()) : translated;
+        }
+    }
+
+    /**
+     * A line on the main page of the journal.
+     *
+     * @param pack       the package the line is defined in
+     * @param priority   the priority to sort the lines by
+     * @param conditions the conditions that must be met to show the line
+     * @param texts      the texts of the line by language
+     */
+    public record MainPageLine(QuestPackage pack, int priority, List<ConditionID> conditions, Map<String, Text> texts) {
+        /**
+         * Gets the text in the given language, falling back to the default language and english.
+         *
+         * @param lang the language of the player
+         * @return the text or null if it is not defined
+         */
+        @Nullable
+        public Text getText(final String lang) {
+            final Text text = texts.get(DEFAULT_LANGUAGE);
+            if (text != null) {
+                return text;
+            }
+            final Text translated = texts.get(lang);
+            if (translated != null) {
+                return translated;
+            }
+            final Text fallback = texts.get(Config.getLanguage());
+            return fallback == null ? texts.get("en") : fallback;
+        }
+    }
+}
@@ -8,14 +8,19 @@ import org.betonquest.betonquest.api.profiles.Profile;
 import org.betonquest.betonquest.bstats.CompositeInstructionMetricsSupplier;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
 import org.betonquest.betonquest.exceptions.ObjectNotFoundException;
+import org.betonquest.betonquest.id.IDTable;
 import org.betonquest.betonquest.id.ObjectiveID;
 import org.bukkit.configuration.ConfigurationSection;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 /**
  * Stores Objectives and starts/stops/resumes them.
@@ -26,14 +31,20 @@ public class ObjectiveProcessor extends QuestProcessor<ObjectiveID, Objective> {
      */
     private final Map<String, Class<? extends Objective>> types;
 
+    /**
+     * Active objectives of each profile, in the order they were started.
+     */
+    private final Map<Profile, Set<Objective>> activeObjectives = new ConcurrentHashMap<>();
+
     /**
      * Create a new Objective Processor to store Objectives and starts/stops/resumes them.
      *
      * @param log            the custom logger for this class
+     * @param ids            the table interning the IDs and assigning their handles
      * @param objectiveTypes the available objective types
      */
-    public ObjectiveProcessor(final BetonQuestLogger log, final Map<String, Class<? extends Objective>> objectiveTypes) {
-        super(log);
+    public ObjectiveProcessor(final BetonQuestLogger log, final IDTable ids, final Map<String, Class<? extends Objective>> objectiveTypes) {
+        super(log, ids);
         this.types = objectiveTypes;
     }
 
@@ -51,12 +62,71 @@ public class ObjectiveProcessor extends QuestProcessor<ObjectiveID, Objective> {
         for (final Objective objective : values.values()) {
             objective.close();
         }
+        activeObjectives.clear();
         super.clear();
     }
 
+    /**
+     * Replaces all objectives with the given ones and closes the previous ones.
+     * Their player data is kept as raw objectives until they are started again.
+     *
+     * @param loaded the new objectives
+     */
+    @Override
+    public void replace(final Map<ObjectiveID, Objective> loaded) {
+        final List<Objective> previous = new ArrayList<>(values.values());
+        super.replace(loaded);
+        for (final Objective objective : previous) {
+            objective.close();
+        }
+        activeObjectives.clear();
+    }
+
+    /**
+     * Removes and closes all objectives of a QuestPackage.
+     * Their player data is kept as raw objectives until they are started again.
+     *
+     * @param packName the name of the package to unload
+     * @return the removed objectives
+     */
+    @Override
+    public Map<ObjectiveID, Objective> unload(final String packName) {
+        final Map<ObjectiveID, Objective> removed = super.unload(packName);
+        for (final Objective objective : removed.values()) {
+            objective.close();
+        }
+        return removed;
+    }
+
+    /**
+     * Reloads all objectives of a QuestPackage and closes the previous ones.
+     * Their player data is kept as raw objectives until they are started again.
+     *
+     * @param pack the package to reload
+     * @return the replaced and removed objectives
+     */
+    @Override
+    public Map<ObjectiveID, Objective> reload(final QuestPackage pack) {
+        final Map<ObjectiveID, Objective> previous = super.reload(pack);
+        for (final Objective objective : previous.values()) {
+            objective.close();
+        }
+        return previous;
+    }
+
+    /**
+     * Parses all objectives of the QuestPackage without storing them.
+     * <p>
+     * Any errors will be logged.
+     * Some objectives register their listeners when they are created, so this must be called on the primary server thread.
+     *
+     * @param pack to parse the objectives from
+     * @return the parsed objectives identified by their ID
+     */
     @SuppressWarnings({"PMD.CognitiveComplexity", "PMD.CyclomaticComplexity"})
     @Override
-    public void load(final QuestPackage pack) {
+    public Map<ObjectiveID, Objective> parse(final QuestPackage pack) {
+        final Map<ObjectiveID, Objective> parsed = new HashMap<>();
         final ConfigurationSection oConfig = pack.getConfig().getConfigurationSection("objectives");
         if (oConfig != null) {
             final String packName = pack.getQuestPath();
@@ -67,7 +137,7 @@ public class ObjectiveProcessor extends QuestProcessor<ObjectiveID, Objective> {
                 }
                 final ObjectiveID identifier;
                 try {
-                    identifier = new ObjectiveID(pack, key);
+                    identifier = ids.objective(pack, key);
                 } catch (final ObjectNotFoundException e) {
                     log.warn(pack, "Error while loading objective '" + packName + "." + key + "': " + e.getMessage(), e);
                     continue;
@@ -89,8 +159,8 @@ public class ObjectiveProcessor extends QuestProcessor<ObjectiveID, Objective> {
                 try {
                     final Objective objective = objectiveClass.getConstructor(Instruction.class)
                             .newInstance(identifier.getInstruction());
-                    values.put(identifier, objective);
-                    log.debug(pack, "  Objective '" + identifier + "' loaded");
+                    parsed.put(identifier, objective);
+                    log.debug(pack, () -> "  Objective '" + identifier + "' loaded");
                 } catch (final InvocationTargetException e) {
                     if (e.getCause() instanceof InstructionParseException) {
                         log.warn(pack, "Error in '" + identifier + "' objective (" + type + "): " + e.getCause().getMessage(), e);
@@ -102,6 +172,7 @@ public class ObjectiveProcessor extends QuestProcessor<ObjectiveID, Objective> {
                 }
             }
         }
+        return parsed;
     }
 
     /**
@@ -111,13 +182,13 @@ public class ObjectiveProcessor extends QuestProcessor<ObjectiveID, Objective> {
      * @param objectiveID ID of the objective
      */
     public void start(final Profile profile, final ObjectiveID objectiveID) {
-        final Objective objective = values.get(objectiveID);
+        final Objective objective = get(objectiveID);
         if (objective == null) {
             log.error("Tried to start objective '" + objectiveID.getFullID() + "' but it is not loaded! Check for errors on /bq reload!");
             return;
         }
         if (objective.containsPlayer(profile)) {
-            log.debug(objectiveID.getPackage(), profile + " already has the " + objectiveID + " objective");
+            log.debug(objectiveID.getPackage(), () -> profile + " already has the " + objectiveID + " objective");
             return;
         }
         objective.newPlayer(profile);
@@ -131,13 +202,13 @@ public class ObjectiveProcessor extends QuestProcessor<ObjectiveID, Objective> {
      * @param instruction data instruction string
      */
     public void resume(final Profile profile, final ObjectiveID objectiveID, final String instruction) {
-        final Objective objective = values.get(objectiveID);
+        final Objective objective = get(objectiveID);
         if (objective == null) {
             log.warn(objectiveID.getPackage(), "Objective " + objectiveID + " does not exist");
             return;
         }
         if (objective.containsPlayer(profile)) {
-            log.debug(objectiveID.getPackage(), profile + " already has the " + objectiveID + " objective!");
+            log.debug(objectiveID.getPackage(), () -> profile + " already has the " + objectiveID + " objective!");
             return;
         }
         objective.resumeObjectiveForPlayer(profile, instruction);
@@ -150,13 +221,35 @@ public class ObjectiveProcessor extends QuestProcessor<ObjectiveID, Objective> {
      * @return list of this player's active objectives
      */
     public List<Objective> getActive(final Profile profile) {
-        final List<Objective> list = new ArrayList<>();
-        for (final Objective objective : values.values()) {
-            if (objective.containsPlayer(profile)) {
-                list.add(objective);
-            }
-        }
-        return list;
+        final Set<Objective> active = activeObjectives.get(profile);
+        return active == null ? new ArrayList<>() : new ArrayList<>(active);
+    }
+
+    /**
+     * Marks the objective as active for the profile. Called by the objective when it is started for the profile.
+     *
+     * @param profile   the {@link Profile} of the player
+     * @param objective the started objective
+     */
+    public void markActive(final Profile profile, final Objective objective) {
+        activeObjectives.compute(profile, (key, active) -> {
+            final Set<Objective> objectives = active == null ? new CopyOnWriteArraySet<>() : active;
+            objectives.add(objective);
+            return objectives;
+        });
+    }
+
+    /**
+     * Marks the objective as inactive for the profile. Called by the objective when it is stopped for the profile.
+     *
+     * @param profile   the {@link Profile} of the player
+     * @param objective the stopped objective
+     */
+    public void markInactive(final Profile profile, final Objective objective) {
+        activeObjectives.computeIfPresent(profile, (key, active) -> {
+            active.remove(objective);
+            return active.isEmpty() ? null : active;
+        });
     }
 
     /**
@@ -165,7 +258,7 @@ public class ObjectiveProcessor extends QuestProcessor<ObjectiveID, Objective> {
      */
     @Nullable
     public Objective getObjective(final ObjectiveID objectiveID) {
-        return values.get(objectiveID);
+        return get(objectiveID);
     }
 
     /**
@@ -176,9 +269,10 @@ public class ObjectiveProcessor extends QuestProcessor<ObjectiveID, Objective> {
      */
     public void renameObjective(final ObjectiveID name, final ObjectiveID rename) {
         final Objective objective = values.remove(name);
-        values.put(rename, objective);
         if (objective != null) {
+            values.put(rename, objective);
             objective.setLabel(rename);
         }
+        modified();
     }
 }
@@ -0,0 +1,144 @@
+package org.betonquest.betonquest.quest.registry.processor;
+
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.profiles.Profile;
+import org.betonquest.betonquest.id.ConditionID;
+import org.betonquest.betonquest.quest.PrimaryServerThreadData;
+import org.betonquest.betonquest.utils.LatencyHistogram;
+import org.bukkit.plugin.IllegalPluginAccessException;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiPredicate;
+
+/**
+ * Collects conditions that must be checked on the primary server thread from other threads
+ * and checks all of them in a single task on the primary server thread.
+ */
+class PrimaryThreadConditionBatcher {
+    /**
+     * Custom {@link BetonQuestLogger} instance for this class.
+     */
+    private final BetonQuestLogger log;
+
+    /**
+     * Data used to schedule the task on the primary server thread.
+     */
+    private final PrimaryServerThreadData data;
+
+    /**
+     * Checks a single condition on the current thread.
+     */
+    private final BiPredicate<Profile, ConditionID> checker;
+
+    /**
+     * Requests that wait for the next task.
+     */
+    private final Queue<Request> pending = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Whether a task is scheduled that will check the pending requests.
+     */
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    /**
+     * The time requests waited for the primary server thread.
+     */
+    private final LatencyHistogram tickWait = new LatencyHistogram();
+
+    /**
+     * Creates a new batcher.
+     *
+     * @param log     the logger that will be used for logging
+     * @param data    the data used to schedule the task on the primary server thread
+     * @param checker checks a single condition on the current thread
+     */
+    /* default */ PrimaryThreadConditionBatcher(final BetonQuestLogger log, final PrimaryServerThreadData data,
+                                                final BiPredicate<Profile, ConditionID> checker) {
+        this.log = log;
+        this.data = data;
+        this.checker = checker;
+    }
+
+    /**
+     * Checks the conditions in the next task on the primary server thread.
+     * The check stops at the first condition that is not met.
+     *
+     * @param profile      the profile to check the conditions for
+     * @param conditionIDs the conditions to check
+     * @return a future that completes with whether all conditions are met
+     */
+    /* default */ CompletableFuture<Boolean> submit(@Nullable final Profile profile, final List<ConditionID> conditionIDs) {
+        final Request request = new Request(profile, conditionIDs, new CompletableFuture<>(), System.nanoTime());
+        pending.add(request);
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                data.scheduler().runTask(data.plugin(), this::checkPending);
+            } catch (final IllegalPluginAccessException e) {
+                scheduled.set(false);
+                log.debug("Could not schedule condition checks, the plugin is disabled", e);
+                failPending();
+            }
+        }
+        return request.result();
+    }
+
+    private void checkPending() {
+        scheduled.set(false);
+        Request request = pending.poll();
+        while (request != null) {
+            tickWait.record(System.nanoTime() - request.submitted());
+            try {
+                request.result().complete(checkAll(request));
+            } catch (final RuntimeException e) {
+                request.result().completeExceptionally(e);
+            }
+            request = pending.poll();
+        }
+    }
+
+    private boolean checkAll(final Request request) {
+        for (final ConditionID conditionID : request.conditionIDs()) {
+            if (!checker.test(request.profile(), conditionID)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Completes all pending requests as not met, because they will not be checked anymore.
+     */
+    /* default */ void failPending() {
+        Request request = pending.poll();
+        while (request != null) {
+            request.result().complete(false);
+            request = pending.poll();
+        }
+    }
+
+    /**
+     * Gets the time requests waited for the primary server thread.
+     *
+     * @return the tick wait histogram
+     */
+    /* default */ LatencyHistogram getTickWait() {
+        return tickWait;
+    }
+
+    /**
+     * Conditions to check for a profile.
+     *
+     * @param profile      the profile to check the conditions for
+     * @param conditionIDs the conditions to check
+     * @param result       the future to complete with the result
+     * @param submitted    the time the request was submitted in nanoseconds
+     */
+    private record Request(@Nullable Profile profile, List<ConditionID> conditionIDs,
+                           CompletableFuture<Boolean> result, long submitted) {
+    }
+}
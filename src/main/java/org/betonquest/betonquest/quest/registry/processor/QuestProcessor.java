@@ -3,9 +3,15 @@ package org.betonquest.betonquest.quest.registry.processor;
 import org.betonquest.betonquest.api.config.quest.QuestPackage;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.betonquest.betonquest.id.ID;
+import org.betonquest.betonquest.id.IDTable;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Does the logic around {@link T}.
@@ -21,17 +27,80 @@ public abstract class QuestProcessor<I extends ID, T> {
 
     /**
      * Loaded {@link T} identified by their {@link ID}.
+     * <p>
+     * Concurrent, so lookups from other threads are safe while single packages are reloaded.
      */
     protected final Map<I, T> values;
 
+    /**
+     * The table interning the IDs and assigning their handles.
+     */
+    protected final IDTable ids;
+
+    /**
+     * The amount of modifications of the values, used to notice that the handle index is outdated.
+     */
+    private final AtomicInteger modifications = new AtomicInteger();
+
+    /**
+     * The values by the handle of their ID.
+     */
+    @SuppressWarnings("PMD.AvoidUsingVolatile")
+    private volatile HandleIndex handleIndex = new HandleIndex(0, new Object[0]);
+
     /**
      * Create a new QuestProcessor to store and execute {@link T} logic.
      *
      * @param log the custom logger for this class
+     * @param ids the table interning the IDs and assigning their handles
      */
-    public QuestProcessor(final BetonQuestLogger log) {
+    public QuestProcessor(final BetonQuestLogger log, final IDTable ids) {
         this.log = log;
-        this.values = new HashMap<>();
+        this.ids = ids;
+        this.values = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets the loaded {@link T} by the handle of its {@link ID} instead of hashing it.
+     *
+     * @param id the ID of the value
+     * @return the value or null if it is not loaded
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    protected T get(final I id) {
+        final int handle = ids.handle(id);
+        final int version = modifications.get();
+        HandleIndex index = handleIndex;
+        if (index.version() != version) {
+            index = buildHandleIndex(version);
+        }
+        return handle < index.values().length ? (T) index.values()[handle] : null;
+    }
+
+    private HandleIndex buildHandleIndex(final int version) {
+        final List<Map.Entry<Integer, T>> entries = new ArrayList<>(values.size());
+        int length = 0;
+        for (final Map.Entry<I, T> entry : values.entrySet()) {
+            final int handle = ids.handle(entry.getKey());
+            entries.add(Map.entry(handle, entry.getValue()));
+            length = Math.max(length, handle + 1);
+        }
+        final Object[] byHandle = new Object[length];
+        for (final Map.Entry<Integer, T> entry : entries) {
+            byHandle[entry.getKey()] = entry.getValue();
+        }
+        final HandleIndex index = new HandleIndex(version, byHandle);
+        handleIndex = index;
+        return index;
+    }
+
+    /**
+     * Marks the values as modified, so the handle index is built again on the next lookup.
+     * Must be called after every modification of the values.
+     */
+    protected void modified() {
+        modifications.incrementAndGet();
     }
 
     /**
@@ -39,6 +108,49 @@ public abstract class QuestProcessor<I extends ID, T> {
      */
     public void clear() {
         values.clear();
+        modified();
+    }
+
+    /**
+     * Removes all values of a QuestPackage. Used before reloading a single QuestPackage or when it was removed.
+     *
+     * @param packName the name of the package to unload
+     * @return the removed values
+     */
+    public Map<I, T> unload(final String packName) {
+        final Map<I, T> removed = new HashMap<>();
+        values.entrySet().removeIf(entry -> {
+            if (packName.equals(entry.getKey().getPackage().getQuestPath())) {
+                removed.put(entry.getKey(), entry.getValue());
+                return true;
+            }
+            return false;
+        });
+        modified();
+        return removed;
+    }
+
+    /**
+     * Reloads all {@link T} of a QuestPackage.
+     * <p>
+     * The new values replace the old ones with the same {@link ID} one by one, so a lookup never misses a value
+     * that is defined before and after the reload. Values no longer defined are removed afterwards.
+     *
+     * @param pack the package to reload
+     * @return the replaced and removed values
+     */
+    public Map<I, T> reload(final QuestPackage pack) {
+        final String packName = pack.getQuestPath();
+        final Map<I, T> previous = new HashMap<>();
+        for (final Map.Entry<I, T> entry : values.entrySet()) {
+            if (packName.equals(entry.getKey().getPackage().getQuestPath())) {
+                previous.put(entry.getKey(), entry.getValue());
+            }
+        }
+        load(pack);
+        previous.forEach(values::remove);
+        modified();
+        return previous;
     }
 
     /**
@@ -57,5 +169,42 @@ public abstract class QuestProcessor<I extends ID, T> {
      *
      * @param pack to load the {@link T} from
      */
-    public abstract void load(QuestPackage pack);
+    public void load(final QuestPackage pack) {
+        values.putAll(parse(pack));
+        modified();
+    }
+
+    /**
+     * Parses all {@link T} of the QuestPackage without storing them.
+     * <p>
+     * Any errors will be logged.
+     * Unless stated otherwise, it is safe to parse different packages in parallel.
+     *
+     * @param pack to parse the {@link T} from
+     * @return the parsed {@link T} identified by their {@link ID}
+     */
+    public abstract Map<I, T> parse(QuestPackage pack);
+
+    /**
+     * Replaces all values with the given ones.
+     * <p>
+     * Values with the same {@link ID} are replaced one by one, so a lookup never misses a value
+     * that is defined before and after the replacement.
+     *
+     * @param loaded the new values
+     */
+    public void replace(final Map<I, T> loaded) {
+        values.putAll(loaded);
+        values.keySet().retainAll(loaded.keySet());
+        modified();
+    }
+
+    /**
+     * The values by the handle of their ID at a modification count.
+     *
+     * @param version the modification count the index was built at
+     * @param values  the values by the handle of their ID
+     */
+    private record HandleIndex(int version, Object[] values) {
+    }
 }
@@ -6,10 +6,12 @@ import org.betonquest.betonquest.bstats.CompositeInstructionMetricsSupplier;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
 import org.betonquest.betonquest.exceptions.ObjectNotFoundException;
 import org.betonquest.betonquest.id.ID;
+import org.betonquest.betonquest.id.IDTable;
 import org.betonquest.betonquest.quest.legacy.LegacyTypeFactory;
 import org.betonquest.betonquest.quest.registry.type.QuestTypeRegistry;
 import org.bukkit.configuration.ConfigurationSection;
 
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -39,13 +41,14 @@ public abstract class TypedQuestProcessor<I extends ID, T> extends QuestProcesso
      * Create a new QuestProcessor to store and execute type logic.
      *
      * @param log      the custom logger for this class
+     * @param ids      the table interning the IDs and assigning their handles
      * @param types    the available types
      * @param readable the type name used for logging, with first letter in upper case
      * @param internal the section name and/or bstats topic identifier
      */
-    public TypedQuestProcessor(final BetonQuestLogger log, final QuestTypeRegistry<?, ?, T> types,
+    public TypedQuestProcessor(final BetonQuestLogger log, final IDTable ids, final QuestTypeRegistry<?, ?, T> types,
                                final String readable, final String internal) {
-        super(log);
+        super(log, ids);
         this.types = types;
         this.readable = readable;
         this.internal = internal;
@@ -61,22 +64,24 @@ public abstract class TypedQuestProcessor<I extends ID, T> extends QuestProcesso
     }
 
     @Override
-    public void load(final QuestPackage pack) {
+    public Map<I, T> parse(final QuestPackage pack) {
+        final Map<I, T> parsed = new HashMap<>();
         final ConfigurationSection section = pack.getConfig().getConfigurationSection(internal);
         if (section == null) {
-            return;
+            return parsed;
         }
         final String packName = pack.getQuestPath();
         for (final String key : section.getKeys(false)) {
             if (key.contains(" ")) {
                 log.warn(pack, readable + " name cannot contain spaces: '" + key + "' (in " + packName + " package)");
             } else {
-                loadKey(key, pack, packName);
+                loadKey(key, pack, packName, parsed);
             }
         }
+        return parsed;
     }
 
-    private void loadKey(final String key, final QuestPackage pack, final String packName) {
+    private void loadKey(final String key, final QuestPackage pack, final String packName, final Map<I, T> loaded) {
         final I identifier;
         try {
             identifier = getIdentifier(pack, key);
@@ -100,8 +105,8 @@ public abstract class TypedQuestProcessor<I extends ID, T> extends QuestProcesso
 
         try {
             final T parsed = factory.parseInstruction(identifier.getInstruction());
-            values.put(identifier, parsed);
-            log.debug(pack, "  " + readable + " '" + identifier + "' loaded");
+            loaded.put(identifier, parsed);
+            log.debug(pack, () -> "  " + readable + " '" + identifier + "' loaded");
         } catch (final InstructionParseException e) {
             log.warn(pack, "Error in '" + identifier + "' " + readable + " (" + type + "): " + e.getMessage(), e);
         }
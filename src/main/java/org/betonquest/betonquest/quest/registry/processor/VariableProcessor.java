@@ -1,5 +1,8 @@
 package org.betonquest.betonquest.quest.registry.processor;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import org.betonquest.betonquest.Instruction;
 import org.betonquest.betonquest.api.Variable;
 import org.betonquest.betonquest.api.config.quest.QuestPackage;
@@ -8,11 +11,17 @@ import org.betonquest.betonquest.api.logger.BetonQuestLoggerFactory;
 import org.betonquest.betonquest.api.profiles.Profile;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
 import org.betonquest.betonquest.exceptions.ObjectNotFoundException;
+import org.betonquest.betonquest.id.IDTable;
 import org.betonquest.betonquest.id.VariableID;
 import org.betonquest.betonquest.quest.legacy.LegacyTypeFactory;
 import org.betonquest.betonquest.quest.registry.type.VariableTypeRegistry;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Stores Variables and resolve them.
  */
@@ -22,22 +31,47 @@ public class VariableProcessor extends TypedQuestProcessor<VariableID, Variable>
      */
     private final BetonQuestLoggerFactory loggerFactory;
 
+    /**
+     * Variables created at runtime from instructions that are not known while loading,
+     * by their package and instruction. The least recently used variables are removed when the cache is full.
+     */
+    private final Cache<DynamicKey, Variable> dynamicValues;
+
+    /**
+     * Values of variables cacheable within a tick, resolved in the current tick.
+     */
+    private final Map<TickKey, String> tickValues = new ConcurrentHashMap<>();
+
+    /**
+     * Variables created while packages are loaded, or null if no packages are loaded at the moment.
+     * They are swapped in by {@link #finishLoading()}, so the previous variables stay available until then.
+     */
+    @Nullable
+    @SuppressWarnings("PMD.AvoidUsingVolatile")
+    private volatile Map<VariableID, Variable> staged;
+
     /**
      * Create a new Variable Processor to store variables, resolves them and create new.
      *
      * @param log           the custom logger for this class
+     * @param ids           the table interning the IDs and assigning their handles
      * @param variableTypes the available variable types
      * @param loggerFactory the logger factory used in variable ids
+     * @param dynamicSize   the maximum amount of variables created at runtime kept in memory
      */
-    public VariableProcessor(final BetonQuestLogger log, final VariableTypeRegistry variableTypes,
-                             final BetonQuestLoggerFactory loggerFactory) {
-        super(log, variableTypes, "Variable", "variables");
+    public VariableProcessor(final BetonQuestLogger log, final IDTable ids, final VariableTypeRegistry variableTypes,
+                             final BetonQuestLoggerFactory loggerFactory, final long dynamicSize) {
+        super(log, ids, variableTypes, "Variable", "variables");
         this.loggerFactory = loggerFactory;
+        this.dynamicValues = CacheBuilder.newBuilder()
+                .maximumSize(dynamicSize)
+                .recordStats()
+                .build();
     }
 
     @Override
-    public void load(final QuestPackage pack) {
-        // Empty
+    public Map<VariableID, Variable> parse(final QuestPackage pack) {
+        return new HashMap<>();
     }
 
     @Override
@@ -56,26 +90,151 @@ public class VariableProcessor extends TypedQuestProcessor<VariableID, Variable>
      */
     public Variable create(@Nullable final QuestPackage pack, final String instruction)
             throws InstructionParseException {
-        final VariableID variableID;
+        final VariableID variableID = getVariableID(pack, instruction);
+        final Map<VariableID, Variable> loading = staged;
+        final Map<VariableID, Variable> target = loading == null ? values : loading;
+        final Variable existingVariable = target.get(variableID);
+        if (existingVariable != null) {
+            return existingVariable;
+        }
+        final Variable variable = parse(variableID);
+        final Variable previous = target.putIfAbsent(variableID, variable);
+        if (previous != null) {
+            return previous;
+        }
+        if (loading == null) {
+            modified();
+        }
+        log.debug(pack, () -> "Variable " + variableID + " loaded");
+        return variable;
+    }
+
+    /**
+     * Starts loading packages. Variables created from now on are collected separately
+     * and swapped in by {@link #finishLoading()} or {@link #finishLoading(Collection)}.
+     */
+    public void startLoading() {
+        staged = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Replaces all variables with the ones created since {@link #startLoading()}.
+     */
+    public void finishLoading() {
+        final Map<VariableID, Variable> loaded = staged;
+        if (loaded == null) {
+            return;
+        }
+        logDynamicStats();
+        replace(loaded);
+        staged = null;
+        dynamicValues.invalidateAll();
+        tickValues.clear();
+    }
+
+    /**
+     * Replaces the variables of the given packages with the ones created since {@link #startLoading()}.
+     * Variables of other packages are kept.
+     *
+     * @param packNames the names of the reloaded and removed packages
+     */
+    public void finishLoading(final Collection<String> packNames) {
+        final Map<VariableID, Variable> loaded = staged;
+        if (loaded == null) {
+            return;
+        }
+        values.putAll(loaded);
+        values.entrySet().removeIf(entry -> !loaded.containsKey(entry.getKey())
+                && packNames.contains(entry.getKey().getPackage().getQuestPath()));
+        modified();
+        staged = null;
+        dynamicValues.invalidateAll();
+    }
+
+    /**
+     * Gets a Variable for an instruction only known at runtime, like the result of an evaluation or a placeholder.
+     * <p>
+     * Unlike {@link #create(QuestPackage, String)} new variables are not stored with the loaded ones but in a
+     * bounded cache, so arbitrary instructions can not fill the memory.
+     *
+     * @param pack        package in which the variable is defined
+     * @param instruction instruction of the variable, including both % characters.
+     * @return the Variable instance
+     * @throws InstructionParseException when the variable parsing fails
+     */
+    public Variable createDynamic(@Nullable final QuestPackage pack, final String instruction)
+            throws InstructionParseException {
+        final DynamicKey key = new DynamicKey(pack == null ? null : pack.getQuestPath(), instruction);
+        final Variable cached = dynamicValues.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        final VariableID variableID = getVariableID(pack, instruction);
+        final Variable existingVariable = values.get(variableID);
+        final Variable variable = existingVariable == null ? parse(variableID) : existingVariable;
+        dynamicValues.put(key, variable);
+        return variable;
+    }
+
+    private VariableID getVariableID(@Nullable final QuestPackage pack, final String instruction)
+            throws InstructionParseException {
         try {
-            variableID = new VariableID(loggerFactory, pack, instruction);
+            return new VariableID(loggerFactory, pack, instruction);
         } catch (final ObjectNotFoundException e) {
             throw new InstructionParseException("Could not load variable: " + e.getMessage(), e);
         }
-        final Variable existingVariable = values.get(variableID);
-        if (existingVariable != null) {
-            return existingVariable;
-        }
+    }
+
+    private Variable parse(final VariableID variableID) throws InstructionParseException {
         final Instruction instructionVar = variableID.getInstruction();
         final LegacyTypeFactory<Variable> variableFactory = types.getFactory(instructionVar.current());
         if (variableFactory == null) {
             throw new InstructionParseException("Variable type " + instructionVar.current() + " is not registered");
         }
+        final Variable parsed = variableFactory.parseInstruction(instructionVar);
+        return parsed.isCacheableWithinTick() ? new TickCachedVariable(parsed) : parsed;
+    }
 
-        final Variable variable = variableFactory.parseInstruction(instructionVar);
-        values.put(variableID, variable);
-        log.debug(pack, "Variable " + variableID + " loaded");
-        return variable;
+    @Override
+    public Map<VariableID, Variable> unload(final String packName) {
+        dynamicValues.invalidateAll();
+        return super.unload(packName);
+    }
+
+    @Override
+    public Map<VariableID, Variable> reload(final QuestPackage pack) {
+        dynamicValues.invalidateAll();
+        return super.reload(pack);
+    }
+
+    @Override
+    public void clear() {
+        logDynamicStats();
+        super.clear();
+        dynamicValues.invalidateAll();
+        tickValues.clear();
+    }
+
+    private void logDynamicStats() {
+        final CacheStats stats = dynamicValues.stats();
+        log.debug("Dynamic variables: " + dynamicValues.size() + " cached, " + stats.hitCount() + " hits, "
+                + stats.missCount() + " misses, " + stats.evictionCount() + " evictions");
+    }
+
+    /**
+     * Gets the statistics of the cache for variables created at runtime.
+     *
+     * @return the hit, miss and eviction counts of the dynamic variables
+     */
+    public CacheStats getDynamicStats() {
+        return dynamicValues.stats();
+    }
+
+    /**
+     * Forgets the values of variables cached in the current tick. Called at the start of every tick.
+     */
+    public void clearTickCache() {
+        tickValues.clear();
     }
 
     /**
@@ -90,7 +249,7 @@ public class VariableProcessor extends TypedQuestProcessor<VariableID, Variable>
     public String getValue(final QuestPackage pack, final String name, @Nullable final Profile profile) throws InstructionParseException {
         final Variable var;
         try {
-            var = create(pack, name);
+            var = createDynamic(pack, name);
         } catch (final InstructionParseException e) {
             throw new InstructionParseException("Could not create variable '" + name + "': " + e.getMessage(), e);
         }
@@ -99,4 +258,56 @@ public class VariableProcessor extends TypedQuestProcessor<VariableID, Variable>
         }
         return var.getValue(profile);
     }
+
+    /**
+     * Identifies a variable created at runtime.
+     *
+     * @param packName    the name of the package the variable is created in
+     * @param instruction the instruction of the variable
+     */
+    private record DynamicKey(@Nullable String packName, String instruction) {
+    }
+
+    /**
+     * Identifies a variable resolved for a profile.
+     *
+     * @param variable the variable
+     * @param profile  the profile the variable is resolved for
+     */
+    private record TickKey(Variable variable, @Nullable Profile profile) {
+    }
+
+    /**
+     * Resolves a variable only once per tick and profile.
+     */
+    private final class TickCachedVariable extends Variable {
+        /**
+         * The variable to resolve.
+         */
+        private final Variable delegate;
+
+        /**
+         * Wraps the variable.
+         *
+         * @param delegate the variable to resolve
+         */
+        private TickCachedVariable(final Variable delegate) {
+            super(delegate.getInstruction());
+            this.delegate = delegate;
+            this.staticness = delegate.isStaticness();
+            this.cacheableWithinTick = true;
+        }
+
+        @Override
+        public String getValue(@Nullable final Profile profile) {
+            final TickKey key = new TickKey(this, profile);
+            final String cached = tickValues.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            final String value = delegate.getValue(profile);
+            tickValues.put(key, value);
+            return value;
+        }
+    }
 }
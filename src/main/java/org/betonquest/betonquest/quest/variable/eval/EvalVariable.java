@@ -5,6 +5,7 @@ import org.betonquest.betonquest.api.profiles.Profile;
 import org.betonquest.betonquest.api.quest.variable.nullable.NullableVariable;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
 import org.betonquest.betonquest.exceptions.QuestRuntimeException;
+import org.betonquest.betonquest.instruction.variable.Variable;
 import org.betonquest.betonquest.instruction.variable.VariableString;
 import org.betonquest.betonquest.quest.registry.processor.VariableProcessor;
 import org.jetbrains.annotations.Nullable;
@@ -44,7 +45,12 @@ public class EvalVariable implements NullableVariable {
     @Override
     public String getValue(@Nullable final Profile profile) {
         try {
-            return new VariableString(variableProcessor, pack, "%" + evaluation.getValue(profile) + "%").getValue(profile);
+            final String evaluated = evaluation.getValue(profile);
+            // a plain variable name can be looked up without searching it for variables
+            if (evaluated.indexOf('%') == -1 && evaluated.indexOf('\\') == -1) {
+                return variableProcessor.createDynamic(pack, "%" + evaluated + "%").getValue(profile);
+            }
+            return new Variable<String>(variableProcessor, pack, "%" + evaluated + "%", value -> value, true).getValue(profile);
         } catch (final InstructionParseException | QuestRuntimeException e) {
             return "";
         }
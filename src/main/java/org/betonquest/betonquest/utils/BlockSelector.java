@@ -13,11 +13,15 @@ import org.bukkit.block.data.BlockData;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -25,6 +29,9 @@ import java.util.regex.PatternSyntaxException;
 /**
  * A method of selecting blocks using regex and block states.
  * <p>
+ * The selector is compiled once: the materials into an {@link EnumSet} and the states into predicates,
+ * so matching does not parse the selector or compile regex again.
+ * <p>
  * Block selector format:
  * namespace:material[state=value,...]
  * <p>
@@ -36,6 +43,12 @@ import java.util.regex.PatternSyntaxException;
  */
 @SuppressWarnings({"PMD.CommentRequired", "PMD.GodClass"})
 public class BlockSelector {
+    /**
+     * The parsed states of all block data that were matched against a selector with states.
+     * The amount of different block data is limited by the server, so the cache does not grow unbounded.
+     */
+    private static final Map<BlockData, Map<String, String>> BLOCK_STATES = new ConcurrentHashMap<>();
+
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
      */
@@ -43,8 +56,18 @@ public class BlockSelector {
 
     private final List<Material> materials;
 
+    /**
+     * The {@link #materials} for fast lookups.
+     */
+    private final Set<Material> materialSet;
+
     private final Map<String, String> states;
 
+    /**
+     * The compiled {@link #states} by the state name.
+     */
+    private final Map<String, Predicate<String>> statePredicates;
+
     private final Random random = new Random();
 
     /**
@@ -61,6 +84,11 @@ public class BlockSelector {
         if (materials.isEmpty()) {
             throw new InstructionParseException("Invalid selector, no material found for '" + block + "'!");
         }
+        materialSet = EnumSet.copyOf(materials);
+        statePredicates = new HashMap<>();
+        for (final Map.Entry<String, String> entry : states.entrySet()) {
+            statePredicates.put(entry.getKey(), compileState(entry.getValue()));
+        }
     }
 
     /**
@@ -155,7 +183,7 @@ public class BlockSelector {
      * @return True if the {@link Material} is represented by this {@link BlockSelector}
      */
     public boolean match(final Material material) {
-        return materials.contains(material);
+        return materialSet.contains(material);
     }
 
     /**
@@ -168,38 +196,43 @@ public class BlockSelector {
      * @return True if the {@link Material} is represented by this {@link BlockSelector} and the {@link BlockState} matches.
      */
     public boolean match(final Block block, final boolean exactMatch) {
-        if (!match(block.getBlockData().getMaterial())) {
+        final BlockData blockData = block.getBlockData();
+        if (!match(blockData.getMaterial())) {
             return false;
         }
+        if (states.isEmpty() && !exactMatch) {
+            return true;
+        }
 
-        final Map<String, String> blockStates = getStates(getSelectorParts(block.getBlockData().getAsString())[2]);
+        final Map<String, String> blockStates = BLOCK_STATES.computeIfAbsent(blockData,
+                data -> Map.copyOf(getStates(getSelectorParts(data.getAsString())[2])));
         if (states.isEmpty()) {
-            return !exactMatch || blockStates.isEmpty();
+            return blockStates.isEmpty();
         }
         if (exactMatch && states.size() != blockStates.size()) {
             return false;
         }
 
-        for (final Map.Entry<String, String> entry : states.entrySet()) {
-            final String singleState = entry.getKey();
-            if (!blockStates.containsKey(singleState)) {
+        for (final Map.Entry<String, Predicate<String>> entry : statePredicates.entrySet()) {
+            final String blockState = blockStates.get(entry.getKey());
+            if (blockState == null || !entry.getValue().test(blockState)) {
                 return false;
             }
-
-            final String blockState = blockStates.get(singleState);
-            final String state = entry.getValue();
-            if (!blockState.equals(state)) {
-                final Pattern statePattern = Pattern.compile("^" + state + "$");
-                final Matcher stateMatcher = statePattern.matcher(blockState);
-                if (!stateMatcher.find()) {
-                    return false;
-                }
-            }
         }
         return true;
     }
 
-    private String[] getSelectorParts(final String selector) {
+    private static Predicate<String> compileState(final String state) {
+        final Pattern statePattern;
+        try {
+            statePattern = Pattern.compile("^" + state + "$");
+        } catch (final PatternSyntaxException exception) {
+            return state::equals;
+        }
+        return blockState -> blockState.equals(state) || statePattern.matcher(blockState).find();
+    }
+
+    private static String[] getSelectorParts(final String selector) {
         final String[] selectorParts = new String[3];
         String restSelector = selector;
 
@@ -222,7 +255,7 @@ public class BlockSelector {
     }
 
     @SuppressWarnings("PMD.AvoidLiteralsInIfCondition")
-    private int getBracketIndex(final String text, final int openedBrackets) {
+    private static int getBracketIndex(final String text, final int openedBrackets) {
         final int indexOpen = text.lastIndexOf('[');
         final int indexClose = text.lastIndexOf(']');
         if (indexOpen == -1 && indexClose == -1) {
@@ -286,7 +319,7 @@ public class BlockSelector {
         return materials;
     }
 
-    private Map<String, String> getStates(@Nullable final String statesString) {
+    private static Map<String, String> getStates(@Nullable final String statesString) {
         final Map<String, String> states = new HashMap<>();
         if (statesString == null || statesString.isEmpty()) {
             return states;
@@ -0,0 +1,133 @@
+package org.betonquest.betonquest.utils;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread safe histogram of durations.
+ * <p>
+ * Durations are counted in buckets with power of two bounds in microseconds, so percentiles are approximated by the
+ * upper bound of their bucket.
+ */
+public class LatencyHistogram {
+    /**
+     * The amount of buckets. The last bucket counts all durations longer than about 17 seconds.
+     */
+    private static final int BUCKETS = 25;
+
+    /**
+     * The amount of durations in each bucket.
+     */
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+    /**
+     * The amount of recorded durations.
+     */
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * The sum of all durations in nanoseconds.
+     */
+    private final LongAdder totalNanos = new LongAdder();
+
+    /**
+     * The longest duration in nanoseconds.
+     */
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Creates an empty histogram.
+     */
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    public void record(final long nanos) {
+        final long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+        final int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+        buckets[bucket].increment();
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Gets the amount of recorded durations.
+     *
+     * @return the amount of durations
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Gets the average duration in milliseconds.
+     *
+     * @return the average duration
+     */
+    public double getAverageMillis() {
+        final long amount = count.sum();
+        return amount == 0 ? 0 : totalNanos.sum() / 1_000_000.0 / amount;
+    }
+
+    /**
+     * Gets the longest duration in milliseconds.
+     *
+     * @return the longest duration
+     */
+    public double getMaxMillis() {
+        return maxNanos.get() / 1_000_000.0;
+    }
+
+    /**
+     * Gets an upper bound of the given percentile of all durations in milliseconds.
+     *
+     * @param percentile the percentile between 0 and 1
+     * @return the upper bound of the bucket containing the percentile
+     */
+    public double getPercentileMillis(final double percentile) {
+        final long[] snapshot = getBuckets();
+        long total = 0;
+        for (final long bucket : snapshot) {
+            total += bucket;
+        }
+        final long rank = (long) Math.ceil(percentile * total);
+        long seen = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            seen += snapshot[i];
+            if (seen >= rank && seen > 0) {
+                return i == BUCKETS - 1 ? getMaxMillis() : (1L << i) / 1000.0;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the amount of durations in each bucket. Bucket {@code i} counts durations below {@code 2^i}
+     * microseconds that are not counted in a lower bucket.
+     *
+     * @return a snapshot of the buckets
+     */
+    public long[] getBuckets() {
+        final long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = buckets[i].sum();
+        }
+        return snapshot;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "count=%d, avg=%.3fms, p50<=%.3fms, p99<=%.3fms, max=%.3fms",
+                getCount(), getAverageMillis(), getPercentileMillis(0.5), getPercentileMillis(0.99), getMaxMillis());
+    }
+}
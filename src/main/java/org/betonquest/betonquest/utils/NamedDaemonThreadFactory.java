@@ -0,0 +1,37 @@
+package org.betonquest.betonquest.utils;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates daemon threads named by a prefix and a running number, so they do not keep the server running and can be
+ * identified in thread dumps.
+ */
+@SuppressWarnings("PMD.DoNotUseThreads")
+public class NamedDaemonThreadFactory implements ThreadFactory {
+    /**
+     * The prefix of the thread names.
+     */
+    private final String namePrefix;
+
+    /**
+     * The number of the next thread.
+     */
+    private final AtomicInteger count = new AtomicInteger();
+
+    /**
+     * Creates a new thread factory.
+     *
+     * @param namePrefix the prefix of the thread names, followed by a space and the number of the thread
+     */
+    public NamedDaemonThreadFactory(final String namePrefix) {
+        this.namePrefix = namePrefix;
+    }
+
+    @Override
+    public Thread newThread(final Runnable runnable) {
+        final Thread thread = new Thread(runnable, namePrefix + " " + count.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
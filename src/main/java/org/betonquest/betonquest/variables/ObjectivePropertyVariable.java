@@ -36,7 +36,7 @@ public class ObjectivePropertyVariable extends Variable {
 
         final ObjectiveID tempObjective;
         try {
-            tempObjective = new ObjectiveID(instruction.getPackage(), objectiveID.toString());
+            tempObjective = BetonQuest.getInstance().getIdTable().objective(instruction.getPackage(), objectiveID.toString());
         } catch (final ObjectNotFoundException e) {
             throw new InstructionParseException("Error in objective property variable '" + instruction + "' " + e.getMessage(), e);
         }
@@ -0,0 +1,74 @@
+package org.betonquest.betonquest;
+
+import org.betonquest.betonquest.api.Objective;
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
+import org.betonquest.betonquest.api.profiles.Profile;
+import org.betonquest.betonquest.database.PlayerData;
+import org.betonquest.betonquest.id.ObjectiveID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link GlobalObjectives}.
+ */
+@ExtendWith(MockitoExtension.class)
+class GlobalObjectivesTest {
+    private static ObjectiveID mockObjectiveID(final String packName, final String baseID) {
+        final QuestPackage pack = mock(QuestPackage.class);
+        lenient().when(pack.getQuestPath()).thenReturn(packName);
+        final ObjectiveID objectiveID = mock(ObjectiveID.class);
+        lenient().when(objectiveID.getPackage()).thenReturn(pack);
+        lenient().when(objectiveID.getBaseID()).thenReturn(baseID);
+        return objectiveID;
+    }
+
+    @Test
+    void testRemovePackageKeepsOtherPackages() {
+        new GlobalObjectives();
+        final ObjectiveID reloaded = mockObjectiveID("a", "global");
+        final ObjectiveID unchanged = mockObjectiveID("b", "global");
+        GlobalObjectives.add(reloaded);
+        GlobalObjectives.add(unchanged);
+
+        GlobalObjectives.removePackage("a");
+
+        assertEquals(List.of(unchanged), GlobalObjectives.list(), "Only the global objectives of the removed package should be removed");
+    }
+
+    @Test
+    void testIncrementalReloadStillStartsUnchangedPackages(@Mock final BetonQuest betonQuest, @Mock final PlayerData playerData,
+                                                           @Mock final Profile profile, @Mock final Objective reloadedObjective,
+                                                           @Mock final Objective unchangedObjective) {
+        new GlobalObjectives();
+        final ObjectiveID reloaded = mockObjectiveID("a", "global");
+        final ObjectiveID unchanged = mockObjectiveID("b", "global");
+        GlobalObjectives.add(reloaded);
+        GlobalObjectives.add(unchanged);
+
+        GlobalObjectives.removePackage("a");
+        final ObjectiveID recreated = mockObjectiveID("a", "global");
+        GlobalObjectives.add(recreated);
+
+        try (MockedStatic<BetonQuest> betonQuestMock = mockStatic(BetonQuest.class)) {
+            betonQuestMock.when(BetonQuest::getInstance).thenReturn(betonQuest);
+            when(betonQuest.getPlayerData(profile)).thenReturn(playerData);
+            when(betonQuest.getObjective(recreated)).thenReturn(reloadedObjective);
+            when(betonQuest.getObjective(unchanged)).thenReturn(unchangedObjective);
+
+            GlobalObjectives.startAll(profile);
+        }
+
+        verify(unchangedObjective).newPlayer(profile);
+        verify(reloadedObjective).newPlayer(profile);
+        verify(playerData).addTag("b.global-global");
+        verify(playerData).addTag("a.global-global");
+    }
+}
@@ -0,0 +1,81 @@
+package org.betonquest.betonquest.compatibility.protocollib.hider;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test {@link ConcurrentIntMap}.
+ */
+class ConcurrentIntMapTest {
+    @Test
+    void testPutGetAndRemove() {
+        final ConcurrentIntMap<String> map = new ConcurrentIntMap<>();
+
+        assertNull(map.put(42, "first"), "A new key should have no previous value");
+        assertEquals("first", map.put(42, "second"), "The previous value should be returned");
+        assertEquals("second", map.get(42), "The new value should be stored");
+        assertEquals("second", map.remove(42), "The removed value should be returned");
+        assertNull(map.get(42), "The removed key should not be present");
+        assertEquals(0, map.size(), "The map should be empty");
+    }
+
+    @Test
+    void testSpecialKeys() {
+        final ConcurrentIntMap<String> map = new ConcurrentIntMap<>();
+        map.put(Integer.MIN_VALUE, "min");
+        map.put(0, "zero");
+        map.put(-1, "negative");
+
+        assertEquals("min", map.get(Integer.MIN_VALUE), "The minimal key should be stored");
+        assertEquals("zero", map.get(0), "The zero key should be stored");
+        assertEquals("negative", map.get(-1), "Negative keys should be stored");
+        assertEquals(3, map.size(), "All keys should be counted");
+    }
+
+    @Test
+    void testGrowsAndKeepsEntriesAfterRemovals() {
+        final ConcurrentIntMap<Integer> map = new ConcurrentIntMap<>();
+        for (int key = 0; key < 1000; key++) {
+            map.put(key, key);
+        }
+        for (int key = 0; key < 1000; key += 2) {
+            map.remove(key);
+        }
+        for (int key = 1000; key < 2000; key++) {
+            map.put(key, key);
+        }
+
+        assertEquals(1500, map.size(), "Only the removed keys should be missing");
+        assertNull(map.get(500), "A removed key should not be present");
+        assertEquals(501, map.get(501), "A kept key should still be present");
+        assertEquals(1999, map.get(1999), "A key added after the removals should be present");
+    }
+
+    @Test
+    void testForEachValueSkipsRemovedEntries() {
+        final ConcurrentIntMap<String> map = new ConcurrentIntMap<>();
+        map.put(1, "one");
+        map.put(2, "two");
+        map.put(Integer.MIN_VALUE, "min");
+        map.remove(2);
+
+        final List<String> values = new ArrayList<>();
+        map.forEachValue(values::add);
+
+        assertEquals(2, values.size(), "Only present values should be visited");
+        assertTrue(values.containsAll(List.of("one", "min")), "All present values should be visited");
+    }
+
+    @Test
+    void testComputeIfAbsentKeepsPresentValue() {
+        final ConcurrentIntMap<String> map = new ConcurrentIntMap<>();
+        map.put(7, "present");
+
+        assertEquals("present", map.computeIfAbsent(7, key -> "created"), "A present value should be kept");
+        assertEquals("created", map.computeIfAbsent(8, key -> "created"), "An absent value should be created");
+    }
+}
@@ -0,0 +1,128 @@
+package org.betonquest.betonquest.conversation;
+
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.profiles.Profile;
+import org.betonquest.betonquest.id.ConditionID;
+import org.betonquest.betonquest.id.ConversationID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link OptionConditionResolver}.
+ */
+@ExtendWith(MockitoExtension.class)
+class OptionConditionResolverTest {
+    @Mock
+    private BetonQuestLogger logger;
+
+    @Mock
+    private ConversationID conversation;
+
+    @Mock
+    private Profile profile;
+
+    @Mock
+    private ConditionID met;
+
+    @Mock
+    private ConditionID notMet;
+
+    /**
+     * The amount of checks of each condition.
+     */
+    private final Map<ConditionID, AtomicInteger> checks = new ConcurrentHashMap<>();
+
+    private OptionConditionResolver resolver;
+
+    @AfterEach
+    void tearDown() {
+        resolver.shutdown();
+    }
+
+    private BiPredicate<Profile, ConditionID> countingChecker() {
+        return (checked, conditionID) -> {
+            checks.computeIfAbsent(conditionID, id -> new AtomicInteger()).incrementAndGet();
+            return conditionID == met;
+        };
+    }
+
+    private int checksOf(final ConditionID conditionID) {
+        final AtomicInteger count = checks.get(conditionID);
+        return count == null ? 0 : count.get();
+    }
+
+    @Test
+    void testOptionsAreFilteredInOrder() {
+        resolver = new OptionConditionResolver(logger, countingChecker(), 2, 1000);
+
+        final List<Boolean> available = resolver.resolve(conversation, profile,
+                List.of(List.of(met), List.of(notMet), List.of(), List.of(met, notMet)));
+
+        assertEquals(List.of(true, false, true, false), available, "Only options with met conditions should be available");
+    }
+
+    @Test
+    void testSharedConditionIsCheckedOnce() {
+        resolver = new OptionConditionResolver(logger, countingChecker(), 2, 1000);
+
+        resolver.resolve(conversation, profile, List.of(List.of(met), List.of(met), List.of(met)));
+
+        assertEquals(1, checksOf(met), "A condition used by multiple options should be checked once");
+    }
+
+    @Test
+    void testUnneededConditionIsNotChecked() {
+        resolver = new OptionConditionResolver(logger, countingChecker(), 1, 1000);
+        final ConditionID unneeded = mock(ConditionID.class);
+
+        final List<Boolean> available = resolver.resolve(conversation, profile, List.of(List.of(notMet, unneeded)));
+
+        assertEquals(List.of(false), available, "The option should not be available");
+        assertEquals(0, checksOf(unneeded), "A condition of an option that cannot pass should not be checked");
+    }
+
+    @Test
+    void testSlowConditionHidesOptionAfterDeadline() throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        resolver = new OptionConditionResolver(logger, (checked, conditionID) -> {
+            if (conditionID == notMet) {
+                try {
+                    release.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return true;
+        }, 2, 50);
+
+        final List<Boolean> available = resolver.resolve(conversation, profile, List.of(List.of(met), List.of(notMet)));
+        release.countDown();
+
+        assertEquals(List.of(true, false), available, "Only the slow option should be hidden");
+        verify(logger).warn(any(), anyString());
+        assertEquals(1, resolver.getLatencies().get(conversation).getCount(), "The resolution should be recorded");
+    }
+
+    @Test
+    void testClearLatenciesForgetsConversations() {
+        resolver = new OptionConditionResolver(logger, countingChecker(), 1, 1000);
+        resolver.resolve(conversation, profile, List.of(List.of(met)));
+
+        resolver.clearLatencies();
+
+        assertTrue(resolver.getLatencies().isEmpty(), "No conversation should be kept after clearing");
+    }
+}
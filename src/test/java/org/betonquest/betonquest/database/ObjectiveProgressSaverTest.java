@@ -0,0 +1,113 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.api.QuestDataUpdateEvent;
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.profiles.Profile;
+import org.betonquest.betonquest.database.Saver.Record;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link ObjectiveProgressSaver}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ObjectiveProgressSaverTest {
+    /**
+     * The ID of the profile.
+     */
+    private static final UUID PROFILE_ID = UUID.randomUUID();
+
+    /**
+     * The full ID of the objective.
+     */
+    private static final String OBJECTIVE_ID = "quest.mine";
+
+    @Mock
+    private BetonQuestLogger logger;
+
+    @Mock
+    private Saver saver;
+
+    @Mock
+    private Profile profile;
+
+    /**
+     * The called update events.
+     */
+    private final List<QuestDataUpdateEvent> events = new ArrayList<>();
+
+    /**
+     * The profiles whose journal was updated.
+     */
+    private final List<Profile> journals = new ArrayList<>();
+
+    private ObjectiveProgressSaver progressSaver;
+
+    @BeforeEach
+    void setUp() {
+        progressSaver = new ObjectiveProgressSaver(logger, saver, events::add, journals::add);
+    }
+
+    @Test
+    void testRepeatedChangesAreWrittenOnce() {
+        when(profile.getProfileUUID()).thenReturn(PROFILE_ID);
+        final AtomicReference<String> data = new AtomicReference<>("1");
+        progressSaver.markDirty(profile, OBJECTIVE_ID, data::get);
+        data.set("2");
+        progressSaver.markDirty(profile, OBJECTIVE_ID, data::get);
+        data.set("3");
+        progressSaver.markDirty(profile, OBJECTIVE_ID, data::get);
+        progressSaver.flushAll();
+
+        final ArgumentCaptor<Record> captor = ArgumentCaptor.forClass(Record.class);
+        verify(saver).add(captor.capture());
+        assertEquals(UpdateType.UPDATE_OBJECTIVES, captor.getValue().type(), "The data should be written as an update");
+        assertArrayEquals(new String[]{"3", PROFILE_ID.toString(), OBJECTIVE_ID}, captor.getValue().args(),
+                "The latest data should be written");
+        assertEquals(2, progressSaver.getCoalescedWrites(), "Two changes should be coalesced");
+    }
+
+    @Test
+    void testFlushWithoutChangeDoesNotWrite() {
+        progressSaver.flush(profile, OBJECTIVE_ID);
+        progressSaver.flushAll();
+
+        verifyNoInteractions(saver);
+        assertEquals(0, progressSaver.getWrites(), "Nothing should be written");
+    }
+
+    @Test
+    void testFlushWritesOnlyOnce() {
+        when(profile.getProfileUUID()).thenReturn(PROFILE_ID);
+        progressSaver.markDirty(profile, OBJECTIVE_ID, () -> "1");
+        progressSaver.flush(profile, OBJECTIVE_ID);
+        progressSaver.flushAll();
+
+        verify(saver, times(1)).add(any());
+    }
+
+    @Test
+    void testTickCoalescesEventsAndJournalUpdates() {
+        progressSaver.markDirty(profile, OBJECTIVE_ID, () -> "1");
+        progressSaver.markDirty(profile, OBJECTIVE_ID, () -> "2");
+        progressSaver.markDirty(profile, "quest.kill", () -> "5");
+        progressSaver.tick();
+        progressSaver.tick();
+
+        assertEquals(2, events.size(), "One event per changed objective should be called");
+        assertEquals(List.of(profile), journals, "The journal should be updated once");
+        verifyNoInteractions(saver);
+    }
+}
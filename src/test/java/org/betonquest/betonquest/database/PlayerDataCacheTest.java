@@ -0,0 +1,163 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.profiles.Profile;
+import org.betonquest.betonquest.database.Saver.Record;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link PlayerDataCache}.
+ */
+@ExtendWith(MockitoExtension.class)
+class PlayerDataCacheTest {
+    /**
+     * The ID of the profile.
+     */
+    private static final UUID PROFILE_ID = UUID.randomUUID();
+
+    @Mock
+    private BetonQuestLogger logger;
+
+    @Mock
+    private Saver saver;
+
+    @Mock
+    private Profile profile;
+
+    /**
+     * The amount of loaded profile data.
+     */
+    private int loads;
+
+    /**
+     * Runs while the profile data is loaded.
+     */
+    private Runnable duringLoad = () -> {
+    };
+
+    private PlayerDataCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(profile.getProfileUUID()).thenReturn(PROFILE_ID);
+        cache = new PlayerDataCache(logger, saver, (loaded, dataSaver) -> {
+            loads++;
+            duringLoad.run();
+            return mock(PlayerData.class);
+        }, 10, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void testRepeatedAccessUsesCache() {
+        final PlayerData first = cache.get(profile);
+        final PlayerData second = cache.get(profile);
+
+        assertSame(first, second, "The cached data should be returned");
+        assertEquals(1, loads, "The data should be loaded once");
+        assertEquals(1, cache.getHits(), "The second access should be a hit");
+        assertEquals(1, cache.getMisses(), "The first access should be a miss");
+    }
+
+    @Test
+    void testRecordOfProfileInvalidatesCache() {
+        final PlayerData first = cache.get(profile);
+        final Record rec = new Record(UpdateType.ADD_TAGS, PROFILE_ID.toString(), "pack.tag");
+        cache.add(rec);
+        final PlayerData second = cache.get(profile);
+
+        verify(saver).add(eq(rec), any());
+        assertNotSame(first, second, "The data should be loaded again after a change");
+        assertEquals(1, cache.getInvalidations(), "One entry should have been invalidated");
+    }
+
+    @Test
+    void testGlobalRecordKeepsCache() {
+        cache.get(profile);
+        cache.add(new Record(UpdateType.ADD_GLOBAL_TAGS, "pack.tag"));
+        cache.get(profile);
+
+        assertEquals(1, loads, "Global data changes should not invalidate profile data");
+    }
+
+    @Test
+    void testRecordOfAllProfilesInvalidatesCache() {
+        cache.get(profile);
+        cache.add(new Record(UpdateType.RENAME_ALL_TAGS, "pack.new", "pack.tag"));
+        cache.get(profile);
+
+        assertEquals(2, loads, "Changes of all profiles should invalidate all data");
+    }
+
+    @Test
+    void testPromoteRemovesCachedData() {
+        final PlayerData cached = cache.get(profile);
+        final PlayerData promoted = cache.promote(profile);
+        final PlayerData loaded = cache.get(profile);
+
+        assertSame(cached, promoted, "The cached data should be promoted");
+        assertNotSame(promoted, loaded, "Promoted data should no longer be cached");
+    }
+
+    @Test
+    void testDataLoadedWhileRecordIsPendingIsNotCached() {
+        cache.add(new Record(UpdateType.ADD_TAGS, PROFILE_ID.toString(), "pack.tag"));
+        cache.get(profile);
+        cache.get(profile);
+        cache.promote(profile);
+
+        assertEquals(3, loads, "Data should not be cached while a record of the profile is not written");
+    }
+
+    @Test
+    void testDataIsCachedAfterRecordWasWritten() {
+        final Record rec = new Record(UpdateType.ADD_TAGS, PROFILE_ID.toString(), "pack.tag");
+        cache.add(rec);
+        final ArgumentCaptor<Runnable> written = ArgumentCaptor.forClass(Runnable.class);
+        verify(saver).add(eq(rec), written.capture());
+        written.getValue().run();
+
+        final PlayerData loaded = cache.get(profile);
+
+        assertSame(loaded, cache.promote(profile), "Data loaded after the record was written should be cached");
+        assertEquals(1, loads, "The data should be loaded once");
+    }
+
+    @Test
+    void testDataLoadedWhileRecordOfAllProfilesIsPendingIsNotCached() {
+        cache.add(new Record(UpdateType.RENAME_ALL_TAGS, "pack.new", "pack.tag"));
+        cache.get(profile);
+        cache.get(profile);
+
+        assertEquals(2, loads, "Data should not be cached while a record of all profiles is not written");
+    }
+
+    @Test
+    void testRecordWrittenDuringLoadPreventsCaching() {
+        final Record rec = new Record(UpdateType.ADD_TAGS, PROFILE_ID.toString(), "pack.tag");
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return null;
+        }).when(saver).add(eq(rec), any());
+        duringLoad = () -> {
+            duringLoad = () -> {
+            };
+            cache.add(rec);
+        };
+
+        cache.get(profile);
+        cache.get(profile);
+
+        assertEquals(2, loads, "Data loaded before a record was written should not be cached");
+    }
+}
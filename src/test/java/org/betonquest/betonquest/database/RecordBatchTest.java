@@ -0,0 +1,109 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.database.Saver.Record;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test {@link RecordBatch}.
+ */
+class RecordBatchTest {
+    /**
+     * A profile ID used in the records.
+     */
+    private static final String PROFILE = "profile";
+
+    /**
+     * Another profile ID used in the records.
+     */
+    private static final String OTHER_PROFILE = "other";
+
+    @Test
+    void testRemovalDropsEarlierWritesOfSameKey() {
+        final RecordBatch batch = new RecordBatch();
+        final Record removeFirst = new Record(UpdateType.REMOVE_POINTS, PROFILE, "quest");
+        final Record addFirst = new Record(UpdateType.ADD_POINTS, PROFILE, "quest", "1");
+        final Record removeSecond = new Record(UpdateType.REMOVE_POINTS, PROFILE, "quest");
+        final Record addSecond = new Record(UpdateType.ADD_POINTS, PROFILE, "quest", "2");
+        batch.add(removeFirst);
+        batch.add(addFirst);
+        batch.add(removeSecond);
+        batch.add(addSecond);
+
+        assertEquals(List.of(removeSecond, addSecond), batch.getRecords(), "Only the last remove and add should remain");
+        assertEquals(2, batch.getCoalesced(), "Two records should have been coalesced");
+    }
+
+    @Test
+    void testTagAddedAndRemovedKeepsOnlyRemoval() {
+        final RecordBatch batch = new RecordBatch();
+        final Record add = new Record(UpdateType.ADD_TAGS, PROFILE, "pack.tag");
+        final Record remove = new Record(UpdateType.REMOVE_TAGS, PROFILE, "pack.tag");
+        batch.add(add);
+        batch.add(remove);
+
+        assertEquals(List.of(List.of(remove)), batch.getGroups(), "Only the removal should be executed");
+    }
+
+    @Test
+    void testRemovalsOfDifferentKeysAreGroupedBeforeAdditions() {
+        final RecordBatch batch = new RecordBatch();
+        final Record removeFirst = new Record(UpdateType.REMOVE_POINTS, PROFILE, "quest");
+        final Record addFirst = new Record(UpdateType.ADD_POINTS, PROFILE, "quest", "1");
+        final Record removeSecond = new Record(UpdateType.REMOVE_POINTS, OTHER_PROFILE, "quest");
+        final Record addSecond = new Record(UpdateType.ADD_POINTS, OTHER_PROFILE, "quest", "2");
+        batch.add(removeFirst);
+        batch.add(addFirst);
+        batch.add(removeSecond);
+        batch.add(addSecond);
+
+        assertEquals(List.of(List.of(removeFirst, removeSecond), List.of(addFirst, addSecond)), batch.getGroups(),
+                "Records of the same type should be grouped with removals first");
+    }
+
+    @Test
+    void testDeleteDropsAllEarlierRowsWithPrefix() {
+        final RecordBatch batch = new RecordBatch();
+        batch.add(new Record(UpdateType.DELETE_BACKPACK, PROFILE));
+        batch.add(new Record(UpdateType.ADD_BACKPACK, PROFILE, "stone", "1"));
+        final Record otherItem = new Record(UpdateType.ADD_BACKPACK, OTHER_PROFILE, "dirt", "1");
+        batch.add(otherItem);
+        final Record delete = new Record(UpdateType.DELETE_BACKPACK, PROFILE);
+        final Record item = new Record(UpdateType.ADD_BACKPACK, PROFILE, "stone", "2");
+        batch.add(delete);
+        batch.add(item);
+
+        assertEquals(List.of(List.of(delete), List.of(otherItem, item)), batch.getGroups(),
+                "Only the last backpack of the profile should be written");
+    }
+
+    @Test
+    void testCaseInsensitiveMatchEndsSegment() {
+        final RecordBatch batch = new RecordBatch();
+        final Record add = new Record(UpdateType.ADD_POINTS, PROFILE, "quest", "1");
+        final Record remove = new Record(UpdateType.REMOVE_POINTS, PROFILE, "Quest");
+        batch.add(add);
+        batch.add(remove);
+
+        assertEquals(List.of(List.of(add), List.of(remove)), batch.getGroups(),
+                "A removal that might affect an earlier addition must not be moved in front of it");
+    }
+
+    @Test
+    void testUnknownTypeKeepsOrder() {
+        final RecordBatch batch = new RecordBatch();
+        final Record add = new Record(UpdateType.ADD_TAGS, PROFILE, "pack.tag");
+        final Record rename = new Record(UpdateType.RENAME_ALL_TAGS, "pack.new", "pack.tag");
+        final Record remove = new Record(UpdateType.REMOVE_TAGS, PROFILE, "pack.tag");
+        batch.add(add);
+        batch.add(rename);
+        batch.add(remove);
+
+        assertEquals(List.of(List.of(add), List.of(rename), List.of(remove)), batch.getGroups(),
+                "Records must not be coalesced across records without table information");
+        assertEquals(0, batch.getCoalesced(), "No record should have been coalesced");
+    }
+}
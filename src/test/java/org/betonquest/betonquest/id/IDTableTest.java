@@ -0,0 +1,79 @@
+package org.betonquest.betonquest.id;
+
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
+import org.betonquest.betonquest.exceptions.ObjectNotFoundException;
+import org.betonquest.betonquest.modules.logger.util.BetonQuestLoggerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link IDTable}.
+ */
+@ExtendWith({MockitoExtension.class, BetonQuestLoggerService.class})
+class IDTableTest {
+    @Mock
+    private QuestPackage pack;
+
+    private IDTable table;
+
+    @BeforeEach
+    void setUp() {
+        table = new IDTable();
+        when(pack.getQuestPath()).thenReturn("quest");
+    }
+
+    @Test
+    void testSameIdentifierIsParsedOnce() throws ObjectNotFoundException {
+        when(pack.getString("events.reward")).thenReturn("tag add done");
+
+        final EventID first = table.event(pack, "reward");
+        final EventID second = table.event(pack, "reward");
+
+        assertSame(first, second, "The same identifier should return the same instance");
+        assertEquals(1, table.getHits(), "The second ID should be taken from the table");
+        verify(pack, times(1)).getString("events.reward");
+    }
+
+    @Test
+    void testInvertedConditionIsInternedSeparately() throws ObjectNotFoundException {
+        when(pack.getString("conditions.done")).thenReturn("tag done");
+
+        final ConditionID condition = table.condition(pack, "done");
+        final ConditionID inverted = table.condition(pack, "!done");
+
+        assertNotSame(condition, inverted, "The inverted condition should be a different instance");
+        assertTrue(inverted.inverted(), "The inverted condition should stay inverted");
+        assertEquals(table.handle(condition), table.handle(inverted), "Both conditions should share the handle");
+    }
+
+    @Test
+    void testHandlesAreDensePerType() throws ObjectNotFoundException {
+        when(pack.getString("events.first")).thenReturn("tag add first");
+        when(pack.getString("events.second")).thenReturn("tag add second");
+        when(pack.getString("conditions.first")).thenReturn("tag first");
+
+        assertEquals(0, table.handle(table.event(pack, "first")), "The first event should get the first handle");
+        assertEquals(1, table.handle(table.event(pack, "second")), "The second event should get the next handle");
+        assertEquals(0, table.handle(table.condition(pack, "first")), "Conditions should have their own handles");
+    }
+
+    @Test
+    void testNewGenerationKeepsHandles() throws ObjectNotFoundException {
+        when(pack.getString("events.reward")).thenReturn("tag add done");
+
+        final EventID first = table.event(pack, "reward");
+        final int handle = table.handle(first);
+        table.newGeneration();
+        final EventID second = table.event(pack, "reward");
+
+        assertNotSame(first, second, "A new generation should parse the ID again");
+        assertEquals(handle, table.handle(second), "The handle should stay the same");
+        assertEquals(1, table.size(), "Only the new ID should be interned");
+    }
+}
@@ -0,0 +1,83 @@
+package org.betonquest.betonquest.instruction.variable;
+
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
+import org.betonquest.betonquest.exceptions.InstructionParseException;
+import org.betonquest.betonquest.exceptions.QuestRuntimeException;
+import org.betonquest.betonquest.quest.registry.processor.VariableProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link Variable}.
+ */
+@ExtendWith(MockitoExtension.class)
+class VariableTest {
+    @Mock
+    private VariableProcessor variableProcessor;
+
+    @Mock
+    private QuestPackage pack;
+
+    private void mockVariable(final String instruction, final String value) throws InstructionParseException {
+        final org.betonquest.betonquest.api.Variable variable = mock(org.betonquest.betonquest.api.Variable.class);
+        when(variable.getValue(null)).thenReturn(value);
+        when(variableProcessor.create(pack, instruction)).thenReturn(variable);
+    }
+
+    @Test
+    void testLiteralWithoutVariables() throws InstructionParseException, QuestRuntimeException {
+        final VariableString variable = new VariableString(variableProcessor, pack, "no variables here");
+
+        assertEquals("no variables here", variable.getValue(null), "Literal text should be returned unchanged");
+        verifyNoInteractions(variableProcessor);
+    }
+
+    @Test
+    void testSingleVariable() throws InstructionParseException, QuestRuntimeException {
+        mockVariable("%point.x.amount%", "5");
+        final VariableString variable = new VariableString(variableProcessor, pack, "%point.x.amount%");
+
+        assertEquals("5", variable.getValue(null), "The value of the variable should be returned");
+    }
+
+    @Test
+    void testLiteralsAndRepeatedVariables() throws InstructionParseException, QuestRuntimeException {
+        mockVariable("%a%", "1");
+        mockVariable("%b%", "$2");
+        final VariableString variable = new VariableString(variableProcessor, pack, "x %a% y %b%%a% z");
+
+        assertEquals("x 1 y $21 z", variable.getValue(null), "Variables should be replaced in place");
+        verify(variableProcessor, times(1)).create(pack, "%a%");
+    }
+
+    @Test
+    void testEscapedPercentIsLiteral() throws InstructionParseException, QuestRuntimeException {
+        mockVariable("%a%", "1");
+        final VariableString variable = new VariableString(variableProcessor, pack, "100\\% and %a%");
+
+        assertEquals("100\\% and 1", variable.getValue(null), "Escaped percent signs should not start a variable");
+    }
+
+    @Test
+    void testTypedVariable() throws InstructionParseException, QuestRuntimeException {
+        mockVariable("%a%", "2");
+        final Variable<Integer> variable = new Variable<>(variableProcessor, pack, "1%a%", Integer::parseInt);
+
+        assertEquals(12, variable.getValue(null), "The resolved string should be converted");
+    }
+
+    @Test
+    void testContainsVariables() throws InstructionParseException {
+        when(variableProcessor.create(pack, "%a%")).thenReturn(mock(org.betonquest.betonquest.api.Variable.class));
+        final VariableString literal = new VariableString(variableProcessor, pack, "100\\% literal");
+        final VariableString variable = new VariableString(variableProcessor, pack, "value %a%");
+
+        assertFalse(literal.containsVariables(), "Literal text should not contain variables");
+        assertTrue(variable.containsVariables(), "Text with a variable should contain variables");
+    }
+}
@@ -0,0 +1,91 @@
+package org.betonquest.betonquest.item;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link ItemMatchCache}.
+ */
+class ItemMatchCacheTest {
+    /**
+     * Mocks an item that is only similar to itself and is its own copy.
+     *
+     * @param material the material of the item
+     * @return the mocked item
+     */
+    private static ItemStack mockItem(final Material material) {
+        final ItemStack item = mock(ItemStack.class);
+        lenient().when(item.getType()).thenReturn(material);
+        lenient().when(item.clone()).thenReturn(item);
+        lenient().when(item.isSimilar(any())).thenAnswer(invocation -> invocation.getArgument(0) == item);
+        return item;
+    }
+
+    @Test
+    void testMissWhenNothingWasCompared() {
+        final ItemMatchCache cache = new ItemMatchCache();
+
+        assertNull(cache.get(mockItem(Material.STONE)), "An item that was not compared should not have a result");
+    }
+
+    @Test
+    void testHitForComparedItems() {
+        final ItemMatchCache cache = new ItemMatchCache();
+        final ItemStack matching = mockItem(Material.STONE);
+        final ItemStack notMatching = mockItem(Material.STONE);
+        cache.put(matching, true);
+        cache.put(notMatching, false);
+
+        assertEquals(Boolean.TRUE, cache.get(matching), "The result of a matching item should be remembered");
+        assertEquals(Boolean.FALSE, cache.get(notMatching), "The result of a not matching item should be remembered");
+    }
+
+    @Test
+    void testMissForUnknownItemOfSameMaterial() {
+        final ItemMatchCache cache = new ItemMatchCache();
+        cache.put(mockItem(Material.STONE), true);
+
+        assertNull(cache.get(mockItem(Material.STONE)), "An item that is not similar should not have a result");
+    }
+
+    @Test
+    void testOtherMaterialsAreNotCompared() {
+        final ItemMatchCache cache = new ItemMatchCache();
+        final ItemStack stone = mockItem(Material.STONE);
+        cache.put(stone, true);
+
+        assertNull(cache.get(mockItem(Material.DIRT)), "An item of another material should not have a result");
+        verify(stone, never()).isSimilar(any());
+    }
+
+    @Test
+    void testKeepsAnInventoryOfDifferentMaterials() {
+        final ItemMatchCache cache = new ItemMatchCache();
+        final Material[] materials = {Material.STONE, Material.DIRT, Material.SAND, Material.GRAVEL};
+        final ItemStack[] items = new ItemStack[36];
+        for (int index = 0; index < items.length; index++) {
+            items[index] = mockItem(materials[index % materials.length]);
+            cache.put(items[index], index % 2 == 0);
+        }
+
+        for (int index = 0; index < items.length; index++) {
+            assertEquals(index % 2 == 0, cache.get(items[index]), "Every item of the inventory should be remembered");
+        }
+    }
+
+    @Test
+    void testReplacesOldestItemOfFullMaterial() {
+        final ItemMatchCache cache = new ItemMatchCache();
+        final ItemStack oldest = mockItem(Material.STONE);
+        cache.put(oldest, true);
+        for (int index = 0; index < 16; index++) {
+            cache.put(mockItem(Material.STONE), true);
+        }
+
+        assertNull(cache.get(oldest), "The oldest item should be replaced when the material is full");
+    }
+}
@@ -0,0 +1,71 @@
+package org.betonquest.betonquest.item;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link QuestItemScanner}.
+ */
+@ExtendWith(MockitoExtension.class)
+class QuestItemScannerTest {
+    private static ItemStack mockItem(final Material material, final int amount) {
+        final ItemStack item = mock(ItemStack.class);
+        lenient().when(item.getType()).thenReturn(material);
+        lenient().when(item.getAmount()).thenReturn(amount);
+        return item;
+    }
+
+    @Test
+    void testCountsMatchingItems(@Mock final QuestItem stone, @Mock final QuestItem ores) {
+        final ItemStack namedStone = mockItem(Material.STONE, 5);
+        final ItemStack plainStone = mockItem(Material.STONE, 3);
+        final ItemStack ironOre = mockItem(Material.IRON_ORE, 2);
+        when(stone.getMaterials()).thenReturn(List.of(Material.STONE));
+        when(ores.getMaterials()).thenReturn(List.of(Material.IRON_ORE, Material.STONE));
+        when(stone.compare(namedStone)).thenReturn(true);
+        when(stone.compare(plainStone)).thenReturn(false);
+        when(ores.compare(namedStone)).thenReturn(false);
+        when(ores.compare(plainStone)).thenReturn(false);
+        when(ores.compare(ironOre)).thenReturn(true);
+        final QuestItemScanner scanner = new QuestItemScanner(List.of(stone, ores));
+
+        final int[] amounts = scanner.count(Arrays.asList(namedStone, null, plainStone, ironOre));
+
+        assertArrayEquals(new int[]{5, 2}, amounts, "Only the amounts of matching items should be counted");
+    }
+
+    @Test
+    void testSkipsItemsOfOtherMaterials(@Mock final QuestItem stone) {
+        final ItemStack dirt = mockItem(Material.DIRT, 64);
+        when(stone.getMaterials()).thenReturn(List.of(Material.STONE));
+        final QuestItemScanner scanner = new QuestItemScanner(List.of(stone));
+
+        final int[] amounts = scanner.count(List.of(dirt));
+
+        assertArrayEquals(new int[]{0}, amounts, "Items of other materials should not be counted");
+        verify(stone, never()).compare(any());
+    }
+
+    @Test
+    void testAddsToGivenAmounts(@Mock final QuestItem stone) {
+        final ItemStack item = mockItem(Material.STONE, 4);
+        when(stone.getMaterials()).thenReturn(List.of(Material.STONE));
+        when(stone.compare(item)).thenReturn(true);
+        final QuestItemScanner scanner = new QuestItemScanner(List.of(stone));
+        final int[] amounts = {6};
+
+        scanner.count(List.of(item), amounts);
+
+        assertArrayEquals(new int[]{10}, amounts, "The amounts should be added to the given amounts");
+    }
+}
@@ -1,5 +1,6 @@
 package org.betonquest.betonquest.modules.logger;
 
+import com.sun.management.ThreadMXBean;
 import org.betonquest.betonquest.api.config.quest.QuestPackage;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.betonquest.betonquest.modules.logger.util.BetonQuestLoggerService;
@@ -10,11 +11,15 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatcher;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
 import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
 import static org.mockito.Mockito.*;
 
 /**
@@ -47,6 +52,16 @@ class DefaultBetonQuestLoggerTest {
      */
     private static final String LOG_MESSAGE = "Test Message";
 
+    /**
+     * The supplier of the log message.
+     */
+    private static final Supplier<String> LAZY_MESSAGE = () -> LOG_MESSAGE;
+
+    /**
+     * The amount of debug calls measured for allocations.
+     */
+    private static final int DEBUG_CALLS = 20_000;
+
     /**
      * The {@link Handler} for testing.
      */
@@ -62,6 +77,11 @@ class DefaultBetonQuestLoggerTest {
      */
     private QuestPackage questPackage;
 
+    /**
+     * The {@link DebugState} of the logger.
+     */
+    private DebugState debugState;
+
     @BeforeEach
     void setUp() {
         this.handler = mock(Handler.class);
@@ -69,7 +89,8 @@ class DefaultBetonQuestLoggerTest {
         parentLogger.addHandler(handler);
         final Plugin plugin = mock(Plugin.class);
         when(plugin.getName()).thenReturn("TestPlugin");
-        this.logger = new DefaultBetonQuestLogger(plugin, parentLogger, getClass(), null);
+        this.debugState = new DebugState();
+        this.logger = new DefaultBetonQuestLogger(plugin, parentLogger, getClass(), null, debugState);
         this.questPackage = mock(QuestPackage.class);
         when(this.questPackage.getQuestPath()).thenReturn(PACKAGE_NAME);
     }
@@ -103,6 +124,79 @@ class DefaultBetonQuestLoggerTest {
         verify(handler, times(1)).publish(argThat(new RecordMatcher(PACKAGE_NAME, Level.FINE, LOG_MESSAGE, IO_EXCEPTION)));
     }
 
+    @Test
+    void debugSupplierWithPackage() {
+        logger.debug(questPackage, LAZY_MESSAGE);
+        verify(handler, times(1)).publish(argThat(new RecordMatcher(PACKAGE_NAME, Level.FINE, LOG_MESSAGE)));
+    }
+
+    @Test
+    void debugDisabled() {
+        debugState.setRecording(() -> false);
+        logger.debug(LOG_MESSAGE);
+        logger.debug(questPackage, LOG_MESSAGE, IO_EXCEPTION);
+        logger.debug(questPackage, () -> fail("The message should not be built if debugging is disabled"));
+        assertFalse(logger.isDebugEnabled(questPackage), "Debugging should be disabled");
+    }
+
+    @Test
+    void debugWatchedPackage() {
+        debugState.setRecording(() -> false);
+        debugState.watch(this, PACKAGE_NAME::equals);
+        logger.debug(LOG_MESSAGE);
+        logger.debug(questPackage, LAZY_MESSAGE);
+        verify(handler, times(1)).publish(argThat(new RecordMatcher(PACKAGE_NAME, Level.FINE, LOG_MESSAGE)));
+    }
+
+    /**
+     * Disabled debug calls must not allocate at all. The allocated bytes of the thread are counted exactly, including
+     * the used part of the current TLAB. The calls are warmed up first, so class loading and JIT compilation happen
+     * before the measurement. A measurement is repeated a few times, because the JVM may still allocate in this
+     * thread by chance, for example when code is deoptimized, but never in every attempt.
+     */
+    @Test
+    void debugDisabledDoesNotAllocate() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean,
+                "Measuring allocations is not supported");
+        final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemoryEnabled(), "Measuring allocations is not enabled");
+        debugState.setRecording(() -> false);
+        final Runnable empty = () -> {
+        };
+        final Runnable disabledDebug = () -> {
+            for (int i = 0; i < DEBUG_CALLS / 2; i++) {
+                logger.debug(LOG_MESSAGE);
+                logger.debug(questPackage, LAZY_MESSAGE);
+            }
+        };
+        for (int i = 0; i < 10; i++) {
+            disabledDebug.run();
+            allocatedBytes(threads, empty);
+        }
+
+        long leastAllocated = Long.MAX_VALUE;
+        for (int attempt = 0; attempt < 5 && leastAllocated > 0; attempt++) {
+            final long overhead = allocatedBytes(threads, empty);
+            final long allocated = allocatedBytes(threads, disabledDebug);
+            leastAllocated = Math.min(leastAllocated, allocated - overhead);
+        }
+
+        assertEquals(0, leastAllocated, "Disabled debug calls should not allocate any bytes");
+    }
+
+    private long allocatedBytes(final ThreadMXBean threads, final Runnable task) {
+        final long before = threads.getCurrentThreadAllocatedBytes();
+        task.run();
+        return threads.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    @Test
+    void warnExceptionDebugDisabled() {
+        debugState.setRecording(() -> false);
+        logger.warn(LOG_MESSAGE, IO_EXCEPTION);
+        verify(handler, times(1)).publish(argThat(new RecordMatcher(Level.WARNING, LOG_MESSAGE)));
+    }
+
     @Test
     void info() {
         logger.info(LOG_MESSAGE);
@@ -28,35 +28,35 @@ class PlayerLogWatcherTest {
 
     @Test
     void testNewLogWatcherHasNoFilters(@Mock final ReceiverSelectorRegistry registry) {
-        final PlayerLogWatcher watcher = new PlayerLogWatcher(registry);
+        final PlayerLogWatcher watcher = new PlayerLogWatcher(registry, new DebugState());
         final UUID uuid = UUID.randomUUID();
         assertFalse(watcher.hasActiveFilters(uuid), "PlayerLogWatcher should not have active filters");
     }
 
     @Test
     void testNewLogWatcherReturnsEmptySetForActivePatterns(@Mock final ReceiverSelectorRegistry registry) {
-        final PlayerLogWatcher watcher = new PlayerLogWatcher(registry);
+        final PlayerLogWatcher watcher = new PlayerLogWatcher(registry, new DebugState());
         final UUID uuid = UUID.randomUUID();
         assertEquals(Collections.emptySet(), watcher.getActivePatterns(uuid), "PlayerLogWatcher should have no active patterns");
     }
 
     @Test
     void testInNewLogWatcherNoPatternIsActive(@Mock final ReceiverSelectorRegistry registry) {
-        final PlayerLogWatcher watcher = new PlayerLogWatcher(registry);
+        final PlayerLogWatcher watcher = new PlayerLogWatcher(registry, new DebugState());
         final UUID uuid = UUID.randomUUID();
         assertFalse(watcher.isActivePattern(uuid, PATTERN), "No pattern should be reported as active from PlayerLogWatcher");
     }
 
     @Test
     void testRemovingAnNeverRegisteredFilterIsSilentlyIgnored(@Mock final ReceiverSelectorRegistry registry) {
-        final PlayerLogWatcher watcher = new PlayerLogWatcher(registry);
+        final PlayerLogWatcher watcher = new PlayerLogWatcher(registry, new DebugState());
         final UUID uuid = UUID.randomUUID();
         assertDoesNotThrow(() -> watcher.removeFilter(uuid, PATTERN), "Removing an pattern that wasn't registered should not throw any exception");
     }
 
     @Test
     void testHasActiveFilterAfterRegisteringOne(@Mock final ReceiverSelectorRegistry registry) {
-        final PlayerLogWatcher watcher = new PlayerLogWatcher(registry);
+        final PlayerLogWatcher watcher = new PlayerLogWatcher(registry, new DebugState());
         final UUID uuid = UUID.randomUUID();
 
         watcher.addFilter(uuid, PATTERN, Level.INFO);
@@ -66,14 +66,14 @@ class PlayerLogWatcherTest {
 
     @Test
     void testHasNoActiveFilterAfterRegisteringOneForAnotherUser(@Mock final ReceiverSelectorRegistry registry) {
-        final PlayerLogWatcher watcher = new PlayerLogWatcher(registry);
+        final PlayerLogWatcher watcher = new PlayerLogWatcher(registry, new DebugState());
         watcher.addFilter(UUID.randomUUID(), PATTERN, Level.INFO);
         assertFalse(watcher.hasActiveFilters(UUID.randomUUID()), "After registering a filter the PlayerLogWatcher should report no active filters for any other UUID");
     }
 
     @Test
     void testAddFilterRegistersASelector(@Mock final ReceiverSelectorRegistry registry) {
-        final PlayerLogWatcher watcher = new PlayerLogWatcher(registry);
+        final PlayerLogWatcher watcher = new PlayerLogWatcher(registry, new DebugState());
         final UUID uuid = UUID.randomUUID();
 
         watcher.addFilter(uuid, PATTERN, Level.INFO);
@@ -83,7 +83,7 @@ class PlayerLogWatcherTest {
 
     @Test
     void testRemoveFilterUnregistersTheSelectorAgain(@Mock final ReceiverSelectorRegistry registry) {
-        final PlayerLogWatcher watcher = new PlayerLogWatcher(registry);
+        final PlayerLogWatcher watcher = new PlayerLogWatcher(registry, new DebugState());
         final UUID uuid = UUID.randomUUID();
 
         watcher.addFilter(uuid, PATTERN, Level.INFO);
@@ -95,7 +95,7 @@ class PlayerLogWatcherTest {
     @SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
     @Test
     void testOverwritingAFilterUnregistersTheOldSelector(@Mock final ReceiverSelectorRegistry registry) {
-        final PlayerLogWatcher watcher = new PlayerLogWatcher(registry);
+        final PlayerLogWatcher watcher = new PlayerLogWatcher(registry, new DebugState());
         final UUID uuid = UUID.randomUUID();
 
         watcher.addFilter(uuid, PATTERN, Level.INFO);
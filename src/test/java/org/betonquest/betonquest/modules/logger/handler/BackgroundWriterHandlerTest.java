@@ -0,0 +1,53 @@
+package org.betonquest.betonquest.modules.logger.handler;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Test for a {@link BackgroundWriterHandler}.
+ */
+@ExtendWith(MockitoExtension.class)
+class BackgroundWriterHandlerTest {
+    /**
+     * Handler to write the records to.
+     */
+    @Mock
+    private Handler target;
+
+    @Test
+    @SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+    void testRecordsAreWrittenInOrderBeforeClosing() {
+        final LogRecord firstRecord = new LogRecord(Level.INFO, "record 1");
+        final LogRecord secondRecord = new LogRecord(Level.INFO, "record 2");
+        final BackgroundWriterHandler handler = new BackgroundWriterHandler(target);
+        handler.publish(firstRecord);
+        handler.publish(secondRecord);
+        handler.close();
+
+        final InOrder inOrder = inOrder(target);
+        inOrder.verify(target).publish(firstRecord);
+        inOrder.verify(target).publish(secondRecord);
+        inOrder.verify(target, atLeastOnce()).flush();
+        inOrder.verify(target).close();
+    }
+
+    @Test
+    @SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+    void testPublishAfterClosingIsIgnored() {
+        final BackgroundWriterHandler handler = new BackgroundWriterHandler(target);
+        handler.close();
+        handler.publish(new LogRecord(Level.INFO, "record"));
+
+        verify(target).close();
+        verifyNoMoreInteractions(target);
+    }
+}
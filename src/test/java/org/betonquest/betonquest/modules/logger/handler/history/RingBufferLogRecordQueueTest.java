@@ -0,0 +1,145 @@
+package org.betonquest.betonquest.modules.logger.handler.history;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link RingBufferLogRecordQueue}.
+ */
+@ExtendWith(MockitoExtension.class)
+class RingBufferLogRecordQueueTest {
+    /**
+     * Fixed instant representing now.
+     */
+    private final Instant now = Instant.now();
+
+    /**
+     * Fixed instant source returning {@link #now}.
+     */
+    private final InstantSource nowSource = InstantSource.fixed(now);
+
+    /**
+     * Duration that log entries are valid for.
+     */
+    private final Duration validFor = Duration.of(10, ChronoUnit.MINUTES);
+
+    private LogRecord record(final String message) {
+        final LogRecord record = new LogRecord(Level.INFO, message);
+        record.setInstant(now);
+        return record;
+    }
+
+    @Test
+    void testLogEntriesAreInOrder(@Mock final Handler handler) {
+        final RingBufferLogRecordQueue logQueue = new RingBufferLogRecordQueue(nowSource, validFor, 4, Long.MAX_VALUE);
+        final LogRecord firstRecord = record("record 1");
+        final LogRecord secondRecord = record("record 2");
+        logQueue.push(firstRecord);
+        logQueue.push(secondRecord);
+        logQueue.publishAll(handler);
+        final InOrder inOrder = inOrder(handler);
+        inOrder.verify(handler).publish(firstRecord);
+        inOrder.verify(handler).publish(secondRecord);
+        assertFalse(logQueue.canPublish(), "queue should be empty after publishing all records");
+    }
+
+    @Test
+    void testOldestRecordsAreOverwrittenWhenFull(@Mock final Handler handler) {
+        final RingBufferLogRecordQueue logQueue = new RingBufferLogRecordQueue(nowSource, validFor, 2, Long.MAX_VALUE);
+        final LogRecord firstRecord = record("record 1");
+        final LogRecord secondRecord = record("record 2");
+        final LogRecord thirdRecord = record("record 3");
+        logQueue.push(firstRecord);
+        logQueue.push(secondRecord);
+        logQueue.push(thirdRecord);
+        assertEquals(2, logQueue.size(), "the queue should not grow beyond its capacity");
+        logQueue.publishAll(handler);
+        verify(handler, never()).publish(firstRecord);
+        verify(handler).publish(secondRecord);
+        verify(handler).publish(thirdRecord);
+    }
+
+    @Test
+    void testOldestRecordsAreDroppedWhenTooLarge(@Mock final Handler handler) {
+        final RingBufferLogRecordQueue logQueue = new RingBufferLogRecordQueue(nowSource, validFor, 100, 300);
+        final LogRecord firstRecord = record("record 1");
+        final LogRecord secondRecord = record("record 2");
+        final LogRecord thirdRecord = record("record 3");
+        logQueue.push(firstRecord);
+        logQueue.push(secondRecord);
+        logQueue.push(thirdRecord);
+        assertTrue(logQueue.getBytes() <= 300, "the estimated size should not exceed the limit");
+        logQueue.publishAll(handler);
+        verify(handler, never()).publish(firstRecord);
+        verify(handler).publish(thirdRecord);
+    }
+
+    @Test
+    void testExpiredRecordsAreSkipped(@Mock final Handler handler) {
+        final RingBufferLogRecordQueue logQueue = new RingBufferLogRecordQueue(nowSource, validFor, 4, Long.MAX_VALUE);
+        final LogRecord oldRecord = record("old log record");
+        oldRecord.setInstant(now.minus(validFor).minus(1, ChronoUnit.MINUTES));
+        final LogRecord newRecord = record("new log record");
+        logQueue.push(oldRecord);
+        logQueue.push(newRecord);
+        logQueue.publishAll(handler);
+        verify(handler, never()).publish(oldRecord);
+        verify(handler).publish(newRecord);
+    }
+
+    @Test
+    void testCanPublishWithAtLeastOneRecord() {
+        final RingBufferLogRecordQueue logQueue = new RingBufferLogRecordQueue(nowSource, validFor, 4, Long.MAX_VALUE);
+        assertFalse(logQueue.canPublish(), "empty queue should not allow publishing");
+        logQueue.push(record("record"));
+        assertTrue(logQueue.canPublish(), "filled queue should allow publishing");
+        assertTrue(logQueue.canPublish(), "checking twice should not drop the record");
+    }
+
+    @Test
+    @SuppressWarnings("PMD.DoNotUseThreads")
+    void testConcurrentPushAndPublishKeepsSizeConsistent() throws InterruptedException {
+        final RingBufferLogRecordQueue logQueue = new RingBufferLogRecordQueue(nowSource, validFor, 16, 5000);
+        final Handler handler = mock(Handler.class);
+        @SuppressWarnings("PMD.CloseResource") final ExecutorService pushers = Executors.newFixedThreadPool(4);
+        final AtomicBoolean pushing = new AtomicBoolean(true);
+        final Thread publisher = new Thread(() -> {
+            while (pushing.get()) {
+                logQueue.publishAll(handler);
+            }
+        });
+        publisher.start();
+        for (int thread = 0; thread < 4; thread++) {
+            pushers.execute(() -> {
+                for (int index = 0; index < 10_000; index++) {
+                    logQueue.push(record("record " + index));
+                }
+            });
+        }
+        pushers.shutdown();
+        assertTrue(pushers.awaitTermination(1, TimeUnit.MINUTES), "pushing should finish");
+        pushing.set(false);
+        publisher.join();
+        logQueue.publishAll(handler);
+        assertEquals(0, logQueue.size(), "all records should be published or dropped");
+        assertEquals(0, logQueue.getBytes(), "no size should be left for published or dropped records");
+    }
+}
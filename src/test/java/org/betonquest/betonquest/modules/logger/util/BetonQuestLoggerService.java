@@ -4,6 +4,7 @@ import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.betonquest.betonquest.api.logger.BetonQuestLoggerFactory;
 import org.betonquest.betonquest.api.logger.SingletonLoggerFactory;
+import org.betonquest.betonquest.id.IDTable;
 import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -60,6 +61,7 @@ public class BetonQuestLoggerService implements BeforeEachCallback, ParameterRes
         this.loggerFactory = new SingletonLoggerFactory(logger);
         final BetonQuest betonQuest = mock(BetonQuest.class);
         lenient().when(betonQuest.getLoggerFactory()).thenReturn(loggerFactory);
+        lenient().when(betonQuest.getIdTable()).thenReturn(new IDTable());
         staticBetonQuest = mockStatic(BetonQuest.class);
         staticBetonQuest.when(BetonQuest::getInstance).thenReturn(betonQuest);
     }
@@ -0,0 +1,55 @@
+package org.betonquest.betonquest.quest.registry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test {@link PackageLoader}.
+ */
+class PackageLoaderTest {
+    private PackageLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        loader = new PackageLoader(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        loader.shutdown();
+    }
+
+    @Test
+    void testResultsAreInInputOrder() {
+        final List<Integer> results = loader.map(List.of(5, 1, 4, 2, 3), input -> input * 10);
+
+        assertEquals(List.of(50, 10, 40, 20, 30), results, "The results should be in the order of the inputs");
+    }
+
+    @Test
+    void testForEachRunsAllTasks() {
+        final Set<String> done = ConcurrentHashMap.newKeySet();
+        loader.forEach(List.of("a", "b", "c"), done::add);
+
+        assertEquals(Set.of("a", "b", "c"), done, "All tasks should be run");
+    }
+
+    @Test
+    void testExceptionIsRethrown() {
+        final List<String> inputs = List.of("valid", "invalid");
+        final IllegalStateException exception = assertThrows(IllegalStateException.class, () -> loader.map(inputs, input -> {
+            if ("invalid".equals(input)) {
+                throw new IllegalStateException(input);
+            }
+            return input;
+        }), "The exception of a task should be rethrown");
+        assertEquals("invalid", exception.getMessage(), "The original exception should be rethrown");
+    }
+}
@@ -0,0 +1,64 @@
+package org.betonquest.betonquest.quest.variable.eval;
+
+import org.betonquest.betonquest.api.Variable;
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
+import org.betonquest.betonquest.exceptions.InstructionParseException;
+import org.betonquest.betonquest.exceptions.QuestRuntimeException;
+import org.betonquest.betonquest.instruction.variable.VariableString;
+import org.betonquest.betonquest.quest.registry.processor.VariableProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link EvalVariable}.
+ */
+@ExtendWith(MockitoExtension.class)
+class EvalVariableTest {
+    @Mock
+    private VariableProcessor variableProcessor;
+
+    @Mock
+    private QuestPackage pack;
+
+    @Mock
+    private VariableString evaluation;
+
+    @Test
+    void testPlainEvaluationUsesDynamicVariable() throws InstructionParseException, QuestRuntimeException {
+        final Variable variable = mock(Variable.class);
+        when(evaluation.getValue(null)).thenReturn("point.quest.amount");
+        when(variableProcessor.createDynamic(pack, "%point.quest.amount%")).thenReturn(variable);
+        when(variable.getValue(null)).thenReturn("3");
+        final EvalVariable eval = new EvalVariable(variableProcessor, pack, evaluation);
+
+        assertEquals("3", eval.getValue(null), "The evaluated variable should be resolved");
+        verify(variableProcessor, never()).create(any(), any());
+    }
+
+    @Test
+    void testEvaluationWithVariablesUsesDynamicVariables() throws InstructionParseException, QuestRuntimeException {
+        final Variable variable = mock(Variable.class);
+        when(evaluation.getValue(null)).thenReturn("a%b");
+        when(variableProcessor.createDynamic(eq(pack), anyString())).thenReturn(variable);
+        when(variable.getValue(null)).thenReturn("3");
+        final EvalVariable eval = new EvalVariable(variableProcessor, pack, evaluation);
+
+        assertEquals("3b%", eval.getValue(null), "The variables of the evaluated string should be resolved");
+        verify(variableProcessor).createDynamic(pack, "%a%");
+        verify(variableProcessor, never()).create(any(), any());
+    }
+
+    @Test
+    void testInvalidEvaluationResolvesEmpty() throws InstructionParseException, QuestRuntimeException {
+        when(evaluation.getValue(null)).thenReturn("unknown");
+        when(variableProcessor.createDynamic(pack, "%unknown%")).thenThrow(new InstructionParseException("unknown"));
+        final EvalVariable eval = new EvalVariable(variableProcessor, pack, evaluation);
+
+        assertEquals("", eval.getValue(null), "An invalid variable should resolve to an empty string");
+    }
+}
@@ -0,0 +1,147 @@
+package org.betonquest.betonquest.utils;
+
+import org.betonquest.betonquest.exceptions.InstructionParseException;
+import org.betonquest.betonquest.modules.logger.util.BetonQuestLoggerService;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Tag;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link BlockSelector}.
+ */
+@ExtendWith({MockitoExtension.class, BetonQuestLoggerService.class})
+class BlockSelectorTest {
+    private static Block mockBlock(final Material material, final String blockData) {
+        final BlockData data = mock(BlockData.class);
+        lenient().when(data.getMaterial()).thenReturn(material);
+        lenient().when(data.getAsString()).thenReturn(blockData);
+        final Block block = mock(Block.class);
+        lenient().when(block.getBlockData()).thenReturn(data);
+        return block;
+    }
+
+    @Test
+    void testMaterialSelector() throws InstructionParseException {
+        final BlockSelector selector = new BlockSelector("stone");
+
+        assertEquals(List.of(Material.STONE), selector.getMaterials(), "Only the named material should be selected");
+        assertTrue(selector.match(Material.STONE), "The named material should match");
+        assertFalse(selector.match(Material.DIRT), "Other materials should not match");
+    }
+
+    @Test
+    void testRegexSelector() throws InstructionParseException {
+        final BlockSelector selector = new BlockSelector("minecraft:.*_log");
+
+        assertTrue(selector.match(Material.OAK_LOG), "A material matching the regex should match");
+        assertTrue(selector.match(Material.STRIPPED_SPRUCE_LOG), "All materials matching the regex should match");
+        assertFalse(selector.match(Material.OAK_PLANKS), "A material not matching the regex should not match");
+    }
+
+    @Test
+    void testTagSelector() throws InstructionParseException {
+        @SuppressWarnings("unchecked")
+        final Tag<Material> tag = mock(Tag.class);
+        when(tag.getValues()).thenReturn(Set.of(Material.OAK_LOG, Material.BIRCH_LOG));
+        try (MockedStatic<Bukkit> bukkit = mockStatic(Bukkit.class)) {
+            bukkit.when(() -> Bukkit.getTag("blocks", NamespacedKey.minecraft("logs"), Material.class)).thenReturn(tag);
+
+            final BlockSelector selector = new BlockSelector("minecraft:blocks:logs");
+
+            assertTrue(selector.match(Material.OAK_LOG), "A material of the tag should match");
+            assertTrue(selector.match(Material.BIRCH_LOG), "All materials of the tag should match");
+            assertFalse(selector.match(Material.SPRUCE_LOG), "A material not in the tag should not match");
+        }
+    }
+
+    @Test
+    void testInvalidMaterialRegexThrows() {
+        assertThrows(InstructionParseException.class, () -> new BlockSelector("minecraft:stone{2,1}"),
+                "An invalid material regex should not be accepted");
+    }
+
+    @Test
+    void testNoMaterialThrows() {
+        assertThrows(InstructionParseException.class, () -> new BlockSelector("not_a_material"),
+                "A selector without materials should not be accepted");
+    }
+
+    @Test
+    void testBlockOfOtherMaterialDoesNotMatch() throws InstructionParseException {
+        final BlockSelector selector = new BlockSelector("stone");
+        final Block block = mockBlock(Material.DIRT, "minecraft:dirt");
+
+        assertFalse(selector.match(block, false), "A block of another material should not match");
+    }
+
+    @Test
+    void testSelectorWithoutStates() throws InstructionParseException {
+        final BlockSelector selector = new BlockSelector("oak_stairs");
+        final Block block = mockBlock(Material.OAK_STAIRS, "minecraft:oak_stairs[facing=north,half=bottom]");
+
+        assertTrue(selector.match(block, false), "States of the block should be ignored without exact match");
+        assertFalse(selector.match(block, true), "A block with states should not match exactly");
+    }
+
+    @Test
+    void testSelectorWithoutStatesMatchesBlockWithoutStatesExactly() throws InstructionParseException {
+        final BlockSelector selector = new BlockSelector("stone");
+        final Block block = mockBlock(Material.STONE, "minecraft:stone");
+
+        assertTrue(selector.match(block, true), "A block without states should match exactly");
+    }
+
+    @Test
+    void testStateSelector() throws InstructionParseException {
+        final BlockSelector selector = new BlockSelector("oak_stairs[facing=north]");
+        final Block north = mockBlock(Material.OAK_STAIRS, "minecraft:oak_stairs[facing=north,half=bottom]");
+        final Block south = mockBlock(Material.OAK_STAIRS, "minecraft:oak_stairs[facing=south,half=bottom]");
+
+        assertTrue(selector.match(north, false), "A block with the state should match");
+        assertFalse(selector.match(south, false), "A block with another state value should not match");
+        assertFalse(selector.match(north, true), "A block with more states should not match exactly");
+    }
+
+    @Test
+    void testStateSelectorExactMatch() throws InstructionParseException {
+        final BlockSelector selector = new BlockSelector("oak_stairs[facing=north,half=bottom]");
+        final Block block = mockBlock(Material.OAK_STAIRS, "minecraft:oak_stairs[facing=north,half=bottom]");
+        final Block missingState = mockBlock(Material.OAK_STAIRS, "minecraft:oak_stairs[facing=north]");
+
+        assertTrue(selector.match(block, true), "A block with exactly the states should match exactly");
+        assertFalse(selector.match(missingState, false), "A block without one of the states should not match");
+    }
+
+    @Test
+    void testRegexStateSelector() throws InstructionParseException {
+        final BlockSelector selector = new BlockSelector("oak_stairs[facing=(north|south)]");
+        final Block south = mockBlock(Material.OAK_STAIRS, "minecraft:oak_stairs[facing=south,half=bottom]");
+        final Block east = mockBlock(Material.OAK_STAIRS, "minecraft:oak_stairs[facing=east,half=bottom]");
+
+        assertTrue(selector.match(south, false), "A state value matching the regex should match");
+        assertFalse(selector.match(east, false), "A state value not matching the regex should not match");
+    }
+
+    @Test
+    void testInvalidStateRegexComparesLiterally() throws InstructionParseException {
+        final BlockSelector selector = new BlockSelector("oak_stairs[facing=(north]");
+        final Block literal = mockBlock(Material.OAK_STAIRS, "minecraft:oak_stairs[facing=(north]");
+        final Block north = mockBlock(Material.OAK_STAIRS, "minecraft:oak_stairs[facing=north]");
+
+        assertTrue(selector.match(literal, true), "An invalid regex should match the same text");
+        assertFalse(selector.match(north, true), "An invalid regex should only match the same text");
+    }
+}
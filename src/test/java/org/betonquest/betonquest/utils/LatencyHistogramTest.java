@@ -0,0 +1,48 @@
+package org.betonquest.betonquest.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test {@link LatencyHistogram}.
+ */
+class LatencyHistogramTest {
+    @Test
+    void testEmptyHistogram() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.getCount(), "No duration should be recorded");
+        assertEquals(0, histogram.getAverageMillis(), "The average of no durations should be 0");
+        assertEquals(0, histogram.getPercentileMillis(0.5), "The median of no durations should be 0");
+    }
+
+    @Test
+    void testDurationsAreCountedInBuckets() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(3));
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(3));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(5));
+
+        final long[] buckets = histogram.getBuckets();
+        assertEquals(2, buckets[2], "Durations of 3 microseconds should be below 4 microseconds");
+        assertEquals(1, buckets[13], "A duration of 5 milliseconds should be below 8192 microseconds");
+        assertEquals(3, histogram.getCount(), "Three durations should be recorded");
+        assertEquals(5, histogram.getMaxMillis(), 0.001, "The longest duration should be 5 milliseconds");
+    }
+
+    @Test
+    void testPercentileIsUpperBoundOfBucket() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(50));
+
+        assertEquals(0.128, histogram.getPercentileMillis(0.5), 0.0001, "The median should be in the 128 microsecond bucket");
+        assertEquals(0.128, histogram.getPercentileMillis(0.99), 0.0001, "The 99th percentile should be in the 128 microsecond bucket");
+        assertEquals(65.536, histogram.getPercentileMillis(1), 0.0001, "The maximum should be in the 65536 microsecond bucket");
+    }
+}